@@ -0,0 +1,76 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation to cache the results of a repository query method on the client side. Results are cached per generated
+ * AQL query and serialized bind parameters, and are invalidated when the
+ * {@link com.arangodb.springframework.core.ArangoOperations} instance writes to any collection the query reads.
+ * <p>
+ * The collections a query reads are the collection of the repository's domain type, the collections bound as
+ * collection bind parameters ({@code @@name}), the collections of a leading {@code WITH} clause and the collections
+ * declared in {@link #collections()}. Writes bypassing the template, e.g. by other clients, are only reflected after
+ * the {@link #ttl() time to live} has expired.
+ * <p>
+ * Writing queries, i.e. derived {@code deleteBy...} and {@code update...By} methods and queries containing an
+ * {@code INSERT}, {@code UPDATE}, {@code REPLACE}, {@code REMOVE} or {@code UPSERT} operation, invalidate the
+ * collections they write as described at
+ * {@link com.arangodb.springframework.core.ArangoOperations#getQueryResultCache()} and are never cached themselves.
+ * <p>
+ * Cached results are shared between callers: every caller gets the same collection and entity instances. They are not
+ * copied, so modifying a returned entity, e.g. to save it afterwards, changes the result all following callers read
+ * until it is invalidated. Callers which modify results must copy them first or use a method without
+ * {@code @CachedQuery}. Methods returning {@link com.arangodb.ArangoCursor} or {@link java.util.stream.Stream} are not
+ * cached. Queries within a stream transaction of
+ * {@link com.arangodb.springframework.transaction.ArangoTransactionManager} neither read nor populate the cache, as
+ * their results contain uncommitted writes.
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface CachedQuery {
+
+	/**
+	 * Time to live of a cached result, in {@link #timeUnit()}.
+	 */
+	long ttl() default 60;
+
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+	/**
+	 * Maximum number of results cached for the method. The least recently used result is evicted first.
+	 */
+	int maxEntries() default 1000;
+
+	/**
+	 * Additional collections the query reads, e.g. collections accessed in traversals or subqueries.
+	 */
+	String[] collections() default {};
+
+}
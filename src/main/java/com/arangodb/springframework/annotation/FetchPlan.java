@@ -0,0 +1,58 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to define on a repository query method which associations ({@link Ref}, {@link Relations},
+ * {@link From}, {@link To}) of the read entities are resolved, overriding their {@code lazy} attribute. Associations
+ * are given by property name, e.g. {@code "actors"}, or qualified with the simple name of the declaring entity type,
+ * e.g. {@code "Movie.actors"}.
+ *
+ * @see com.arangodb.springframework.core.convert.FetchPlan
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface FetchPlan {
+
+	/**
+	 * Associations to resolve eagerly
+	 */
+	String[] include() default {};
+
+	/**
+	 * Associations to resolve on first access
+	 */
+	String[] lazy() default {};
+
+	/**
+	 * Associations not to resolve at all, which remain {@literal null}. {@code @Ref} properties are set to lazy proxies
+	 * to keep their ids, {@code @From} and {@code @To} properties can not be excluded.
+	 */
+	String[] exclude() default {};
+
+}
@@ -0,0 +1,55 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to define given fields to be indexed using ArangoDB's multi-dimensional ({@code zkd}) index. The
+ * index serves range conditions on all of its fields at once, e.g. the filter of
+ * {@code findByPriceBetweenAndTimestampBetween} for the fields {@code price} and {@code timestamp}. Values of the
+ * fields have to be numbers.
+ */
+@Repeatable(MultiDimensionalIndexes.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface MultiDimensionalIndex {
+
+	/**
+	 * A list of attribute paths
+	 */
+	String[] fields();
+
+	/**
+	 * If {@literal true}, then create a unique index
+	 */
+	boolean unique() default false;
+
+	/**
+	 * If {@literal true}, then create the index in background, without holding an exclusive lock on the collection
+	 */
+	boolean inBackground() default false;
+
+}
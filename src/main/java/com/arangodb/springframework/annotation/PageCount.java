@@ -0,0 +1,56 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.annotation;
+
+/**
+ * Determines how the total number of results of a query method returning a
+ * {@link org.springframework.data.domain.Page} is computed.
+ *
+ * @see QueryOptions#pageCount()
+ * @see com.arangodb.springframework.repository.query.PageCountStrategy
+ */
+public enum PageCount {
+
+	/**
+	 * Every execution counts all results with {@code fullCount}.
+	 */
+	EXACT,
+
+	/**
+	 * The total is counted with {@code fullCount} and reused by executions with the same query and bind parameters
+	 * for {@link QueryOptions#pageCountTtl()}.
+	 */
+	CACHED,
+
+	/**
+	 * The total is estimated by the number of documents in the collection of the domain type, without
+	 * {@code fullCount}.
+	 */
+	ESTIMATED,
+
+	/**
+	 * Like {@link #CACHED}, but an expired total is still returned while it is counted again in the background, on
+	 * the {@link com.arangodb.springframework.core.ArangoOperations#getAsyncExecutor() async executor} of the
+	 * template.
+	 */
+	ASYNC
+
+}
@@ -45,4 +45,25 @@ public @interface PersistentIndexed {
 	 */
 	boolean sparse() default false;
 
+	/**
+	 * Additional attribute paths to store in the index. They cannot be used for lookups or sorting, but queries
+	 * only accessing indexed and stored attributes can be answered from the index without loading the documents.
+	 */
+	String[] storedValues() default {};
+
+	/**
+	 * If {@literal true}, then create the index in background, without holding an exclusive lock on the collection
+	 */
+	boolean inBackground() default false;
+
+	/**
+	 * If {@literal false}, then the index maintains no selectivity estimates, which speeds up writes
+	 */
+	boolean estimates() default true;
+
+	/**
+	 * If {@literal true}, then an in-memory cache for index lookups is enabled
+	 */
+	boolean cacheEnabled() default false;
+
 }
@@ -140,4 +140,53 @@ public @interface QueryOptions {
 	 */
 	boolean allowDirtyRead() default false;
 
+	/**
+	 * Maximum number of result batches requested in the background while the current batch is consumed. A value of 0
+	 * disables prefetching. Cursors returned with prefetching enabled must be closed if they are not consumed
+	 * completely.
+	 *
+	 * @see com.arangodb.springframework.core.template.CursorOptions#prefetch(int)
+	 */
+	int prefetchBatches() default 0;
+
+	/**
+	 * Set to {@literal true} to map the documents of each result batch to entities in parallel on the decode executor
+	 * of the template, which must be set. The results are still returned in order.
+	 *
+	 * @see com.arangodb.springframework.core.template.CursorOptions#decodeInParallel()
+	 */
+	boolean parallelDecoding() default false;
+
+	/**
+	 * Set to {@literal true} to adjust the batch size of each execution toward {@link #targetBatchBytes()} and
+	 * {@link #targetBatchLatency()}, based on the first batches of the previous executions. The initial batch size is
+	 * {@link #batchSize()} if set. A batch size passed with the {@link com.arangodb.model.AqlQueryOptions} parameter of
+	 * the method takes precedence.
+	 *
+	 * @see com.arangodb.springframework.repository.query.AdaptiveBatchSize
+	 */
+	boolean adaptiveBatchSize() default false;
+
+	/**
+	 * Target size of a result batch in bytes, if {@link #adaptiveBatchSize()} is enabled.
+	 */
+	long targetBatchBytes() default 1024 * 1024;
+
+	/**
+	 * Target round-trip latency of a result batch in milliseconds, if {@link #adaptiveBatchSize()} is enabled.
+	 */
+	long targetBatchLatency() default 100;
+
+	/**
+	 * How the total number of results of a method returning a {@link org.springframework.data.domain.Page} is
+	 * computed. Methods returning a {@link org.springframework.data.domain.Slice} never count their results.
+	 */
+	PageCount pageCount() default PageCount.EXACT;
+
+	/**
+	 * Time in milliseconds a total is reused, if {@link #pageCount()} is {@link PageCount#CACHED} or
+	 * {@link PageCount#ASYNC}.
+	 */
+	long pageCountTtl() default 60000;
+
 }
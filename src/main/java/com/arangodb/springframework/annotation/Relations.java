@@ -59,6 +59,14 @@ public @interface Relations {
 	 */
 	Direction direction() default Direction.ANY;
 
+	/**
+	 * An AQL condition on the edge leading to a related vertex, referring to the edge as {@code edge}, e.g.
+	 * {@code edge.type == 'friend'}. With a {@link #maxDepth()} above 1, every edge of the path to a related vertex has
+	 * to match. Conditions on attributes of a {@link VertexCentricIndex} are answered by the index instead of reading
+	 * all edges of the start vertex.
+	 */
+	String edgeFilter() default "";
+
 	/**
 	 * Whether the entity should be loaded lazily
 	 */
@@ -0,0 +1,56 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to serve a derived query method from the ArangoSearch view declared with {@link SearchView} on the domain
+ * entity, instead of filtering the collection. The criteria of the method name are compiled to a {@code SEARCH}
+ * operation, e.g. {@code findByDescriptionContaining} to {@code PHRASE(e.description, @0, "text_en")}. The keywords
+ * {@code Regex}, {@code Near}, {@code Within}, {@code NotContaining} and {@code IgnoreCase} are not supported. Only
+ * documents of the collection of the entity are returned, even if the view links further collections.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+public @interface Search {
+
+	/**
+	 * The name of the analyzer applied to all criteria. If empty, then each criterion uses the first analyzer of its
+	 * {@link SearchField}, or {@code identity} if the field is not configured.
+	 */
+	String analyzer() default "";
+
+	/**
+	 * If {@literal true}, then the results are sorted by their {@code BM25} score, unless the method defines a sort
+	 */
+	boolean scored() default true;
+
+	/**
+	 * If {@literal true}, then the view is synchronized with the linked collections before the search, so recent writes
+	 * are found
+	 */
+	boolean waitForSync() default false;
+
+}
@@ -0,0 +1,56 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to link the collection of an entity to an ArangoSearch view. The view is created if it does not exist,
+ * otherwise the link is added to it, so the collections of several entities can be linked to the same view. The fields
+ * indexed by the view are marked with {@link SearchField}.
+ *
+ * @see Search
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface SearchView {
+
+	/**
+	 * The name of the view
+	 */
+	String value();
+
+	/**
+	 * The names of the analyzers applied to the fields of the collection not configured by {@link SearchField}. The
+	 * analyzers must exist in the database, e.g. the built-in {@code identity} or {@code text_en}.
+	 */
+	String[] analyzers() default {};
+
+	/**
+	 * If {@literal true}, then all fields of the documents are indexed, not only the ones marked with
+	 * {@link SearchField}
+	 */
+	boolean includeAllFields() default false;
+
+}
@@ -0,0 +1,93 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.arangodb.springframework.annotation.Relations.Direction;
+import com.arangodb.springframework.core.traversal.GraphTraversal.Order;
+import com.arangodb.springframework.core.traversal.GraphTraversal.Returns;
+import com.arangodb.springframework.core.traversal.GraphTraversal.Type;
+import com.arangodb.springframework.core.traversal.GraphTraversal.Uniqueness;
+
+/**
+ * Annotation to define a graph traversal or shortest path search on a repository method. The vertices are of the
+ * repository's domain type.
+ * <p>
+ * The method must have a parameter named {@code start} with the {@code _id} of the start vertex, and for shortest
+ * paths a parameter named {@code target} with the {@code _id} of the target vertex. Further named parameters are
+ * available as bind parameters in {@link #prune()} and {@link #filter()}. A {@link org.springframework.data.domain.Pageable}
+ * parameter limits the result.
+ *
+ * <pre>
+ * &#64;Traversal(edges = Knows.class, maxDepth = 3, prune = "v.age &gt; &#64;maxAge", filter = "v.name LIKE &#64;name")
+ * List&lt;Person&gt; findFriends(&#64;Param("start") String id, &#64;Param("maxAge") int maxAge, &#64;Param("name") String name);
+ * </pre>
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface Traversal {
+
+	Type type() default Type.TRAVERSAL;
+
+	/**
+	 * Edge entity types of the traversed edge collections
+	 */
+	Class<?>[] edges();
+
+	Direction direction() default Direction.OUTBOUND;
+
+	int minDepth() default 1;
+
+	int maxDepth() default 1;
+
+	/**
+	 * AQL expression on the variables {@code v}, {@code e} and {@code p} to stop following a path
+	 */
+	String prune() default "";
+
+	/**
+	 * AQL expression on the variables {@code v}, {@code e} and {@code p} the returned elements must match
+	 */
+	String filter() default "";
+
+	/**
+	 * Whether the method returns the vertices or the edges. Paths are available via
+	 * {@link com.arangodb.springframework.core.ArangoOperations#traversePaths}.
+	 */
+	Returns returns() default Returns.VERTICES;
+
+	Order order() default Order.DFS;
+
+	Uniqueness uniqueVertices() default Uniqueness.NONE;
+
+	/**
+	 * Uniqueness of edges, {@link Uniqueness#GLOBAL} is not supported.
+	 */
+	Uniqueness uniqueEdges() default Uniqueness.PATH;
+
+}
@@ -0,0 +1,62 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.arangodb.springframework.annotation.Relations.Direction;
+
+/**
+ * Annotation to define a vertex-centric index on an {@link Edge} entity, a persistent index on {@code _from} or
+ * {@code _to} followed by the given edge attributes. Traversals filtering on these attributes (see
+ * {@link Relations#edgeFilter()}) then only read the matching edges of a vertex instead of all of them.
+ */
+@Repeatable(VertexCentricIndexes.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface VertexCentricIndex {
+
+	/**
+	 * A list of edge attribute paths
+	 */
+	String[] fields();
+
+	/**
+	 * The traversal direction to index. {@link Direction#OUTBOUND} indexes {@code _from},
+	 * {@link Direction#INBOUND} indexes {@code _to} and {@link Direction#ANY} creates an index for each of them.
+	 */
+	Direction direction() default Direction.ANY;
+
+	/**
+	 * If {@literal true}, then create a sparse index
+	 */
+	boolean sparse() default false;
+
+	/**
+	 * If {@literal true}, then create the index in background, without holding an exclusive lock on the collection
+	 */
+	boolean inBackground() default false;
+
+}
@@ -37,7 +37,7 @@ import org.springframework.util.Assert;
 import com.arangodb.springframework.annotation.EnableArangoAuditing;
 import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
 import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
-import com.arangodb.springframework.core.mapping.event.AuditingEventListener;
+import com.arangodb.springframework.core.mapping.event.AuditingEntityCallback;
 
 /**
  * @author Mark Vollmary
@@ -58,13 +58,13 @@ public class ArangoAuditingRegistrar extends AuditingBeanDefinitionRegistrarSupp
 		Assert.notNull(auditingHandlerDefinition, "BeanDefinition must not be null!");
 		Assert.notNull(registry, "BeanDefinitionRegistry must not be null!");
 
-		final BeanDefinitionBuilder listenerBeanDefinitionBuilder = BeanDefinitionBuilder
-				.rootBeanDefinition(AuditingEventListener.class);
-		listenerBeanDefinitionBuilder.addConstructorArgValue(
+		final BeanDefinitionBuilder callbackBeanDefinitionBuilder = BeanDefinitionBuilder
+				.rootBeanDefinition(AuditingEntityCallback.class);
+		callbackBeanDefinitionBuilder.addConstructorArgValue(
 			ParsingUtils.getObjectFactoryBeanDefinition(getAuditingHandlerBeanName(), registry));
 
-		registerInfrastructureBeanWithId(listenerBeanDefinitionBuilder.getBeanDefinition(),
-			AuditingEventListener.class.getName(), registry);
+		registerInfrastructureBeanWithId(callbackBeanDefinitionBuilder.getBeanDefinition(),
+			AuditingEntityCallback.class.getName(), registry);
 	}
 
 	@Override
@@ -8,6 +8,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.convert.converter.Converter;
@@ -40,6 +41,9 @@ import com.arangodb.springframework.core.convert.resolver.RelationsResolver;
 import com.arangodb.springframework.core.convert.resolver.ResolverFactory;
 import com.arangodb.springframework.core.mapping.ArangoMappingContext;
 import com.arangodb.springframework.core.template.ArangoTemplate;
+import com.arangodb.springframework.core.template.CursorOptions;
+import com.arangodb.springframework.core.template.ReadCoalescer;
+import com.arangodb.springframework.core.template.WriteCoalescer;
 
 /**
  * Defines methods to customize the Java-based configuration for Spring Data
@@ -56,7 +60,14 @@ public interface ArangoConfiguration {
 
 	@Bean
 	default ArangoOperations arangoTemplate() throws Exception {
-		return new ArangoTemplate(arango().build(), database(), arangoConverter(), resolverFactory());
+		final ArangoTemplate template = new ArangoTemplate(arango().build(), database(), arangoConverter(),
+				resolverFactory());
+		template.setReadCoalescer(readCoalescer());
+		template.setWriteCoalescer(writeCoalescer());
+		template.setDefaultCursorOptions(cursorOptions());
+		template.setDecodeExecutor(decodeExecutor());
+		template.setAsyncExecutor(asyncExecutor());
+		return template;
 	}
 
 	@Bean
@@ -94,6 +105,56 @@ public interface ArangoConfiguration {
 		return PropertyNameFieldNamingStrategy.INSTANCE;
 	}
 
+	/**
+	 * Coalescer merging concurrent single-document reads into multi-document requests, e.g.
+	 * {@code new ReadCoalescer(2, TimeUnit.MILLISECONDS, 100)}.
+	 *
+	 * @return the coalescer, {@literal null} to read documents one by one
+	 */
+	default ReadCoalescer readCoalescer() {
+		return null;
+	}
+
+	/**
+	 * Coalescer grouping concurrent single-document writes into multi-document requests, e.g.
+	 * {@code new WriteCoalescer(2, TimeUnit.MILLISECONDS, 100)}.
+	 *
+	 * @return the coalescer, {@literal null} to write documents one by one
+	 */
+	default WriteCoalescer writeCoalescer() {
+		return null;
+	}
+
+	/**
+	 * Client side options of the cursors of all queries not given explicit options, e.g.
+	 * {@code CursorOptions.defaults().decodeInParallel()}, which requires a {@link #decodeExecutor()}.
+	 *
+	 * @return the options, {@literal null} for {@link CursorOptions#defaults()}
+	 */
+	default CursorOptions cursorOptions() {
+		return null;
+	}
+
+	/**
+	 * Executor decoding the results of cursors in parallel if their options do not give one, e.g. for
+	 * {@link com.arangodb.springframework.annotation.QueryOptions#parallelDecoding()}.
+	 *
+	 * @return the executor, {@literal null} if there is none
+	 */
+	default Executor decodeExecutor() {
+		return null;
+	}
+
+	/**
+	 * Executor of the requests the template performs in the background or in parallel, e.g. the counts of
+	 * {@link com.arangodb.springframework.annotation.PageCount#ASYNC} page queries.
+	 *
+	 * @return the executor, {@literal null} if there is none
+	 */
+	default Executor asyncExecutor() {
+		return null;
+	}
+
 	default String typeKey() {
 		return DefaultArangoTypeMapper.DEFAULT_TYPE_KEY;
 	}
@@ -22,17 +22,31 @@ package com.arangodb.springframework.core;
 
 import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoDB;
+import com.arangodb.entity.AqlExecutionExplainEntity;
 import com.arangodb.entity.ArangoDBVersion;
 import com.arangodb.entity.DocumentEntity;
 import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.entity.StreamTransactionEntity;
 import com.arangodb.entity.UserEntity;
 import com.arangodb.model.*;
+import com.arangodb.springframework.core.aggregation.Aggregation;
+import com.arangodb.springframework.core.query.Criteria;
+import com.arangodb.springframework.core.query.CriteriaQuery;
 import com.arangodb.springframework.core.convert.ArangoConverter;
+import com.arangodb.springframework.core.convert.FetchPlan;
 import com.arangodb.springframework.core.convert.resolver.ResolverFactory;
+import com.arangodb.springframework.core.template.CursorOptions;
+import com.arangodb.springframework.core.template.MultiGetResult;
+import com.arangodb.springframework.core.template.QueryResultCache;
+import com.arangodb.springframework.core.traversal.GraphTraversal;
+import com.arangodb.springframework.core.traversal.TraversalPath;
 import org.springframework.dao.DataAccessException;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Interface that specifies a basic set of ArangoDB operations.
@@ -57,6 +71,14 @@ public interface ArangoOperations {
 	 */
 	ArangoDBVersion getVersion() throws DataAccessException;
 
+	/**
+	 * Returns the name of the database used by the current thread, which may depend on it, e.g. if the database is
+	 * given by a SpEL expression.
+	 *
+	 * @return the database name
+	 */
+	String getDatabaseName();
+
 	/**
 	 * Performs a database query using the given {@code query} and {@code bindVars}, then returns a new
 	 * {@code ArangoCursor} instance for the result list.
@@ -75,6 +97,55 @@ public interface ArangoOperations {
 	<T> ArangoCursor<T> query(String query, Map<String, Object> bindVars, AqlQueryOptions options, Class<T> entityClass)
 			throws DataAccessException;
 
+	/**
+	 * Performs a database query using the given {@code query} and {@code bindVars}, then returns a new
+	 * {@code ArangoCursor} instance for the result list. The associations of the results are loaded according to the
+	 * given fetch plan.
+	 *
+	 * @param query
+	 *            An AQL query string
+	 * @param bindVars
+	 *            key/value pairs defining the variables to bind the query to
+	 * @param options
+	 *            Additional options that will be passed to the query API, can be null
+	 * @param entityClass
+	 *            The entity type of the result
+	 * @param fetchPlan
+	 *            Determines which associations to resolve
+	 * @return cursor of the results
+	 * @throws DataAccessException
+	 */
+	<T> ArangoCursor<T> query(
+		String query,
+		Map<String, Object> bindVars,
+		AqlQueryOptions options,
+		Class<T> entityClass,
+		FetchPlan fetchPlan) throws DataAccessException;
+
+	/**
+	 * Performs a database query using the given {@code query} and {@code bindVars}, then returns a new
+	 * {@code ArangoCursor} instance for the result list, which behaves according to the given cursor options.
+	 *
+	 * @param query
+	 *            An AQL query string
+	 * @param bindVars
+	 *            key/value pairs defining the variables to bind the query to
+	 * @param options
+	 *            Additional options that will be passed to the query API, can be null
+	 * @param entityClass
+	 *            The entity type of the result
+	 * @param cursorOptions
+	 *            Client side options of the cursor
+	 * @return cursor of the results
+	 * @throws DataAccessException
+	 */
+	<T> ArangoCursor<T> query(
+		String query,
+		Map<String, Object> bindVars,
+		AqlQueryOptions options,
+		Class<T> entityClass,
+		CursorOptions cursorOptions) throws DataAccessException;
+
 	/**
 	 * Performs a database query using the given {@code query} and {@code bindVars}, then returns a new
 	 * {@code ArangoCursor} instance for the result list.
@@ -119,6 +190,139 @@ public interface ArangoOperations {
 	 */
 	<T> ArangoCursor<T> query(String query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Explains the given query without executing it, returning the execution plan chosen by the optimizer.
+	 *
+	 * @param query
+	 *            An AQL query string
+	 * @param bindVars
+	 *            key/value pairs defining the variables to bind the query to
+	 * @param options
+	 *            Additional options, can be null
+	 * @return the execution plan of the query
+	 * @throws DataAccessException
+	 */
+	AqlExecutionExplainEntity explainQuery(String query, Map<String, Object> bindVars, AqlQueryExplainOptions options)
+			throws DataAccessException;
+
+	/**
+	 * Begins a stream transaction in the database currently in use. Operations join it with the returned id as
+	 * {@code streamTransactionId} option.
+	 *
+	 * @param options
+	 *            Additional options, e.g. the collections the transaction reads and writes
+	 * @return the begun transaction
+	 * @throws DataAccessException
+	 */
+	StreamTransactionEntity beginStreamTransaction(StreamTransactionOptions options) throws DataAccessException;
+
+	/**
+	 * Commits the stream transaction with the given id.
+	 *
+	 * @param id
+	 *            The id of the transaction
+	 * @return the committed transaction
+	 * @throws DataAccessException
+	 */
+	StreamTransactionEntity commitStreamTransaction(String id) throws DataAccessException;
+
+	/**
+	 * Aborts the stream transaction with the given id.
+	 *
+	 * @param id
+	 *            The id of the transaction
+	 * @return the aborted transaction
+	 * @throws DataAccessException
+	 */
+	StreamTransactionEntity abortStreamTransaction(String id) throws DataAccessException;
+
+	/**
+	 * Performs a server-side aggregation over the collection of the given entity type, then returns a new
+	 * {@code ArangoCursor} instance with one result document per group.
+	 *
+	 * @param aggregation
+	 *            The aggregation to perform
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @param resultType
+	 *            The type of the result documents, e.g. {@link Map} or a class with properties named like the
+	 *            aliases of the aggregation
+	 * @return cursor of the results
+	 * @throws DataAccessException
+	 */
+	<T> ArangoCursor<T> aggregate(Aggregation aggregation, Class<?> entityClass, Class<T> resultType)
+			throws DataAccessException;
+
+	/**
+	 * Performs a query built from {@link Criteria} over the collection of the given entity type, then returns a new
+	 * {@code ArangoCursor} instance with the matching documents.
+	 *
+	 * @param query
+	 *            The query to perform
+	 * @param entityClass
+	 *            The entity class which represents the collection and the type of the result
+	 * @return cursor of the results
+	 * @throws DataAccessException
+	 */
+	<T> ArangoCursor<T> find(CriteriaQuery query, Class<T> entityClass) throws DataAccessException;
+
+	/**
+	 * Counts the documents of the collection of the given entity type matching the criteria of the given query.
+	 *
+	 * @param query
+	 *            The query whose criteria to apply
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @return number of matching documents
+	 * @throws DataAccessException
+	 */
+	long count(CriteriaQuery query, Class<?> entityClass) throws DataAccessException;
+
+	/**
+	 * Performs a graph traversal or shortest path search, then returns a new {@code ArangoCursor} instance with the
+	 * visited vertices.
+	 *
+	 * @param traversal
+	 *            The traversal to perform
+	 * @param vertexType
+	 *            The entity class of the vertices
+	 * @return cursor of the vertices
+	 * @throws DataAccessException
+	 */
+	<V> ArangoCursor<V> traverse(GraphTraversal traversal, Class<V> vertexType) throws DataAccessException;
+
+	/**
+	 * Performs a graph traversal or shortest path search, then returns a new {@code ArangoCursor} instance with the
+	 * visited edges.
+	 *
+	 * @param traversal
+	 *            The traversal to perform
+	 * @param vertexType
+	 *            The entity class of the vertices
+	 * @param edgeType
+	 *            The entity class of the edges
+	 * @return cursor of the edges
+	 * @throws DataAccessException
+	 */
+	<E> ArangoCursor<E> traverseEdges(GraphTraversal traversal, Class<?> vertexType, Class<E> edgeType)
+			throws DataAccessException;
+
+	/**
+	 * Performs a graph traversal, shortest path or k shortest paths search, then returns a stream of the found paths.
+	 * The paths are mapped while the stream is consumed.
+	 *
+	 * @param traversal
+	 *            The traversal to perform
+	 * @param vertexType
+	 *            The entity class of the vertices
+	 * @param edgeType
+	 *            The entity class of the edges
+	 * @return stream of the paths, which has to be closed if it is not consumed completely
+	 * @throws DataAccessException
+	 */
+	<V, E> Stream<TraversalPath<V, E>> traversePaths(GraphTraversal traversal, Class<V> vertexType, Class<E> edgeType)
+			throws DataAccessException;
+
 	/**
 	 * Deletes multiple documents from a collection.
 	 *
@@ -337,6 +541,21 @@ public interface ArangoOperations {
 	 */
 	<T> Optional<T> find(Object id, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Retrieves the document with the given {@code id} from a collection. The associations of the document are loaded
+	 * according to the given fetch plan.
+	 *
+	 * @param id
+	 *            The id or key of the document
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @param fetchPlan
+	 *            Determines which associations to resolve
+	 * @return the document identified by the id
+	 * @throws DataAccessException
+	 */
+	<T> Optional<T> find(Object id, Class<T> entityClass, FetchPlan fetchPlan) throws DataAccessException;
+
 	/**
 	 * Retrieves all documents from a collection.
 	 *
@@ -347,6 +566,56 @@ public interface ArangoOperations {
 	 */
 	<T> Iterable<T> findAll(Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Retrieves all documents from a collection as parallel stream. The collection is partitioned into disjoint ranges
+	 * of the document keys, each read by its own streaming cursor as soon as the stream processes it. The stream should
+	 * be closed if it is not consumed completely, to release the cursors of the remaining ranges.
+	 *
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @param partitions
+	 *            The number of key ranges
+	 * @return the documents
+	 * @throws DataAccessException
+	 */
+	<T> Stream<T> parallelScan(Class<T> entityClass, int partitions) throws DataAccessException;
+
+	/**
+	 * Passes all documents from a collection to the given consumer. The collection is partitioned into disjoint ranges
+	 * of the document keys, each read by its own streaming cursor on the {@link #getAsyncExecutor() async executor}.
+	 * Returns when all documents are consumed.
+	 *
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @param partitions
+	 *            The number of key ranges
+	 * @param consumer
+	 *            The consumer of the documents, invoked concurrently for different ranges
+	 * @throws IllegalStateException
+	 *             if no async executor is configured
+	 * @throws DataAccessException
+	 */
+	<T> void parallelScan(Class<T> entityClass, int partitions, Consumer<? super T> consumer)
+			throws DataAccessException;
+
+	/**
+	 * Passes all documents from a collection to the given consumer. The collection is partitioned into disjoint ranges
+	 * of the document keys, each read by its own streaming cursor on the given executor. Returns when all documents are
+	 * consumed.
+	 *
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @param partitions
+	 *            The number of key ranges, which is the maximum number of concurrently read ranges
+	 * @param consumer
+	 *            The consumer of the documents, invoked concurrently for different ranges
+	 * @param executor
+	 *            The executor reading the ranges
+	 * @throws DataAccessException
+	 */
+	<T> void parallelScan(Class<T> entityClass, int partitions, Consumer<? super T> consumer, Executor executor)
+			throws DataAccessException;
+
 	/**
 	 * Retrieves multiple documents with the given {@code ids} from a collection.
 	 *
@@ -359,6 +628,38 @@ public interface ArangoOperations {
 	 */
 	<T> Iterable<T> find(final Iterable<? extends Object> ids, final Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Retrieves multiple documents with the given {@code ids} from possibly different collections. The ids are grouped
+	 * by their collection and the documents of each collection are requested in parallel on the
+	 * {@link #getAsyncExecutor() async executor}, or one after another if none is configured.
+	 *
+	 * @param ids
+	 *            The ids of the documents, or keys of documents in the collection of {@code entityClass}
+	 * @param entityClass
+	 *            The common type of the entities, each document is mapped to the entity type of its collection or
+	 *            given by its type hint
+	 * @return the found entities in the order of the ids and the ids of the missing documents
+	 * @throws DataAccessException
+	 */
+	<T> MultiGetResult<T> findByIds(Iterable<String> ids, Class<T> entityClass) throws DataAccessException;
+
+	/**
+	 * Retrieves multiple documents with the given {@code ids} from possibly different collections. The ids are grouped
+	 * by their collection and the documents of each collection are requested in parallel.
+	 *
+	 * @param ids
+	 *            The ids of the documents, or keys of documents in the collection of {@code entityClass}
+	 * @param entityClass
+	 *            The common type of the entities, each document is mapped to the entity type of its collection or
+	 *            given by its type hint
+	 * @param executor
+	 *            The executor performing the requests
+	 * @return the found entities in the order of the ids and the ids of the missing documents
+	 * @throws DataAccessException
+	 */
+	<T> MultiGetResult<T> findByIds(Iterable<String> ids, Class<T> entityClass, Executor executor)
+			throws DataAccessException;
+
 	/**
 	 * Creates new documents from the given documents, unless there is already a document with the _key given. If no
 	 * _key is given, a new unique _key is generated automatically.
@@ -490,6 +791,19 @@ public interface ArangoOperations {
 	 */
 	<T> void repsert(T value) throws DataAccessException;
 
+	/**
+	 * Saves the given document like {@link #repsert(Object)} and returns the saved instance. Entity callbacks may
+	 * replace the instance to save and the saved instance, e.g. for immutable entities. The key, id and revision of
+	 * the saved document are set on both the saved instance and the given value.
+	 *
+	 * @param value
+	 *            A representation of a single document
+	 * @return the saved instance, as returned by the entity callbacks
+	 * @throws DataAccessException
+	 * @since ArangoDB 3.4
+	 */
+	<T> T save(T value) throws DataAccessException;
+
 	/**
 	 * Creates new documents from the given documents, unless there already exists. In that case it replaces the
 	 * documents.
@@ -503,6 +817,20 @@ public interface ArangoOperations {
 	 */
 	<T> void repsert(Iterable<? extends T> values, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Saves the given documents like {@link #repsert(Iterable, Class)} and returns the saved instances, as
+	 * {@link #save(Object)} does for a single document.
+	 *
+	 * @param values
+	 *            A List of documents
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @return the saved instances in the order of the given values, as returned by the entity callbacks
+	 * @throws DataAccessException
+	 * @since ArangoDB 3.4
+	 */
+	<T> Iterable<T> saveAll(Iterable<? extends T> values, Class<T> entityClass) throws DataAccessException;
+
 	/**
 	 * Checks whether the document exists by reading a single document head
 	 *
@@ -578,4 +906,40 @@ public interface ArangoOperations {
 
 	ResolverFactory getResolverFactory();
 
+	/**
+	 * Returns the client-side cache of query results, which is invalidated by the write operations of this instance.
+	 * <p>
+	 * The document operations invalidate the collection they write to. AQL queries passed to {@code query} invalidate
+	 * every collection following an {@code IN} or {@code INTO} keyword, including collection bind parameters, if they
+	 * contain an {@code INSERT}, {@code UPDATE}, {@code REPLACE}, {@code REMOVE} or {@code UPSERT} operation. This
+	 * applies to the queries of repository methods as well, whether they are derived ({@code deleteBy...},
+	 * {@code update...By}) or declared with {@link com.arangodb.springframework.annotation.Query} with or without
+	 * {@link com.arangodb.springframework.annotation.Update}. Writes through the driver, user functions or other
+	 * clients are not detected and only reflected after the time to live of a cached result has expired.
+	 *
+	 * @see com.arangodb.springframework.annotation.CachedQuery
+	 */
+	QueryResultCache getQueryResultCache();
+
+	/**
+	 * Returns an executor running tasks on the given executor within the database and stream transaction of the
+	 * thread submitting them, e.g. to continue an operation in the background.
+	 *
+	 * @param executor
+	 *            the executor running the tasks
+	 * @return the executor
+	 */
+	Executor withThreadContext(Executor executor);
+
+	/**
+	 * Returns the executor of the requests this instance performs in the background or in parallel, e.g. the counts
+	 * of {@link com.arangodb.springframework.annotation.PageCount#ASYNC} page queries. Tasks run within the database
+	 * and stream transaction of the thread submitting them.
+	 *
+	 * @return the executor
+	 * @throws IllegalStateException
+	 *             if no executor is configured
+	 */
+	Executor getAsyncExecutor();
+
 }
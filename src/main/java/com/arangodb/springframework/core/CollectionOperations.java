@@ -21,6 +21,7 @@
 package com.arangodb.springframework.core;
 
 import java.util.Collection;
+import java.util.Map;
 
 import org.springframework.dao.DataAccessException;
 
@@ -167,6 +168,18 @@ public interface CollectionOperations {
 	 */
 	IndexEntity ensureTtlIndex(Iterable<String> fields, TtlIndexOptions options) throws DataAccessException;
 
+	/**
+	 * Creates an index for the collection from a raw index definition as accepted by the {@code /_api/index}
+	 * endpoint, if it does not already exist. Allows to use index types and options not covered by the typed
+	 * {@code ensure*Index} methods.
+	 *
+	 * @param definition
+	 *            The index definition, containing at least {@code type} and {@code fields}
+	 * @return information about the index
+	 * @throws DataAccessException
+	 */
+	IndexEntity ensureIndex(Map<String, Object> definition) throws DataAccessException;
+
 	/**
 	 * Deletes the index with the given {@code id} from the collection.
 	 *
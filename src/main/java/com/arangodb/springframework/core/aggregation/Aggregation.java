@@ -0,0 +1,358 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.aggregation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.util.Assert;
+
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.core.query.Criteria;
+import com.arangodb.springframework.core.util.AqlUtils;
+
+/**
+ * Fluent definition of a server-side aggregation which is executed as AQL {@code COLLECT ... AGGREGATE ...}.
+ * Properties are given by their Java property paths and mapped to the persisted field names. Values are passed as bind
+ * parameters.
+ *
+ * <pre>
+ * Aggregation.groupBy("customerId")
+ * 		.sum("amount", "total")
+ * 		.count("orders")
+ * 		.having("total", Comparison.GT, 1000)
+ * 		.sort(Sort.by(Direction.DESC, "total"))
+ * 		.limit(10);
+ * </pre>
+ *
+ * The result of an aggregation contains one document per group with the given aliases as attributes. It can be read as
+ * {@link Map} or into any type with matching properties.
+ *
+ * @see com.arangodb.springframework.core.ArangoOperations#aggregate(Aggregation, Class, Class)
+ */
+public class Aggregation {
+
+	private static final Pattern ALIAS_PATTERN = Pattern.compile("^[A-Za-z_][A-Za-z0-9_]*$");
+	private static final String DOCUMENT_VAR = "e";
+
+	/**
+	 * Comparison operators usable in {@link Aggregation#having(String, Comparison, Object)}
+	 */
+	public enum Comparison {
+		EQ("=="), NE("!="), LT("<"), LTE("<="), GT(">"), GTE(">=");
+
+		private final String operator;
+
+		Comparison(final String operator) {
+			this.operator = operator;
+		}
+
+		public String getOperator() {
+			return operator;
+		}
+	}
+
+	private final List<Criteria> matches;
+	private final List<Group> groups;
+	private final List<Aggregate> aggregates;
+	private final List<Having> havings;
+	private Sort sort;
+	private Long offset;
+	private Integer limit;
+
+	private Aggregation() {
+		super();
+		matches = new ArrayList<>();
+		groups = new ArrayList<>();
+		aggregates = new ArrayList<>();
+		havings = new ArrayList<>();
+		sort = Sort.unsorted();
+	}
+
+	/**
+	 * Creates an aggregation over all documents of a collection without grouping.
+	 */
+	public static Aggregation newAggregation() {
+		return new Aggregation();
+	}
+
+	/**
+	 * Creates an aggregation grouped by the given properties. The last segment of each property path is used as alias
+	 * in the result.
+	 *
+	 * @param properties
+	 *            property paths, e.g. {@code customer.name}
+	 */
+	public static Aggregation groupBy(final String... properties) {
+		final Aggregation aggregation = new Aggregation();
+		for (final String property : properties) {
+			aggregation.group(property, property.substring(property.lastIndexOf('.') + 1));
+		}
+		return aggregation;
+	}
+
+	/**
+	 * Filters the documents before grouping.
+	 */
+	public Aggregation match(final Criteria criteria) {
+		Assert.notNull(criteria, "Criteria must not be null!");
+		matches.add(criteria);
+		return this;
+	}
+
+	/**
+	 * Adds a group property with a custom alias.
+	 */
+	public Aggregation group(final String property, final String alias) {
+		groups.add(new Group(property, checkAlias(alias)));
+		return this;
+	}
+
+	public Aggregation sum(final String property, final String alias) {
+		return aggregate(AggregationFunction.SUM, property, alias);
+	}
+
+	public Aggregation avg(final String property, final String alias) {
+		return aggregate(AggregationFunction.AVG, property, alias);
+	}
+
+	public Aggregation min(final String property, final String alias) {
+		return aggregate(AggregationFunction.MIN, property, alias);
+	}
+
+	public Aggregation max(final String property, final String alias) {
+		return aggregate(AggregationFunction.MAX, property, alias);
+	}
+
+	/**
+	 * Counts the documents of each group.
+	 */
+	public Aggregation count(final String alias) {
+		return aggregate(AggregationFunction.COUNT, null, alias);
+	}
+
+	/**
+	 * Counts the distinct values of the given property in each group.
+	 */
+	public Aggregation countDistinct(final String property, final String alias) {
+		return aggregate(AggregationFunction.COUNT_DISTINCT, property, alias);
+	}
+
+	public Aggregation aggregate(final AggregationFunction function, final String property, final String alias) {
+		Assert.notNull(function, "AggregationFunction must not be null!");
+		Assert.isTrue(property != null || function == AggregationFunction.COUNT,
+			"Property must not be null for aggregate function " + function);
+		aggregates.add(new Aggregate(function, property, checkAlias(alias)));
+		return this;
+	}
+
+	/**
+	 * Filters the groups after aggregation.
+	 *
+	 * @param alias
+	 *            alias of a group property or an aggregate
+	 * @param comparison
+	 *            the comparison operator
+	 * @param value
+	 *            the value to compare with, passed as bind parameter
+	 */
+	public Aggregation having(final String alias, final Comparison comparison, final Object value) {
+		Assert.notNull(comparison, "Comparison must not be null!");
+		havings.add(new Having(alias, comparison, value));
+		return this;
+	}
+
+	/**
+	 * Sorts the result by aliases of group properties or aggregates.
+	 */
+	public Aggregation sort(final Sort sort) {
+		this.sort = this.sort.and(sort);
+		return this;
+	}
+
+	public Aggregation limit(final int limit) {
+		this.limit = limit;
+		return this;
+	}
+
+	public Aggregation limit(final long offset, final int limit) {
+		this.offset = offset;
+		this.limit = limit;
+		return this;
+	}
+
+	/**
+	 * Builds the AQL query of this aggregation over the collection of the given entity type. The collection is bound
+	 * as {@code @@col}.
+	 *
+	 * @param context
+	 *            the mapping context used to resolve field names
+	 * @param entityClass
+	 *            the entity type representing the collection
+	 * @param bindVars
+	 *            the map the bind parameters are added to
+	 * @return the AQL query
+	 */
+	public String buildQuery(
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+		final Class<?> entityClass,
+		final Map<String, Object> bindVars) {
+
+		Assert.isTrue(!groups.isEmpty() || !aggregates.isEmpty(),
+			"Aggregation must contain at least one group or aggregate!");
+
+		bindVars.put("@col", entityClass);
+		final StringBuilder query = new StringBuilder("FOR ").append(DOCUMENT_VAR).append(" IN @@col");
+		for (final Criteria criteria : matches) {
+			if (!criteria.isEmpty()) {
+				query.append(" FILTER ").append(criteria.buildPredicate(context, entityClass, DOCUMENT_VAR, bindVars));
+			}
+		}
+
+		query.append(" COLLECT");
+		final StringJoiner groupClause = new StringJoiner(", ", " ", "").setEmptyValue("");
+		for (int i = 0; i < groups.size(); ++i) {
+			groupClause.add(groupVar(i) + " = " + buildPath(context, entityClass, groups.get(i).property));
+		}
+		query.append(groupClause);
+
+		if (!aggregates.isEmpty()) {
+			final StringJoiner aggregateClause = new StringJoiner(", ", " AGGREGATE ", "");
+			for (int i = 0; i < aggregates.size(); ++i) {
+				final Aggregate aggregate = aggregates.get(i);
+				final String argument = aggregate.property != null
+						? buildPath(context, entityClass, aggregate.property)
+						: "1";
+				aggregateClause.add(aggregateVar(i) + " = " + aggregate.function.getFunction() + "(" + argument + ")");
+			}
+			query.append(aggregateClause);
+		}
+
+		for (int i = 0; i < havings.size(); ++i) {
+			final Having having = havings.get(i);
+			final String bindVar = "having" + i;
+			bindVars.put(bindVar, having.value);
+			query.append(" FILTER ").append(resolveAlias(having.alias)).append(' ')
+					.append(having.comparison.getOperator()).append(" @").append(bindVar);
+		}
+
+		if (sort.isSorted()) {
+			query.append(" SORT ").append(sort.stream()
+					.map(order -> resolveAlias(order.getProperty()) + " " + order.getDirection())
+					.collect(Collectors.joining(", ")));
+		}
+
+		if (limit != null) {
+			query.append(" LIMIT ");
+			if (offset != null) {
+				query.append(offset).append(", ");
+			}
+			query.append(limit);
+		}
+
+		final StringJoiner result = new StringJoiner(", ", " RETURN { ", " }");
+		for (int i = 0; i < groups.size(); ++i) {
+			result.add(groups.get(i).alias + ": " + groupVar(i));
+		}
+		for (int i = 0; i < aggregates.size(); ++i) {
+			result.add(aggregates.get(i).alias + ": " + aggregateVar(i));
+		}
+		query.append(result);
+		return query.toString();
+	}
+
+	private String resolveAlias(final String alias) {
+		for (int i = 0; i < groups.size(); ++i) {
+			if (groups.get(i).alias.equals(alias)) {
+				return groupVar(i);
+			}
+		}
+		for (int i = 0; i < aggregates.size(); ++i) {
+			if (aggregates.get(i).alias.equals(alias)) {
+				return aggregateVar(i);
+			}
+		}
+		throw new IllegalArgumentException(String.format("Unknown alias \"%s\" in aggregation!", alias));
+	}
+
+	private static String buildPath(
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+		final Class<?> entityClass,
+		final String property) {
+		return AqlUtils.buildFieldPath(context, entityClass, DOCUMENT_VAR, property);
+	}
+
+	private static String groupVar(final int index) {
+		return "group" + index;
+	}
+
+	private static String aggregateVar(final int index) {
+		return "aggregate" + index;
+	}
+
+	private static String checkAlias(final String alias) {
+		Assert.isTrue(alias != null && ALIAS_PATTERN.matcher(alias).matches(),
+			String.format("Invalid alias \"%s\" in aggregation!", alias));
+		return alias;
+	}
+
+	private static class Group {
+		private final String property;
+		private final String alias;
+
+		Group(final String property, final String alias) {
+			this.property = property;
+			this.alias = alias;
+		}
+	}
+
+	private static class Aggregate {
+		private final AggregationFunction function;
+		private final String property;
+		private final String alias;
+
+		Aggregate(final AggregationFunction function, final String property, final String alias) {
+			this.function = function;
+			this.property = property;
+			this.alias = alias;
+		}
+	}
+
+	private static class Having {
+		private final String alias;
+		private final Comparison comparison;
+		private final Object value;
+
+		Having(final String alias, final Comparison comparison, final Object value) {
+			this.alias = alias;
+			this.comparison = comparison;
+			this.value = value;
+		}
+	}
+
+}
@@ -0,0 +1,43 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.aggregation;
+
+/**
+ * Aggregate functions supported in the {@code AGGREGATE} part of an AQL {@code COLLECT} operation.
+ */
+public enum AggregationFunction {
+
+	SUM("SUM"), AVG("AVERAGE"), MIN("MIN"), MAX("MAX"), COUNT("COUNT"), COUNT_DISTINCT("COUNT_DISTINCT");
+
+	private final String function;
+
+	AggregationFunction(final String function) {
+		this.function = function;
+	}
+
+	/**
+	 * @return the name of the AQL function
+	 */
+	public String getFunction() {
+		return function;
+	}
+
+}
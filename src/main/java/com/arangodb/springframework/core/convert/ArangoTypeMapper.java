@@ -43,4 +43,13 @@ public interface ArangoTypeMapper {
 
 	boolean isTypeKey(String key);
 
+	/**
+	 * @return the name of the attribute the type information is written to, {@literal null} if no type information
+	 *         is written
+	 */
+	@Nullable
+	default String getTypeKey() {
+		return DefaultArangoTypeMapper.DEFAULT_TYPE_KEY;
+	}
+
 }
@@ -28,6 +28,7 @@ import com.arangodb.springframework.annotation.From;
 import com.arangodb.springframework.annotation.Ref;
 import com.arangodb.springframework.annotation.Relations;
 import com.arangodb.springframework.annotation.To;
+import com.arangodb.springframework.core.convert.FetchPlan.Fetch;
 import com.arangodb.springframework.core.convert.resolver.LazyLoadingProxy;
 import com.arangodb.springframework.core.convert.resolver.ReferenceResolver;
 import com.arangodb.springframework.core.convert.resolver.RelationResolver;
@@ -41,6 +42,7 @@ import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.ValueType;
 import com.arangodb.velocypack.internal.util.DateUtil;
 import org.springframework.core.CollectionFactory;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.data.convert.CustomConversions;
@@ -79,6 +81,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * @author Mark Vollmary
@@ -99,6 +103,8 @@ public class DefaultArangoConverter implements ArangoConverter {
 	private final EntityInstantiators instantiators;
 	private final ResolverFactory resolverFactory;
 	private final ArangoTypeMapper typeMapper;
+	private final Map<Annotation, Annotation> lazyAnnotations;
+	private final Map<Annotation, Annotation> eagerAnnotations;
 
 	public DefaultArangoConverter(
 		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
@@ -111,6 +117,8 @@ public class DefaultArangoConverter implements ArangoConverter {
 		conversionService = new DefaultConversionService();
 		conversions.registerConvertersIn(conversionService);
 		instantiators = new EntityInstantiators();
+		lazyAnnotations = new ConcurrentHashMap<>();
+		eagerAnnotations = new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -196,12 +204,24 @@ public class DefaultArangoConverter implements ArangoConverter {
 					String.format("Can't read entity type %s from VPack type %s!", type, source.getType()));
 		}
 
+		final String id = source.get(_ID).isString() ? source.get(_ID).getAsString() : null;
+		final IdentityMap identityMap = id != null ? IdentityMap.current() : null;
+		if (identityMap != null) {
+			final Object known = identityMap.get(id, type.getType());
+			if (known != null) {
+				return known;
+			}
+		}
+
 		final EntityInstantiator instantiator = instantiators.getInstantiatorFor(entity);
 		final ParameterValueProvider<ArangoPersistentProperty> provider = getParameterProvider(entity, source);
 		final Object instance = instantiator.createInstance(entity, provider);
 		final PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(instance);
 
-		final String id = source.get(_ID).isString() ? source.get(_ID).getAsString() : null;
+		// registered before reading the properties, so that cyclic associations resolve to this instance
+		if (identityMap != null) {
+			identityMap.put(id, instance);
+		}
 
 		entity.doWithProperties((final ArangoPersistentProperty property) -> {
 			if (!entity.isConstructorArgument(property)) {
@@ -242,27 +262,69 @@ public class DefaultArangoConverter implements ArangoConverter {
 
 		final Optional<Ref> ref = property.getRef();
 		if (ref.isPresent()) {
-			return readReference(source, property, ref.get()).orElse(null);
+			return readAssociation(entity, property, ref.get(), a -> readReference(source, property, a));
 		}
 
 		final Optional<Relations> relations = property.getRelations();
 		if (relations.isPresent()) {
-			return readRelation(entity, parentId, source, property, relations.get()).orElse(null);
+			return readAssociation(entity, property, relations.get(),
+				a -> readRelation(entity, parentId, source, property, a));
 		}
 
 		final Optional<From> from = property.getFrom();
 		if (from.isPresent()) {
-			return readRelation(entity, parentId, source, property, from.get()).orElse(null);
+			return readAssociation(entity, property, from.get(),
+				a -> readRelation(entity, parentId, source, property, a));
 		}
 
 		final Optional<To> to = property.getTo();
 		if (to.isPresent()) {
-			return readRelation(entity, parentId, source, property, to.get()).orElse(null);
+			return readAssociation(entity, property, to.get(),
+				a -> readRelation(entity, parentId, source, property, a));
 		}
 
 		return readInternal(property.getTypeInformation(), source);
 	}
 
+	private <A extends Annotation> Object readAssociation(
+		final ArangoPersistentEntity<?> entity,
+		final ArangoPersistentProperty property,
+		final A annotation,
+		final Function<A, Optional<Object>> reader) {
+
+		final FetchPlan plan = FetchPlan.current();
+		final Fetch fetch = plan != null ? plan.getFetch(entity, property) : Fetch.DEFAULT;
+		switch (fetch) {
+		case SKIP:
+			if (annotation instanceof From || annotation instanceof To) {
+				throw new MappingException(String.format("The @From/@To property %s of %s can not be excluded!",
+					property.getName(), entity.getName()));
+			}
+			// keep the ids of references, so that writing the entity does not drop them
+			return annotation instanceof Ref ? reader.apply(withLazy(annotation, true)).orElse(null) : null;
+		case EAGER:
+			return reader.apply(withLazy(annotation, false)).orElse(null);
+		case LAZY:
+			return reader.apply(withLazy(annotation, true)).orElse(null);
+		case DEFAULT:
+		default:
+			return reader.apply(annotation).orElse(null);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <A extends Annotation> A withLazy(final A annotation, final boolean lazy) {
+		final Map<Annotation, Annotation> cache = lazy ? lazyAnnotations : eagerAnnotations;
+		return (A) cache.computeIfAbsent(annotation, a -> {
+			final Map<String, Object> attributes = AnnotationUtils.getAnnotationAttributes(a);
+			if (Boolean.valueOf(lazy).equals(attributes.get("lazy"))) {
+				return a;
+			}
+			attributes.put("lazy", lazy);
+			return AnnotationUtils.synthesizeAnnotation(attributes, a.annotationType(), null);
+		});
+	}
+
 	private Object readMap(final TypeInformation<?> type, final VPackSlice source) {
 		if (!source.isObject()) {
 			throw new MappingException(
@@ -139,6 +139,11 @@ public class DefaultArangoTypeMapper implements ArangoTypeMapper {
 	public boolean isTypeKey(final String key) {
 		return typeKey == null ? false : typeKey.equals(key);
 	}
+
+	@Override
+	public String getTypeKey() {
+		return typeKey;
+	}
 	
 	protected final Alias getAliasFor(final TypeInformation<?> info) {
 		Assert.notNull(info, "TypeInformation must not be null!");
@@ -0,0 +1,162 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.convert;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+
+/**
+ * Determines per read operation how the associations ({@code @Ref}, {@code @Relations}, {@code @From}, {@code @To})
+ * of the read entities are loaded, overriding the {@code lazy} attribute of their mapping annotation:
+ * <ul>
+ * <li>included associations are resolved eagerly</li>
+ * <li>lazy associations are resolved on first access through a proxy</li>
+ * <li>excluded associations are not resolved at all and remain {@literal null}</li>
+ * </ul>
+ * Excluded {@code @Ref} properties are set to lazy proxies nevertheless, as they hold the ids written when the entity
+ * is saved. {@code @From} and {@code @To} properties can not be excluded. {@code @Relations} are not stored in the
+ * document, so excluding them is safe.
+ * An association is given either by its property name, which applies to that property of every entity type, or
+ * qualified with the simple name of the declaring entity type, e.g. {@code Movie.actors}. The plan also applies to
+ * entities read while eagerly resolving other associations.
+ * <p>
+ * Instances are immutable.
+ *
+ * @see com.arangodb.springframework.annotation.FetchPlan
+ */
+public final class FetchPlan {
+
+	public enum Fetch {
+		/**
+		 * as defined by the mapping annotation
+		 */
+		DEFAULT,
+		EAGER,
+		LAZY,
+		SKIP
+	}
+
+	private static final FetchPlan EMPTY = new FetchPlan(Collections.emptyMap());
+	private static final ThreadLocal<FetchPlan> CURRENT = new ThreadLocal<>();
+
+	private final Map<String, Fetch> associations;
+
+	private FetchPlan(final Map<String, Fetch> associations) {
+		super();
+		this.associations = associations;
+	}
+
+	/**
+	 * Returns a plan loading all associations as defined by their mapping.
+	 */
+	public static FetchPlan empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns the plan of the read operation currently executed by this thread.
+	 *
+	 * @return the current plan, {@literal null} if there is none
+	 */
+	public static FetchPlan current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Returns a copy of this plan resolving the given associations eagerly.
+	 */
+	public FetchPlan include(final String... associations) {
+		return with(Fetch.EAGER, associations);
+	}
+
+	/**
+	 * Returns a copy of this plan resolving the given associations lazily.
+	 */
+	public FetchPlan lazy(final String... associations) {
+		return with(Fetch.LAZY, associations);
+	}
+
+	/**
+	 * Returns a copy of this plan not resolving the given associations.
+	 */
+	public FetchPlan exclude(final String... associations) {
+		return with(Fetch.SKIP, associations);
+	}
+
+	private FetchPlan with(final Fetch fetch, final String... associations) {
+		final Map<String, Fetch> copy = new HashMap<>(this.associations);
+		Arrays.stream(associations).forEach(association -> {
+			Assert.hasText(association, "Association must not be empty!");
+			copy.put(association, fetch);
+		});
+		return new FetchPlan(copy);
+	}
+
+	/**
+	 * Determines how to load the given association property.
+	 */
+	public Fetch getFetch(final ArangoPersistentEntity<?> entity, final ArangoPersistentProperty property) {
+		if (associations.isEmpty()) {
+			return Fetch.DEFAULT;
+		}
+		final Fetch qualified = associations.get(entity.getType().getSimpleName() + "." + property.getName());
+		if (qualified != null) {
+			return qualified;
+		}
+		return associations.getOrDefault(property.getName(), Fetch.DEFAULT);
+	}
+
+	/**
+	 * Executes the given read operation with this plan as {@link #current() current plan}. If the plan excludes
+	 * associations, the operation is {@link IdentityMap#isolate(Supplier) isolated} from the current identity map.
+	 */
+	public <T> T execute(final Supplier<T> operation) {
+		final FetchPlan previous = CURRENT.get();
+		CURRENT.set(this);
+		try {
+			return associations.containsValue(Fetch.SKIP) ? IdentityMap.isolate(operation) : operation.get();
+		} finally {
+			if (previous != null) {
+				CURRENT.set(previous);
+			} else {
+				CURRENT.remove();
+			}
+		}
+	}
+
+	public boolean isEmpty() {
+		return associations.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "FetchPlan " + associations;
+	}
+
+}
@@ -0,0 +1,187 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.convert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * Unit of work mapping document ids to the entity instances read for them. Within the scope of an identity map every
+ * document is decoded only once: further occurrences of the same {@code _id}, e.g. the same {@code @Ref} target
+ * referenced by many entities, or cycles of eagerly resolved {@code @Relations}, resolve to the instance already read.
+ * <p>
+ * Every read operation of {@link com.arangodb.springframework.core.template.ArangoTemplate} and every cursor is
+ * executed in the scope of an identity map, joining the {@link #current() current} one if present. Scopes spanning
+ * multiple operations are opened explicitly:
+ *
+ * <pre>
+ * try (IdentityMap session = IdentityMap.open()) {
+ * 	final Order order = template.find(orderId, Order.class).get();
+ * 	final Customer customer = template.find(customerId, Customer.class).get();
+ * }
+ * </pre>
+ *
+ * The identity maps created implicitly for a single operation keep at most {@value #DEFAULT_MAX_ENTRIES} instances, so
+ * that long running cursors don't retain all of their results.
+ * <p>
+ * Instances are only shared between reads of the same shape. Partial reads, e.g. of projected fields or with
+ * associations excluded by a {@link FetchPlan}, are {@link #isolate(Supplier) isolated} in their own identity map, so
+ * that their incomplete instances are not returned by later reads of whole documents.
+ */
+public final class IdentityMap implements AutoCloseable {
+
+	public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+	private static final ThreadLocal<IdentityMap> CURRENT = new ThreadLocal<>();
+
+	private final Map<String, Object> instances;
+	private final int maxEntries;
+	private final IdentityMap previous;
+	private final boolean bound;
+	private final boolean partial;
+
+	private IdentityMap(final int maxEntries, final IdentityMap previous, final boolean bound,
+		final boolean partial) {
+		super();
+		this.instances = new ConcurrentHashMap<>();
+		this.maxEntries = maxEntries;
+		this.previous = previous;
+		this.bound = bound;
+		this.partial = partial;
+	}
+
+	/**
+	 * Opens an identity map without size limit and binds it to this thread until it is {@link #close() closed}.
+	 */
+	public static IdentityMap open() {
+		final IdentityMap map = new IdentityMap(Integer.MAX_VALUE, CURRENT.get(), true, false);
+		CURRENT.set(map);
+		return map;
+	}
+
+	/**
+	 * Returns the identity map bound to this thread.
+	 *
+	 * @return the current identity map, {@literal null} if there is none
+	 */
+	public static IdentityMap current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Returns the identity map bound to this thread or, if there is none, a new one for a single operation.
+	 */
+	public static IdentityMap currentOrCreate() {
+		final IdentityMap current = CURRENT.get();
+		return current != null ? current : new IdentityMap(DEFAULT_MAX_ENTRIES, null, false, false);
+	}
+
+	/**
+	 * Executes a partial read operation in the scope of a new identity map, which is separate from the current one.
+	 * Within a partial read already isolated, the operation joins its identity map.
+	 */
+	public static <T> T isolate(final Supplier<T> operation) {
+		final IdentityMap current = CURRENT.get();
+		if (current != null && current.partial) {
+			return operation.get();
+		}
+		return new IdentityMap(DEFAULT_MAX_ENTRIES, null, false, true).execute(operation);
+	}
+
+	/**
+	 * Executes the given operation in the scope of the {@link #currentOrCreate() current or a new} identity map.
+	 */
+	public static <T> T join(final Supplier<T> operation) {
+		return currentOrCreate().execute(operation);
+	}
+
+	/**
+	 * Executes the given operation with this identity map as {@link #current() current} one.
+	 */
+	public <T> T execute(final Supplier<T> operation) {
+		final IdentityMap previous = CURRENT.get();
+		if (previous == this) {
+			return operation.get();
+		}
+		CURRENT.set(this);
+		try {
+			return operation.get();
+		} finally {
+			if (previous != null) {
+				CURRENT.set(previous);
+			} else {
+				CURRENT.remove();
+			}
+		}
+	}
+
+	/**
+	 * Returns the instance read for the given document id.
+	 *
+	 * @param id
+	 *            the {@code _id} of the document
+	 * @param type
+	 *            the expected type of the instance
+	 * @return the instance, {@literal null} if none of the given type has been read
+	 */
+	public Object get(final String id, final Class<?> type) {
+		final Object instance = instances.get(id);
+		return instance != null && type.isInstance(instance) ? instance : null;
+	}
+
+	/**
+	 * Registers the instance read for the given document id.
+	 */
+	public void put(final String id, final Object instance) {
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(instance, "Instance must not be null!");
+		if (instances.size() < maxEntries) {
+			instances.put(id, instance);
+		}
+	}
+
+	public int size() {
+		return instances.size();
+	}
+
+	public void clear() {
+		instances.clear();
+	}
+
+	/**
+	 * Unbinds an identity map {@link #open() opened} explicitly from this thread and discards its instances.
+	 */
+	@Override
+	public void close() {
+		if (bound && CURRENT.get() == this) {
+			if (previous != null) {
+				CURRENT.set(previous);
+			} else {
+				CURRENT.remove();
+			}
+		}
+		instances.clear();
+	}
+
+}
@@ -29,6 +29,7 @@ import org.springframework.data.util.TypeInformation;
 
 import com.arangodb.springframework.annotation.Ref;
 import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.convert.IdentityMap;
 
 /**
  * @author Mark Vollmary
@@ -58,7 +59,9 @@ public class RefResolver extends AbstractResolver<Ref>
 
 	@Override
 	public Object resolve(final String id, final TypeInformation<?> type, final Ref annotation) {
-		return template.find(id, type.getType()).get();
+		final IdentityMap identityMap = IdentityMap.current();
+		final Object known = identityMap != null ? identityMap.get(id, type.getType()) : null;
+		return known != null ? known : template.find(id, type.getType()).get();
 	}
 
 	@Override
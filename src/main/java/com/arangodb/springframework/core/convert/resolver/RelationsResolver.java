@@ -94,7 +94,9 @@ public class RelationsResolver extends AbstractResolver<Relations> implements Re
 			withClause.append("@@with").append(i);
 		}
 
-		final String query = String.format(
+		final String query;
+		if (annotation.edgeFilter().isEmpty()) {
+			query = String.format(
 				"%s FOR v IN %d .. %d %s @start %s OPTIONS {bfs: true, uniqueVertices: \"global\"} %s RETURN v", //
 				withClause, //
 				Math.max(1, annotation.minDepth()), //
@@ -102,6 +104,22 @@ public class RelationsResolver extends AbstractResolver<Relations> implements Re
 				annotation.direction(), //
 				edges, //
 				limit ? "LIMIT 1" : "");
+		} else {
+			// every edge of a path has to match, so paths are not expanded beyond a non-matching edge. Vertices are
+			// only unique per path, as a vertex first visited by a non-matching path may still be reached by a
+			// matching one.
+			query = String.format(
+				"%s FOR v, edge IN %d .. %d %s @start %s PRUNE edge != null AND !(%s) "
+						+ "OPTIONS {bfs: true, uniqueVertices: \"path\"} FILTER %s %s RETURN DISTINCT v", //
+				withClause, //
+				Math.max(1, annotation.minDepth()), //
+				Math.max(1, annotation.maxDepth()), //
+				annotation.direction(), //
+				edges, //
+				annotation.edgeFilter(), //
+				annotation.edgeFilter(), //
+				limit ? "LIMIT 1" : "");
+		}
 
 		return template.query(query, bindVars.get(), type);
 	}
@@ -32,8 +32,11 @@ import com.arangodb.model.CollectionCreateOptions;
 import com.arangodb.springframework.annotation.FulltextIndex;
 import com.arangodb.springframework.annotation.GeoIndex;
 import com.arangodb.springframework.annotation.HashIndex;
+import com.arangodb.springframework.annotation.MultiDimensionalIndex;
 import com.arangodb.springframework.annotation.PersistentIndex;
+import com.arangodb.springframework.annotation.SearchView;
 import com.arangodb.springframework.annotation.SkiplistIndex;
+import com.arangodb.springframework.annotation.VertexCentricIndex;
 
 /**
  * @author Mark Vollmary
@@ -61,6 +64,10 @@ public interface ArangoPersistentEntity<T>
 
 	Collection<FulltextIndex> getFulltextIndexes();
 
+	Collection<MultiDimensionalIndex> getMultiDimensionalIndexes();
+
+	Collection<VertexCentricIndex> getVertexCentricIndexes();
+
 	Optional<TtlIndex> getTtlIndex();
 
 	Collection<ArangoPersistentProperty> getHashIndexedProperties();
@@ -75,6 +82,10 @@ public interface ArangoPersistentEntity<T>
 
 	Optional<ArangoPersistentProperty> getTtlIndexedProperty();
 
+	Optional<SearchView> getSearchView();
+
+	Collection<ArangoPersistentProperty> getSearchFieldProperties();
+
 	IdentifierAccessor getArangoIdAccessor(Object bean);
 
 }
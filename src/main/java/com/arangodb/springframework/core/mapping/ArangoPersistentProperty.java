@@ -31,6 +31,7 @@ import com.arangodb.springframework.annotation.HashIndexed;
 import com.arangodb.springframework.annotation.PersistentIndexed;
 import com.arangodb.springframework.annotation.Ref;
 import com.arangodb.springframework.annotation.Relations;
+import com.arangodb.springframework.annotation.SearchField;
 import com.arangodb.springframework.annotation.SkiplistIndexed;
 import com.arangodb.springframework.annotation.To;
 import com.arangodb.springframework.annotation.TtlIndexed;
@@ -66,4 +67,6 @@ public interface ArangoPersistentProperty extends PersistentProperty<ArangoPersi
 	Optional<FulltextIndexed> getFulltextIndexed();
 
 	Optional<TtlIndexed> getTtlIndexed();
+
+	Optional<SearchField> getSearchField();
 }
@@ -30,11 +30,16 @@ import com.arangodb.springframework.annotation.GeoIndex;
 import com.arangodb.springframework.annotation.GeoIndexes;
 import com.arangodb.springframework.annotation.HashIndex;
 import com.arangodb.springframework.annotation.HashIndexes;
+import com.arangodb.springframework.annotation.MultiDimensionalIndex;
+import com.arangodb.springframework.annotation.MultiDimensionalIndexes;
 import com.arangodb.springframework.annotation.PersistentIndex;
 import com.arangodb.springframework.annotation.PersistentIndexes;
+import com.arangodb.springframework.annotation.SearchView;
 import com.arangodb.springframework.annotation.SkiplistIndex;
 import com.arangodb.springframework.annotation.SkiplistIndexes;
 import com.arangodb.springframework.annotation.TtlIndex;
+import com.arangodb.springframework.annotation.VertexCentricIndex;
+import com.arangodb.springframework.annotation.VertexCentricIndexes;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.expression.BeanFactoryAccessor;
@@ -85,6 +90,7 @@ public class DefaultArangoPersistentEntity<T> extends BasicPersistentEntity<T, A
 	private final Collection<ArangoPersistentProperty> persistentIndexedProperties;
 	private final Collection<ArangoPersistentProperty> geoIndexedProperties;
 	private final Collection<ArangoPersistentProperty> fulltextIndexedProperties;
+	private final Collection<ArangoPersistentProperty> searchFieldProperties;
 
 	private final CollectionCreateOptions collectionOptions;
 
@@ -99,6 +105,7 @@ public class DefaultArangoPersistentEntity<T> extends BasicPersistentEntity<T, A
 		persistentIndexedProperties = new ArrayList<>();
 		geoIndexedProperties = new ArrayList<>();
 		fulltextIndexedProperties = new ArrayList<>();
+		searchFieldProperties = new ArrayList<>();
 		repeatableAnnotationCache = new HashMap<>();
 		final Document document = findAnnotation(Document.class);
 		final Edge edge = findAnnotation(Edge.class);
@@ -211,6 +218,7 @@ public class DefaultArangoPersistentEntity<T> extends BasicPersistentEntity<T, A
 		property.getPersistentIndexed().ifPresent(i -> persistentIndexedProperties.add(property));
 		property.getGeoIndexed().ifPresent(i -> geoIndexedProperties.add(property));
 		property.getFulltextIndexed().ifPresent(i -> fulltextIndexedProperties.add(property));
+		property.getSearchField().ifPresent(i -> searchFieldProperties.add(property));
 	}
 
 	@Override
@@ -266,11 +274,35 @@ public class DefaultArangoPersistentEntity<T> extends BasicPersistentEntity<T, A
 		return indexes;
 	}
 
+	@Override
+	public Collection<MultiDimensionalIndex> getMultiDimensionalIndexes() {
+		final Collection<MultiDimensionalIndex> indexes = getIndexes(MultiDimensionalIndex.class);
+		Optional.ofNullable(findAnnotation(MultiDimensionalIndexes.class))
+				.ifPresent(i -> indexes.addAll(Arrays.asList(i.value())));
+		return indexes;
+	}
+
+	@Override
+	public Collection<VertexCentricIndex> getVertexCentricIndexes() {
+		final Collection<VertexCentricIndex> indexes = getIndexes(VertexCentricIndex.class);
+		Optional.ofNullable(findAnnotation(VertexCentricIndexes.class))
+				.ifPresent(i -> indexes.addAll(Arrays.asList(i.value())));
+		if (!indexes.isEmpty() && findAnnotation(Edge.class) == null) {
+			throw new MappingException("Vertex-centric indexes are only supported on @Edge entities!");
+		}
+		return indexes;
+	}
+
 	@Override
 	public Optional<TtlIndex> getTtlIndex() {
 		return getIndex(TtlIndex.class);
 	}
 
+	@Override
+	public Optional<SearchView> getSearchView() {
+		return getIndex(SearchView.class);
+	}
+
 	private <A extends Annotation> Optional<A> getIndex(final Class<A> annotation) {
 		return Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(getType(), annotation));
 	}
@@ -311,6 +343,11 @@ public class DefaultArangoPersistentEntity<T> extends BasicPersistentEntity<T, A
 		return Optional.ofNullable(ttlIndexedProperty);
 	}
 
+	@Override
+	public Collection<ArangoPersistentProperty> getSearchFieldProperties() {
+		return searchFieldProperties;
+	}
+
 	@SuppressWarnings("unchecked")
 	public <A extends Annotation> Set<A> findAnnotations(final Class<A> annotationType) {
 		return (Set<A>) repeatableAnnotationCache.computeIfAbsent(annotationType,
@@ -40,6 +40,7 @@ import com.arangodb.springframework.annotation.HashIndexed;
 import com.arangodb.springframework.annotation.PersistentIndexed;
 import com.arangodb.springframework.annotation.Ref;
 import com.arangodb.springframework.annotation.Relations;
+import com.arangodb.springframework.annotation.SearchField;
 import com.arangodb.springframework.annotation.Rev;
 import com.arangodb.springframework.annotation.SkiplistIndexed;
 import com.arangodb.springframework.annotation.To;
@@ -151,4 +152,9 @@ public class DefaultArangoPersistentProperty extends AnnotationBasedPersistentPr
 		return Optional.ofNullable(findAnnotation(TtlIndexed.class));
 	}
 
+	@Override
+	public Optional<SearchField> getSearchField() {
+		return Optional.ofNullable(findAnnotation(SearchField.class));
+	}
+
 }
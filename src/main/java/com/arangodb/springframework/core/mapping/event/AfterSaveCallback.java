@@ -0,0 +1,44 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.mapping.event;
+
+import org.springframework.data.mapping.callback.EntityCallback;
+
+/**
+ * Callback invoked after an entity is saved to the database and the {@link AfterSaveEvent} is published.
+ *
+ * @param <T>
+ *            the domain type
+ */
+@FunctionalInterface
+public interface AfterSaveCallback<T> extends EntityCallback<T> {
+
+	/**
+	 * @param entity
+	 *            the saved entity, containing the values of {@code _id}, {@code _key} and {@code _rev}
+	 * @param collection
+	 *            the name of the collection the entity was saved to
+	 * @return the saved entity, either the given one or a modified copy of it. The write operations of
+	 *         {@code ArangoTemplate} do not return entities, so a copy is not passed back to the caller.
+	 */
+	T onAfterSave(T entity, String collection);
+
+}
@@ -0,0 +1,49 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.mapping.event;
+
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.core.Ordered;
+import org.springframework.data.auditing.IsNewAwareAuditingHandler;
+
+/**
+ * {@link BeforeConvertCallback} populating the auditing fields of an entity before it is saved.
+ */
+public class AuditingEntityCallback implements BeforeConvertCallback<Object>, Ordered {
+
+	private final ObjectFactory<IsNewAwareAuditingHandler> auditingHandlerFactory;
+
+	public AuditingEntityCallback(final ObjectFactory<IsNewAwareAuditingHandler> auditingHandlerFactory) {
+		super();
+		this.auditingHandlerFactory = auditingHandlerFactory;
+	}
+
+	@Override
+	public Object onBeforeConvert(final Object entity, final String collection) {
+		return auditingHandlerFactory.getObject().markAudited(entity);
+	}
+
+	@Override
+	public int getOrder() {
+		return 100;
+	}
+
+}
@@ -25,8 +25,9 @@ import org.springframework.data.auditing.IsNewAwareAuditingHandler;
 
 /**
  * @author Mark Vollmary
- *
+ * @deprecated auditing is applied by {@link AuditingEntityCallback}
  */
+@Deprecated
 public class AuditingEventListener extends AbstractArangoEventListener<Object> {
 
 	private final ObjectFactory<IsNewAwareAuditingHandler> auditingHandlerFactory;
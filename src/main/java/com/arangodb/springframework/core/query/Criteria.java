@@ -0,0 +1,428 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.util.Assert;
+
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.core.util.AqlUtils;
+
+/**
+ * Composable filter criteria which are compiled to an AQL {@code FILTER} predicate. Properties are given by their Java
+ * property paths and mapped to the persisted field names, values are always passed as bind parameters. Criteria of
+ * the same shape therefore produce identical AQL, independent of the values.
+ *
+ * <pre>
+ * Criteria.where("name").is("John").and("age").gte(18)
+ * 		.orOperator(Criteria.where("alive").is(true), Criteria.where("address.zipCode").in(zipCodes));
+ * </pre>
+ *
+ * Consecutive criteria are combined with {@code AND}. Criteria can also be created from a plain AQL predicate, e.g.
+ * by the derived queries of repositories, and composed with {@link #and(Criteria)} and {@link #or(Criteria)}.
+ *
+ * @see CriteriaQuery
+ */
+public class Criteria {
+
+	private static final String VALUE_PREFIX = "value";
+
+	private final List<Element> elements;
+	private String property;
+
+	public Criteria() {
+		super();
+		elements = new ArrayList<>();
+	}
+
+	/**
+	 * Creates criteria from an AQL predicate. The predicate is used as is, so variables and bind parameters it refers
+	 * to have to be provided by the enclosing query.
+	 *
+	 * @param predicate
+	 *            AQL predicate, e.g. {@code e.age > @0}
+	 */
+	public Criteria(final String predicate) {
+		this();
+		if (!predicate.isEmpty()) {
+			elements.add(new Predicate(predicate));
+		}
+	}
+
+	/**
+	 * Creates a criteria starting with a condition on the given property.
+	 *
+	 * @param property
+	 *            property path, e.g. {@code address.zipCode}
+	 */
+	public static Criteria where(final String property) {
+		return new Criteria().and(property);
+	}
+
+	/**
+	 * Starts a further condition on the given property, combined with {@code AND}.
+	 *
+	 * @param property
+	 *            property path, e.g. {@code address.zipCode}
+	 */
+	public Criteria and(final String property) {
+		Assert.hasText(property, "Property must not be empty!");
+		this.property = property;
+		return this;
+	}
+
+	public Criteria is(final Object value) {
+		return add(Operator.EQ, value);
+	}
+
+	public Criteria ne(final Object value) {
+		return add(Operator.NE, value);
+	}
+
+	public Criteria lt(final Object value) {
+		return add(Operator.LT, value);
+	}
+
+	public Criteria lte(final Object value) {
+		return add(Operator.LTE, value);
+	}
+
+	public Criteria gt(final Object value) {
+		return add(Operator.GT, value);
+	}
+
+	public Criteria gte(final Object value) {
+		return add(Operator.GTE, value);
+	}
+
+	public Criteria between(final Object from, final Object to) {
+		final String current = property;
+		add(Operator.GTE, from);
+		return and(current).add(Operator.LTE, to);
+	}
+
+	public Criteria in(final Collection<?> values) {
+		return add(Operator.IN, values);
+	}
+
+	public Criteria in(final Object... values) {
+		return in(Arrays.asList(values));
+	}
+
+	public Criteria nin(final Collection<?> values) {
+		return add(Operator.NIN, values);
+	}
+
+	public Criteria nin(final Object... values) {
+		return nin(Arrays.asList(values));
+	}
+
+	/**
+	 * Matches if the array property contains the given value.
+	 */
+	public Criteria containing(final Object value) {
+		return add(Operator.CONTAINING, value);
+	}
+
+	public Criteria isNull() {
+		return add(Operator.IS_NULL, null);
+	}
+
+	public Criteria isNotNull() {
+		return add(Operator.IS_NOT_NULL, null);
+	}
+
+	/**
+	 * Matches with the AQL {@code LIKE} operator, where {@code %} and {@code _} are wildcards.
+	 */
+	public Criteria like(final String pattern) {
+		return add(Operator.LIKE, pattern);
+	}
+
+	/**
+	 * Matches with the AQL regular expression operator {@code =~}.
+	 */
+	public Criteria regex(final String regex) {
+		return add(Operator.REGEX, regex);
+	}
+
+	/**
+	 * Adds the conditions of the given criteria, combined with {@code AND}.
+	 */
+	public Criteria and(final Criteria criteria) {
+		if (criteria != null) {
+			elements.addAll(criteria.elements);
+		}
+		return this;
+	}
+
+	/**
+	 * Combines the conditions of these criteria and the given criteria with {@code OR}.
+	 */
+	public Criteria or(final Criteria criteria) {
+		if (criteria == null || criteria.isEmpty()) {
+			return this;
+		}
+		if (!isEmpty()) {
+			final Criteria left = new Criteria();
+			left.elements.addAll(elements);
+			elements.clear();
+			elements.add(new Disjunction(left, criteria));
+		} else {
+			elements.addAll(criteria.elements);
+		}
+		return this;
+	}
+
+	/**
+	 * Adds the given criteria combined with {@code OR}. Empty criteria are skipped, if all of them are empty nothing is
+	 * added.
+	 */
+	public Criteria orOperator(final Criteria... criteria) {
+		return addGroup(criteria, " OR ");
+	}
+
+	/**
+	 * Adds the given criteria combined with {@code AND}. Empty criteria are skipped, if all of them are empty nothing
+	 * is added.
+	 */
+	public Criteria andOperator(final Criteria... criteria) {
+		return addGroup(criteria, " AND ");
+	}
+
+	/**
+	 * Adds the negation of the given criteria.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the given criteria are empty
+	 */
+	public Criteria not(final Criteria criteria) {
+		Assert.isTrue(criteria != null && !criteria.isEmpty(), "Criteria to negate must not be empty!");
+		elements.add(new Not(criteria));
+		return this;
+	}
+
+	public boolean isEmpty() {
+		return elements.isEmpty();
+	}
+
+	private Criteria addGroup(final Criteria[] criteria, final String delimiter) {
+		final List<Criteria> nonEmpty = new ArrayList<>();
+		for (final Criteria c : criteria) {
+			if (c != null && !c.isEmpty()) {
+				nonEmpty.add(c);
+			}
+		}
+		if (!nonEmpty.isEmpty()) {
+			elements.add(new Group(nonEmpty, delimiter));
+		}
+		return this;
+	}
+
+	private Criteria add(final Operator operator, final Object value) {
+		Assert.notNull(property, "No property specified! Use where(property) or and(property) first.");
+		elements.add(new Condition(property, operator, value));
+		return this;
+	}
+
+	/**
+	 * Returns the AQL predicate of criteria created from AQL predicates.
+	 *
+	 * @throws IllegalStateException
+	 *             if the criteria contain conditions on properties, which need a mapping context to be built
+	 * @see #buildPredicate(MappingContext, Class, String, Map)
+	 */
+	public String getPredicate() {
+		return buildPredicate(null, null, null, null);
+	}
+
+	/**
+	 * Builds the AQL predicate of these criteria. The values are added to the given bind parameters with names which
+	 * only depend on the number of values already bound, so that criteria of the same shape result in the same AQL.
+	 *
+	 * @param context
+	 *            the mapping context used to resolve field names
+	 * @param domainClass
+	 *            the type owning the properties
+	 * @param varName
+	 *            the name of the document variable
+	 * @param bindVars
+	 *            the map the bind parameters are added to
+	 * @return the predicate, empty if there are no criteria
+	 */
+	public String buildPredicate(
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+		final Class<?> domainClass,
+		final String varName,
+		final Map<String, Object> bindVars) {
+
+		final StringJoiner predicate = new StringJoiner(" AND ");
+		for (final Element element : elements) {
+			final String built = element.build(context, domainClass, varName, bindVars);
+			predicate.add(element instanceof Disjunction && elements.size() > 1 ? "(" + built + ")" : built);
+		}
+		return predicate.toString();
+	}
+
+	private static String bind(final Map<String, Object> bindVars, final Object value) {
+		int index = 0;
+		while (bindVars.containsKey(VALUE_PREFIX + index)) {
+			++index;
+		}
+		final String name = VALUE_PREFIX + index;
+		bindVars.put(name, value);
+		return "@" + name;
+	}
+
+	private enum Operator {
+		EQ("%s == %s"), NE("%s != %s"), LT("%s < %s"), LTE("%s <= %s"), GT("%s > %s"), GTE("%s >= %s"),
+		IN("%s IN %s"), NIN("%s NOT IN %s"), CONTAINING("%2$s IN %1$s"), IS_NULL("%s == null"),
+		IS_NOT_NULL("%s != null"), LIKE("%s LIKE %s"), REGEX("%s =~ %s");
+
+		private final String template;
+
+		Operator(final String template) {
+			this.template = template;
+		}
+
+		private boolean hasValue() {
+			return this != IS_NULL && this != IS_NOT_NULL;
+		}
+	}
+
+	private interface Element {
+		String build(
+			MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+			Class<?> domainClass,
+			String varName,
+			Map<String, Object> bindVars);
+	}
+
+	private static class Condition implements Element {
+		private final String property;
+		private final Operator operator;
+		private final Object value;
+
+		Condition(final String property, final Operator operator, final Object value) {
+			this.property = property;
+			this.operator = operator;
+			this.value = value;
+		}
+
+		@Override
+		public String build(
+			final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+			final Class<?> domainClass,
+			final String varName,
+			final Map<String, Object> bindVars) {
+			Assert.state(context != null, "Criteria on properties need a mapping context to be built!");
+			final String field = AqlUtils.buildFieldPath(context, domainClass, varName, property);
+			return operator.hasValue() ? String.format(operator.template, field, bind(bindVars, value))
+					: String.format(operator.template, field);
+		}
+	}
+
+	private static class Group implements Element {
+		private final List<Criteria> criteria;
+		private final String delimiter;
+
+		Group(final List<Criteria> criteria, final String delimiter) {
+			this.criteria = criteria;
+			this.delimiter = delimiter;
+		}
+
+		@Override
+		public String build(
+			final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+			final Class<?> domainClass,
+			final String varName,
+			final Map<String, Object> bindVars) {
+			final StringJoiner group = new StringJoiner(delimiter, "(", ")");
+			for (final Criteria c : criteria) {
+				group.add("(" + c.buildPredicate(context, domainClass, varName, bindVars) + ")");
+			}
+			return group.toString();
+		}
+	}
+
+	private static class Predicate implements Element {
+		private final String predicate;
+
+		Predicate(final String predicate) {
+			this.predicate = predicate;
+		}
+
+		@Override
+		public String build(
+			final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+			final Class<?> domainClass,
+			final String varName,
+			final Map<String, Object> bindVars) {
+			return predicate;
+		}
+	}
+
+	private static class Disjunction implements Element {
+		private final Criteria left;
+		private final Criteria right;
+
+		Disjunction(final Criteria left, final Criteria right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		public String build(
+			final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+			final Class<?> domainClass,
+			final String varName,
+			final Map<String, Object> bindVars) {
+			return left.buildPredicate(context, domainClass, varName, bindVars) + " OR "
+					+ right.buildPredicate(context, domainClass, varName, bindVars);
+		}
+	}
+
+	private static class Not implements Element {
+		private final Criteria criteria;
+
+		Not(final Criteria criteria) {
+			this.criteria = criteria;
+		}
+
+		@Override
+		public String build(
+			final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+			final Class<?> domainClass,
+			final String varName,
+			final Map<String, Object> bindVars) {
+			return "NOT (" + criteria.buildPredicate(context, domainClass, varName, bindVars) + ")";
+		}
+	}
+
+}
@@ -0,0 +1,219 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.core.util.AqlUtils;
+
+/**
+ * CriteriaQuery over the documents of one collection built from {@link Criteria}, sorting, paging and an optional projection.
+ * It is compiled to a parameterized AQL query whose text only depends on the shape of the query and not on the
+ * values, so that the server can reuse its query plan.
+ *
+ * <pre>
+ * CriteriaQuery.query(Criteria.where("surname").is("Smith").and("age").gt(18))
+ * 		.with(Sort.by("name"))
+ * 		.limit(10);
+ * </pre>
+ *
+ * @see com.arangodb.springframework.core.ArangoOperations#find(CriteriaQuery, Class)
+ */
+public class CriteriaQuery {
+
+	private static final String DOCUMENT_VAR = "e";
+
+	private final List<Criteria> criteria;
+	private final List<String> fields;
+	private Sort sort;
+	private Long skip;
+	private Integer limit;
+
+	public CriteriaQuery() {
+		super();
+		criteria = new ArrayList<>();
+		fields = new ArrayList<>();
+		sort = Sort.unsorted();
+	}
+
+	public static CriteriaQuery query(final Criteria criteria) {
+		return new CriteriaQuery().addCriteria(criteria);
+	}
+
+	/**
+	 * Adds further criteria, combined with {@code AND}.
+	 */
+	public CriteriaQuery addCriteria(final Criteria criteria) {
+		Assert.notNull(criteria, "Criteria must not be null!");
+		this.criteria.add(criteria);
+		return this;
+	}
+
+	public CriteriaQuery with(final Sort sort) {
+		this.sort = this.sort.and(sort);
+		return this;
+	}
+
+	/**
+	 * Applies the offset, page size and sort of the given {@link Pageable}.
+	 */
+	public CriteriaQuery with(final Pageable pageable) {
+		if (pageable.isPaged()) {
+			skip = pageable.getOffset();
+			limit = pageable.getPageSize();
+		}
+		return with(pageable.getSort());
+	}
+
+	public CriteriaQuery skip(final long skip) {
+		this.skip = skip;
+		return this;
+	}
+
+	public CriteriaQuery limit(final int limit) {
+		this.limit = limit;
+		return this;
+	}
+
+	/**
+	 * Restricts the returned documents to the given top-level properties. The document meta fields {@code _id},
+	 * {@code _key} and {@code _rev} and the type information are always included. Nested property paths like
+	 * {@code address.zipCode} are not supported, project the enclosing property {@code address} instead.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if a property is empty or a nested property path
+	 */
+	public CriteriaQuery fields(final String... properties) {
+		for (final String property : properties) {
+			Assert.hasText(property, "Property must not be empty!");
+			Assert.isTrue(property.indexOf('.') < 0,
+				"Only top-level properties can be projected, nested property path given: " + property);
+		}
+		fields.addAll(Arrays.asList(properties));
+		return this;
+	}
+
+	/**
+	 * @return whether the query returns only some of the fields of the documents
+	 */
+	public boolean hasFields() {
+		return !fields.isEmpty();
+	}
+
+	/**
+	 * Builds the AQL query over the collection of the given entity type. The collection is bound as {@code @@col}.
+	 *
+	 * @param context
+	 *            the mapping context used to resolve field names
+	 * @param entityClass
+	 *            the entity type representing the collection
+	 * @param typeKey
+	 *            the attribute holding the type information, kept in projections to read polymorphic documents,
+	 *            may be {@literal null}
+	 * @param bindVars
+	 *            the map the bind parameters are added to
+	 * @return the AQL query
+	 */
+	public String buildQuery(
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+		final Class<?> entityClass,
+		@Nullable final String typeKey,
+		final Map<String, Object> bindVars) {
+
+		final StringBuilder query = new StringBuilder();
+		appendFilter(query, context, entityClass, bindVars);
+
+		if (sort.isSorted()) {
+			query.append(" SORT ").append(sort.stream()
+					.map(order -> AqlUtils.buildFieldPath(context, entityClass, DOCUMENT_VAR, order.getProperty())
+							+ " " + order.getDirection())
+					.collect(Collectors.joining(", ")));
+		}
+
+		if (limit != null || skip != null) {
+			bindVars.put("offset", skip != null ? skip : 0L);
+			bindVars.put("count", limit != null ? limit : Integer.MAX_VALUE);
+			query.append(" LIMIT @offset, @count");
+		}
+
+		if (fields.isEmpty()) {
+			query.append(" RETURN ").append(DOCUMENT_VAR);
+		} else {
+			final StringJoiner keep = new StringJoiner(", ", " RETURN KEEP(" + DOCUMENT_VAR + ", ", ")");
+			keep.add("\"_id\"").add("\"_key\"").add("\"_rev\"");
+			if (typeKey != null) {
+				keep.add("\"" + typeKey + "\"");
+			}
+			for (final String field : fields) {
+				final ArangoPersistentProperty property = context.getRequiredPersistentEntity(entityClass)
+						.getRequiredPersistentProperty(field);
+				keep.add("\"" + property.getFieldName() + "\"");
+			}
+			query.append(keep);
+		}
+		return query.toString();
+	}
+
+	/**
+	 * Builds an AQL query counting the documents matching the criteria of this query. Sorting, paging and projection
+	 * are ignored.
+	 *
+	 * @see #buildQuery(MappingContext, Class, String, Map)
+	 */
+	public String buildCountQuery(
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+		final Class<?> entityClass,
+		final Map<String, Object> bindVars) {
+
+		final StringBuilder query = new StringBuilder();
+		appendFilter(query, context, entityClass, bindVars);
+		return query.append(" COLLECT WITH COUNT INTO length RETURN length").toString();
+	}
+
+	private void appendFilter(
+		final StringBuilder query,
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+		final Class<?> entityClass,
+		final Map<String, Object> bindVars) {
+
+		bindVars.put("@col", entityClass);
+		query.append("FOR ").append(DOCUMENT_VAR).append(" IN @@col");
+		for (final Criteria c : criteria) {
+			if (!c.isEmpty()) {
+				query.append(" FILTER ").append(c.buildPredicate(context, entityClass, DOCUMENT_VAR, bindVars));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * Base of the coalescers grouping concurrent requests with the same key into batches.
+ * <p>
+ * The first request of a key opens a batch and waits up to {@code maxDelay} for further requests to join it, or until
+ * the batch reached {@code maxBatchSize} elements. Then it executes the batch for all of them. Every batch is
+ * synchronized on its own, so that requests for different keys don't contend.
+ *
+ * @param <K>
+ *            type of the batch key
+ * @param <E>
+ *            type of the batch elements
+ */
+abstract class AbstractCoalescer<K, E> {
+
+	private final long maxDelayNanos;
+	private final int maxBatchSize;
+	private final ConcurrentMap<K, Batch<E>> pending;
+
+	protected AbstractCoalescer(final long maxDelay, final TimeUnit timeUnit, final int maxBatchSize) {
+		super();
+		Assert.isTrue(maxDelay >= 0, "Max delay must not be negative!");
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be positive!");
+		this.maxDelayNanos = timeUnit.toNanos(maxDelay);
+		this.maxBatchSize = maxBatchSize;
+		this.pending = new ConcurrentHashMap<>();
+	}
+
+	static final class Batch<E> {
+		private final List<E> elements = new ArrayList<>();
+		private boolean closed = false;
+
+		/**
+		 * @return the elements of the batch, only to be accessed once the batch is closed
+		 */
+		List<E> getElements() {
+			return elements;
+		}
+	}
+
+	/**
+	 * Adds the given element to the pending batch of the given key or opens a new batch with it.
+	 *
+	 * @return the batch opened by this call, which the caller has to {@link #awaitBatch(Object, Batch) await} and
+	 *         execute, {@literal null} if the element joined a batch opened by another request
+	 */
+	protected Batch<E> join(final K key, final E element) {
+		while (true) {
+			final Batch<E> batch = pending.get(key);
+			if (batch != null) {
+				synchronized (batch) {
+					if (!batch.closed) {
+						add(key, batch, element);
+						return null;
+					}
+				}
+				// closed, but not yet removed
+				pending.remove(key, batch);
+			} else {
+				final Batch<E> opened = new Batch<>();
+				synchronized (opened) {
+					if (pending.putIfAbsent(key, opened) == null) {
+						add(key, opened, element);
+						return opened;
+					}
+				}
+			}
+		}
+	}
+
+	private void add(final K key, final Batch<E> batch, final E element) {
+		batch.elements.add(element);
+		if (batch.elements.size() >= maxBatchSize) {
+			close(key, batch);
+			batch.notifyAll();
+		}
+	}
+
+	private void close(final K key, final Batch<E> batch) {
+		batch.closed = true;
+		pending.remove(key, batch);
+	}
+
+	/**
+	 * Waits until the given batch is full or its maximum delay has passed and closes it.
+	 */
+	protected void awaitBatch(final K key, final Batch<E> batch) {
+		synchronized (batch) {
+			final long deadline = System.nanoTime() + maxDelayNanos;
+			long remaining = maxDelayNanos;
+			try {
+				while (!batch.closed && remaining > 0) {
+					TimeUnit.NANOSECONDS.timedWait(batch, remaining);
+					remaining = deadline - System.nanoTime();
+				}
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (!batch.closed) {
+				close(key, batch);
+			}
+		}
+	}
+
+	protected static <T> T await(final CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+}
@@ -20,7 +20,11 @@
 
 package com.arangodb.springframework.core.template;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mapping.callback.EntityCallbacks;
 
 import com.arangodb.ArangoCursor;
 import com.arangodb.entity.CursorEntity;
@@ -37,14 +41,44 @@ class ArangoCursorInitializer implements com.arangodb.util.ArangoCursorInitializ
 
 	private final ArangoConverter converter;
 	private final ApplicationEventPublisher eventPublisher;
+	private final Supplier<CursorOptions> defaultOptions;
+	private final Supplier<EntityCallbacks> entityCallbacks;
+	private final Supplier<Executor> decodeExecutor;
+	private final Supplier<ThreadContext> threadContext;
 
 	public ArangoCursorInitializer(final ArangoConverter converter) {
 		this(converter, null);
 	}
 
 	public ArangoCursorInitializer(final ArangoConverter converter, final ApplicationEventPublisher eventPublisher) {
+		this(converter, eventPublisher, () -> null);
+	}
+
+	public ArangoCursorInitializer(final ArangoConverter converter, final ApplicationEventPublisher eventPublisher,
+		final Supplier<CursorOptions> defaultOptions) {
+		this(converter, eventPublisher, defaultOptions, () -> null);
+	}
+
+	public ArangoCursorInitializer(final ArangoConverter converter, final ApplicationEventPublisher eventPublisher,
+		final Supplier<CursorOptions> defaultOptions, final Supplier<EntityCallbacks> entityCallbacks) {
+		this(converter, eventPublisher, defaultOptions, entityCallbacks, () -> null, () -> ThreadContext.NONE);
+	}
+
+	/**
+	 * @param decodeExecutor
+	 *            supplies the executor of cursors decoding in parallel without one in their options
+	 * @param threadContext
+	 *            captures the context of the thread creating a cursor, in which its results are decoded in parallel
+	 */
+	public ArangoCursorInitializer(final ArangoConverter converter, final ApplicationEventPublisher eventPublisher,
+		final Supplier<CursorOptions> defaultOptions, final Supplier<EntityCallbacks> entityCallbacks,
+		final Supplier<Executor> decodeExecutor, final Supplier<ThreadContext> threadContext) {
 		this.converter = converter;
 		this.eventPublisher = eventPublisher;
+		this.defaultOptions = defaultOptions;
+		this.entityCallbacks = entityCallbacks;
+		this.decodeExecutor = decodeExecutor;
+		this.threadContext = threadContext;
 	}
 
 	@Override
@@ -53,7 +87,8 @@ class ArangoCursorInitializer implements com.arangodb.util.ArangoCursorInitializ
 		final ArangoCursorExecute execute,
 		final Class<T> type,
 		final CursorEntity result) {
-		return new ArangoExtCursor<>(db, execute, type, result, converter, eventPublisher);
+		return new ArangoExtCursor<>(db, execute, type, result, converter, eventPublisher, defaultOptions.get(),
+				entityCallbacks.get(), decodeExecutor.get(), threadContext);
 	}
 
 }
@@ -20,7 +20,12 @@
 
 package com.arangodb.springframework.core.template;
 
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mapping.callback.EntityCallbacks;
 
 import com.arangodb.ArangoCursor;
 import com.arangodb.entity.CursorEntity;
@@ -29,6 +34,8 @@ import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.cursor.ArangoCursorImpl;
 import com.arangodb.internal.cursor.ArangoCursorIterator;
 import com.arangodb.springframework.core.convert.ArangoConverter;
+import com.arangodb.springframework.core.convert.FetchPlan;
+import com.arangodb.springframework.core.convert.IdentityMap;
 
 /**
  * 
@@ -39,11 +46,48 @@ class ArangoExtCursor<T> extends ArangoCursorImpl<T> {
 
 	protected ArangoExtCursor(final InternalArangoDatabase<?, ?> db, final ArangoCursorExecute execute,
 		final Class<T> type, final CursorEntity result, final ArangoConverter converter,
-		final ApplicationEventPublisher eventPublisher) {
+		final ApplicationEventPublisher eventPublisher, final CursorOptions defaultOptions,
+		final EntityCallbacks entityCallbacks, final Executor defaultDecodeExecutor,
+		final Supplier<ThreadContext> threadContext) {
 		super(db, execute, type, result);
+		BatchStatistics.record(result);
 		final ArangoExtCursorIterator<?> it = (ArangoExtCursorIterator<?>) iterator;
 		it.setConverter(converter);
 		it.setEventPublisher(eventPublisher);
+		it.setEntityCallbacks(entityCallbacks);
+		it.setFetchPlan(FetchPlan.current());
+		it.setIdentityMap(IdentityMap.currentOrCreate());
+		final CursorOptions options = CursorOptions.current() != null ? CursorOptions.current() : defaultOptions;
+		if (options != null && options.isParallelDecoding()) {
+			final Executor executor = options.getDecodeExecutor() != null ? options.getDecodeExecutor()
+					: defaultDecodeExecutor;
+			if (executor == null) {
+				closeQuietly();
+				throw new IllegalStateException("Parallel decoding requires an executor, "
+						+ "set in the cursor options or as decode executor of the template!");
+			}
+			// references are resolved by the executor's threads, within the context of the querying thread
+			it.decodeInParallel(result.getResult().size(), executor, threadContext.get());
+		}
+		if (options != null && options.getPrefetchBatches() > 0 && result.getHasMore()) {
+			it.prefetch(options.getPrefetchBatches(), result.getResult().size(), options.getPrefetchExecutor(),
+				options.getPrefetchTimeout());
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		// the prefetching must not request further batches while the cursor is deleted
+		((ArangoExtCursorIterator<?>) iterator).stopPrefetch();
+		super.close();
+	}
+
+	private void closeQuietly() {
+		try {
+			super.close();
+		} catch (final IOException | RuntimeException e) {
+			// the server side cursor expires after its ttl anyway
+		}
 	}
 
 	@Override
@@ -20,14 +20,35 @@
 
 package com.arangodb.springframework.core.template;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mapping.callback.EntityCallbacks;
 
 import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDBException;
 import com.arangodb.entity.CursorEntity;
 import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.cursor.ArangoCursorIterator;
 import com.arangodb.springframework.core.convert.ArangoConverter;
+import com.arangodb.springframework.core.convert.FetchPlan;
+import com.arangodb.springframework.core.convert.IdentityMap;
+import com.arangodb.springframework.core.mapping.event.AfterConvertCallback;
 import com.arangodb.springframework.core.mapping.event.AfterLoadEvent;
 import com.arangodb.springframework.core.mapping.event.ArangoMappingEvent;
 import com.arangodb.velocypack.VPackSlice;
@@ -39,12 +60,27 @@ import com.arangodb.velocypack.VPackSlice;
  */
 class ArangoExtCursorIterator<T> extends ArangoCursorIterator<T> {
 
+	private final ArangoCursor<T> cursor;
 	private ArangoConverter converter;
 	private ApplicationEventPublisher eventPublisher;
+	private EntityCallbacks entityCallbacks;
+	private String collection;
+	private boolean collectionResolved = false;
+	private FetchPlan fetchPlan;
+	private IdentityMap identityMap;
+	private volatile Prefetcher prefetcher;
+	private volatile boolean raw = false;
+	private volatile Thread fetching;
+	private Executor decodeExecutor;
+	private ThreadContext decodeContext;
+	private int decodeChunkSize;
+	private List<T> decoded = Collections.emptyList();
+	private int position = 0;
 
 	protected ArangoExtCursorIterator(final ArangoCursor<T> cursor, final InternalArangoDatabase<?, ?> db,
 		final ArangoCursorExecute execute, final CursorEntity result) {
 		super(cursor, execute, db, result);
+		this.cursor = cursor;
 	}
 
 	public void setConverter(final ArangoConverter converter) {
@@ -55,13 +91,189 @@ class ArangoExtCursorIterator<T> extends ArangoCursorIterator<T> {
 		this.eventPublisher = eventPublisher;
 	}
 
+	public void setEntityCallbacks(final EntityCallbacks entityCallbacks) {
+		this.entityCallbacks = entityCallbacks;
+	}
+
+	/**
+	 * Sets the fetch plan of the read operation which created the cursor, as the results are read lazily.
+	 */
+	public void setFetchPlan(final FetchPlan fetchPlan) {
+		this.fetchPlan = fetchPlan;
+	}
+
+	/**
+	 * Sets the identity map shared by all results of the cursor.
+	 */
+	public void setIdentityMap(final IdentityMap identityMap) {
+		this.identityMap = identityMap;
+	}
+
+	/**
+	 * Starts fetching the following batches in the background.
+	 *
+	 * @param batches
+	 *            maximum number of batches fetched ahead of the consumed one
+	 * @param batchSize
+	 *            size of the batches
+	 * @param executor
+	 *            executor running the prefetching, {@literal null} to use a new daemon thread
+	 * @param timeout
+	 *            maximum time the prefetching waits for the consumer before closing the cursor
+	 */
+	public void prefetch(final int batches, final int batchSize, final Executor executor, final Duration timeout) {
+		final Prefetcher prefetcher = new Prefetcher(Math.max(1, batches * batchSize), timeout);
+		this.prefetcher = prefetcher;
+		raw = true;
+		if (executor != null) {
+			executor.execute(prefetcher);
+		} else {
+			final Thread thread = new Thread(prefetcher, "arangodb-cursor-prefetch");
+			thread.setDaemon(true);
+			thread.start();
+		}
+	}
+
+	/**
+	 * Decodes the documents in chunks, each in parallel on the given executor.
+	 *
+	 * @param batchSize
+	 *            size of the batches, determining the size of the chunks
+	 * @param executor
+	 *            executor decoding the documents
+	 * @param context
+	 *            context of the querying thread, in which the documents are decoded
+	 */
+	public void decodeInParallel(final int batchSize, final Executor executor, final ThreadContext context) {
+		decodeExecutor = executor;
+		decodeContext = context;
+		decodeChunkSize = Math.max(1, batchSize);
+		raw = true;
+	}
+
+	/**
+	 * Stops a running prefetching and waits until its current request is finished.
+	 */
+	public void stopPrefetch() {
+		final Prefetcher prefetcher = this.prefetcher;
+		if (prefetcher != null) {
+			prefetcher.stop();
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!raw || fetching == Thread.currentThread()) {
+			return super.hasNext();
+		}
+		return position < decoded.size() || hasNextSource();
+	}
+
+	@Override
+	public T next() {
+		if (!raw || fetching == Thread.currentThread()) {
+			return super.next();
+		}
+		if (decodeExecutor == null) {
+			return read(nextSource(), cursor.getType());
+		}
+		if (position >= decoded.size()) {
+			decodeChunk();
+		}
+		if (position >= decoded.size()) {
+			throw new NoSuchElementException();
+		}
+		return afterLoad(decoded.get(position++));
+	}
+
+	private boolean hasNextSource() {
+		final Prefetcher prefetcher = this.prefetcher;
+		return prefetcher != null ? prefetcher.hasNext() : fetchHasNext();
+	}
+
+	private VPackSlice nextSource() {
+		final Prefetcher prefetcher = this.prefetcher;
+		return prefetcher != null ? prefetcher.next() : fetchNext();
+	}
+
+	/*
+	 * The driver's iteration calls the overridden hasNext() itself, so it delegates back to the driver while the
+	 * current thread fetches.
+	 */
+
+	private boolean fetchHasNext() {
+		fetching = Thread.currentThread();
+		try {
+			return super.hasNext();
+		} finally {
+			fetching = null;
+		}
+	}
+
+	private VPackSlice fetchNext() {
+		fetching = Thread.currentThread();
+		try {
+			return (VPackSlice) (Object) super.next();
+		} finally {
+			fetching = null;
+		}
+	}
+
+	private void decodeChunk() {
+		final List<CompletableFuture<T>> chunk = new ArrayList<>(decodeChunkSize);
+		while (chunk.size() < decodeChunkSize && hasNextSource()) {
+			final VPackSlice source = nextSource();
+			chunk.add(CompletableFuture.supplyAsync(
+				() -> decodeContext.execute(() -> decode(source, cursor.getType())), decodeExecutor));
+		}
+		final List<T> results = new ArrayList<>(chunk.size());
+		try {
+			for (final CompletableFuture<T> future : chunk) {
+				results.add(future.join());
+			}
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+		decoded = results;
+		position = 0;
+	}
+
+	@SuppressWarnings("unchecked")
 	@Override
 	protected <R> R deserialize(final VPackSlice source, final Class<R> type) {
-		final R result = converter.read(type, source);
-		if (result != null) {
-			potentiallyEmitEvent(new AfterLoadEvent<>(result));
+		// while prefetching or decoding in parallel the documents are passed on undecoded
+		return raw ? (R) source : read(source, type);
+	}
+
+	private <R> R read(final VPackSlice source, final Class<R> type) {
+		return afterLoad(decode(source, type));
+	}
+
+	private <R> R afterLoad(final R result) {
+		if (result == null) {
+			return null;
+		}
+		potentiallyEmitEvent(new AfterLoadEvent<>(result));
+		if (entityCallbacks == null) {
+			return result;
 		}
-		return result;
+		if (!collectionResolved) {
+			// resolved on the first result, as the entity of the type is known to the mapping context by then
+			final Class<?> type = cursor.getType();
+			collection = converter.getMappingContext().hasPersistentEntityFor(type)
+					? converter.getMappingContext().getRequiredPersistentEntity(type).getCollection()
+					: null;
+			collectionResolved = true;
+		}
+		return entityCallbacks.callback(AfterConvertCallback.class, result, collection);
+	}
+
+	private <R> R decode(final VPackSlice source, final Class<R> type) {
+		final Supplier<R> read = () -> converter.read(type, source);
+		return identityMap.execute(() -> fetchPlan != null ? fetchPlan.execute(read) : read.get());
 	}
 
 	private void potentiallyEmitEvent(final ArangoMappingEvent<?> event) {
@@ -70,4 +282,129 @@ class ArangoExtCursorIterator<T> extends ArangoCursorIterator<T> {
 		}
 	}
 
+	/**
+	 * Iterates the cursor in the background, queueing the undecoded documents. A consumer which does not take a
+	 * document within the timeout is considered gone, e.g. after an unclosed {@code first()}, and the cursor is closed.
+	 */
+	private class Prefetcher implements Runnable {
+
+		private final Object end = new Object();
+		private final BlockingQueue<Object> queue;
+		private final long timeoutNanos;
+		private final AtomicBoolean started = new AtomicBoolean(false);
+		private final CountDownLatch finished = new CountDownLatch(1);
+		private volatile boolean stopped = false;
+		private volatile RuntimeException abandoned;
+		private volatile Thread thread;
+		// only accessed by the consumer
+		private Object next;
+
+		Prefetcher(final int capacity, final Duration timeout) {
+			super();
+			queue = new LinkedBlockingQueue<>(capacity);
+			timeoutNanos = timeout.toNanos();
+		}
+
+		@Override
+		public void run() {
+			if (!started.compareAndSet(false, true)) {
+				return;
+			}
+			thread = Thread.currentThread();
+			try {
+				while (!stopped && fetchHasNext()) {
+					enqueue(fetchNext());
+				}
+				enqueue(end);
+			} catch (final RuntimeException e) {
+				enqueue(e);
+			} finally {
+				thread = null;
+				finished.countDown();
+			}
+		}
+
+		private void enqueue(final Object element) {
+			try {
+				final long deadline = System.nanoTime() + timeoutNanos;
+				boolean queued = false;
+				while (!stopped && !queued) {
+					final long remaining = deadline - System.nanoTime();
+					if (remaining <= 0) {
+						abandon();
+						return;
+					}
+					queued = queue.offer(element, Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(100)),
+						TimeUnit.NANOSECONDS);
+				}
+			} catch (final InterruptedException e) {
+				stopped = true;
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void abandon() {
+			abandoned = new ArangoDBException(String.format(
+				"Prefetching cursor %s was closed, as its consumer did not take a document within %s ms!",
+				cursor.getId(), TimeUnit.NANOSECONDS.toMillis(timeoutNanos)));
+			try {
+				cursor.close();
+			} catch (final IOException | RuntimeException e) {
+				// the server side cursor expires after its ttl anyway
+			}
+		}
+
+		boolean hasNext() {
+			return peek() != end;
+		}
+
+		VPackSlice next() {
+			final Object element = peek();
+			if (element == end) {
+				throw new NoSuchElementException();
+			}
+			next = null;
+			if (element instanceof RuntimeException) {
+				next = end;
+				throw (RuntimeException) element;
+			}
+			return (VPackSlice) element;
+		}
+
+		private Object peek() {
+			if (next == null) {
+				if (stopped) {
+					next = abandoned != null ? abandoned : end;
+				} else {
+					try {
+						next = queue.take();
+					} catch (final InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new ArangoDBException(e);
+					}
+				}
+			}
+			return next;
+		}
+
+		void stop() {
+			stopped = true;
+			queue.clear();
+			if (started.compareAndSet(false, true)) {
+				// not yet started by the executor
+				finished.countDown();
+			}
+			if (thread == Thread.currentThread()) {
+				// closing an abandoned cursor
+				return;
+			}
+			try {
+				finished.await();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+	}
+
 }
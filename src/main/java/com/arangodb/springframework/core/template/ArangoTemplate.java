@@ -25,14 +25,23 @@ import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoDB;
 import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoDatabase;
+import com.arangodb.ArangoSearch;
+import com.arangodb.entity.AqlExecutionExplainEntity;
 import com.arangodb.entity.ArangoDBVersion;
 import com.arangodb.entity.DocumentEntity;
+import com.arangodb.entity.ErrorEntity;
 import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.entity.ServerRole;
+import com.arangodb.entity.StreamTransactionEntity;
 import com.arangodb.entity.UserEntity;
+import com.arangodb.entity.arangosearch.CollectionLink;
+import com.arangodb.entity.arangosearch.FieldLink;
+import com.arangodb.model.AqlQueryExplainOptions;
 import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.model.CollectionCreateOptions;
 import com.arangodb.model.DocumentCreateOptions;
 import com.arangodb.model.DocumentDeleteOptions;
+import com.arangodb.model.DocumentExistsOptions;
 import com.arangodb.model.DocumentReadOptions;
 import com.arangodb.model.DocumentReplaceOptions;
 import com.arangodb.model.DocumentUpdateOptions;
@@ -41,31 +50,54 @@ import com.arangodb.model.GeoIndexOptions;
 import com.arangodb.model.HashIndexOptions;
 import com.arangodb.model.PersistentIndexOptions;
 import com.arangodb.model.SkiplistIndexOptions;
+import com.arangodb.model.StreamTransactionOptions;
 import com.arangodb.model.TtlIndexOptions;
+import com.arangodb.model.arangosearch.ArangoSearchCreateOptions;
+import com.arangodb.model.arangosearch.ArangoSearchPropertiesOptions;
 import com.arangodb.springframework.annotation.FulltextIndex;
 import com.arangodb.springframework.annotation.GeoIndex;
 import com.arangodb.springframework.annotation.HashIndex;
+import com.arangodb.springframework.annotation.MultiDimensionalIndex;
 import com.arangodb.springframework.annotation.PersistentIndex;
+import com.arangodb.springframework.annotation.PersistentIndexed;
+import com.arangodb.springframework.annotation.Relations.Direction;
+import com.arangodb.springframework.annotation.SearchView;
 import com.arangodb.springframework.annotation.SkiplistIndex;
 import com.arangodb.springframework.annotation.TtlIndex;
+import com.arangodb.springframework.annotation.VertexCentricIndex;
 import com.arangodb.springframework.core.ArangoOperations;
 import com.arangodb.springframework.core.CollectionOperations;
 import com.arangodb.springframework.core.UserOperations;
+import com.arangodb.springframework.core.aggregation.Aggregation;
 import com.arangodb.springframework.core.convert.ArangoConverter;
+import com.arangodb.springframework.core.convert.FetchPlan;
+import com.arangodb.springframework.core.convert.IdentityMap;
 import com.arangodb.springframework.core.convert.resolver.ResolverFactory;
 import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
 import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.core.mapping.event.AfterConvertCallback;
 import com.arangodb.springframework.core.mapping.event.AfterDeleteEvent;
 import com.arangodb.springframework.core.mapping.event.AfterLoadEvent;
+import com.arangodb.springframework.core.mapping.event.AfterSaveCallback;
 import com.arangodb.springframework.core.mapping.event.AfterSaveEvent;
 import com.arangodb.springframework.core.mapping.event.ArangoMappingEvent;
+import com.arangodb.springframework.core.mapping.event.BeforeConvertCallback;
 import com.arangodb.springframework.core.mapping.event.BeforeDeleteEvent;
+import com.arangodb.springframework.core.mapping.event.BeforeSaveCallback;
 import com.arangodb.springframework.core.mapping.event.BeforeSaveEvent;
+import com.arangodb.springframework.core.query.CriteriaQuery;
+import com.arangodb.springframework.core.traversal.GraphTraversal;
+import com.arangodb.springframework.core.traversal.GraphTraversal.Returns;
+import com.arangodb.springframework.core.traversal.TraversalPath;
 import com.arangodb.springframework.core.template.DefaultUserOperation.CollectionCallback;
+import com.arangodb.springframework.core.util.AqlUtils;
 import com.arangodb.springframework.core.util.ArangoExceptionTranslator;
 import com.arangodb.springframework.core.util.MetadataUtils;
+import com.arangodb.springframework.transaction.ArangoTransactionHolder;
 import com.arangodb.util.MapBuilder;
+import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -76,22 +108,40 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.domain.Persistable;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.callback.EntityCallback;
+import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ParserContext;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -112,21 +162,42 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	private static final String REPSERT_QUERY = "LET doc = @doc " + REPSERT_QUERY_BODY;
 	private static final String REPSERT_MANY_QUERY = "FOR doc IN @docs " + REPSERT_QUERY_BODY;
 
+	private static final String _KEY = "_key";
+	private static final String _ID = "_id";
+
+	/**
+	 * Errors of queries failing before they write: unknown collection, parse error, missing, undeclared or invalid
+	 * bind parameters
+	 */
+	private static final Set<Integer> PRE_WRITE_ERRORS = new HashSet<>(Arrays.asList(1203, 1501, 1551, 1552, 1553));
+
 	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
 
 	private volatile ArangoDBVersion version;
+	private volatile ServerRole role;
 	private final PersistenceExceptionTranslator exceptionTranslator;
 	private final ArangoConverter converter;
 	private final ResolverFactory resolverFactory;
 	private final ArangoDB arango;
 	private final String databaseName;
 	private final Expression databaseExpression;
-	private final Map<String, ArangoDatabase> databaseCache;
-	private final Map<CollectionCacheKey, CollectionCacheValue> collectionCache;
+	private final ResourceCache<String, ArangoDatabase> databaseCache;
+	private final ResourceCache<CollectionCacheKey, CollectionCacheValue> collectionCache;
+	private final QueryResultCache queryResultCache;
 
 	private final StandardEvaluationContext context;
 
 	private ApplicationEventPublisher eventPublisher;
+	private EntityCallbacks entityCallbacks;
+	private ReadCoalescer readCoalescer;
+	private WriteCoalescer writeCoalescer;
+	private SlowQueryLog slowQueryLog;
+	private volatile Executor provisioningExecutor = Runnable::run;
+	private volatile boolean assumeExists = false;
+	private volatile CursorOptions defaultCursorOptions;
+	private volatile Executor decodeExecutor;
+	private volatile Executor asyncExecutor;
+	private final ThreadLocal<String> boundDatabaseName = new ThreadLocal<>();
 
 	public ArangoTemplate(final ArangoDB arango, final String database, final ArangoConverter converter,
 			final ResolverFactory resolverFactory) {
@@ -136,29 +207,56 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	public ArangoTemplate(final ArangoDB arango, final String database, final ArangoConverter converter,
 			final ResolverFactory resolverFactory, final PersistenceExceptionTranslator exceptionTranslator) {
 		super();
-		this.arango = arango._setCursorInitializer(new ArangoCursorInitializer(converter));
+		this.arango = arango._setCursorInitializer(new ArangoCursorInitializer(converter, null,
+			this::getDefaultCursorOptions, this::getEntityCallbacks, this::getDecodeExecutor, this::captureThreadContext));
 		this.databaseName = database;
 		this.databaseExpression = PARSER.parseExpression(databaseName, ParserContext.TEMPLATE_EXPRESSION);
 		this.converter = converter;
 		this.resolverFactory = resolverFactory;
 		this.exceptionTranslator = exceptionTranslator;
 		this.context = new StandardEvaluationContext();
-		// set concurrency level to 1 as writes are very rare compared to reads
-		collectionCache = new ConcurrentHashMap<>(8, 0.9f, 1);
-		databaseCache = new ConcurrentHashMap<>(8, 0.9f, 1);
+		collectionCache = new ResourceCache<>();
+		databaseCache = new ResourceCache<>();
+		queryResultCache = new QueryResultCache(this::databaseName);
 		version = null;
 	}
 
+	@Override
+	public String getDatabaseName() {
+		return databaseName();
+	}
+
+	private String databaseName() {
+		final String bound = boundDatabaseName.get();
+		if (bound != null) {
+			return bound;
+		}
+		return databaseExpression != null ? databaseExpression.getValue(context, String.class) : databaseName;
+	}
+
+	/**
+	 * Captures the database and the stream transaction of the current thread, to continue an operation on other
+	 * threads.
+	 */
+	private ThreadContext captureThreadContext() {
+		return new ThreadContext(boundDatabaseName, databaseName(), this,
+				TransactionSynchronizationManager.getResource(this));
+	}
+
 	private ArangoDatabase db() {
-		final String key = databaseExpression != null ? databaseExpression.getValue(context, String.class)
-				: databaseName;
-		return databaseCache.computeIfAbsent(key, name -> {
-			final ArangoDatabase db = arango.db(name);
-			if (!db.exists()) {
-				db.create();
-			}
-			return db;
-		});
+		return databaseCache.get(databaseName(), this::openDatabase, provisioningExecutor);
+	}
+
+	private ArangoDatabase openDatabase(final String name) {
+		final ArangoDatabase db = arango.db(name);
+		if (!assumeExists && !db.exists()) {
+			db.create();
+		}
+		return db;
+	}
+
+	private void invalidateQueryResults(final ArangoCollection collection) {
+		queryResultCache.invalidate(collection.db().name(), collection.name());
 	}
 
 	private DataAccessException translateExceptionIfPossible(final RuntimeException exception) {
@@ -185,19 +283,20 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
 		final ArangoDatabase db = db();
 		final Class<?> entityClass = persistentEntity != null ? persistentEntity.getType() : null;
-		final CollectionCacheValue value = collectionCache.computeIfAbsent(new CollectionCacheKey(db.name(), name),
-				key -> {
-					final ArangoCollection collection = db.collection(name);
-					if (!collection.exists()) {
-						collection.create(options);
-					}
-					return new CollectionCacheValue(collection);
-				});
+		final CollectionCacheValue value = collectionCache.get(new CollectionCacheKey(db.name(), name), key -> {
+			final ArangoCollection collection = db.collection(name);
+			if (!assumeExists && !collection.exists()) {
+				collection.create(options);
+			}
+			return new CollectionCacheValue(collection);
+		}, provisioningExecutor);
 		final Collection<Class<?>> entities = value.getEntities();
 		final ArangoCollection collection = value.getCollection();
 		if (persistentEntity != null && !entities.contains(entityClass)) {
 			value.addEntityClass(entityClass);
 			ensureCollectionIndexes(collection(collection), persistentEntity);
+			persistentEntity.getSearchView()
+					.ifPresent(view -> ensureSearchView(db, collection.name(), view, persistentEntity));
 		}
 		return collection;
 	}
@@ -214,6 +313,10 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		persistentEntity.getGeoIndexedProperties().stream().forEach(p -> ensureGeoIndex(collection, p));
 		persistentEntity.getFulltextIndexes().stream().forEach(index -> ensureFulltextIndex(collection, index));
 		persistentEntity.getFulltextIndexedProperties().stream().forEach(p -> ensureFulltextIndex(collection, p));
+		persistentEntity.getMultiDimensionalIndexes().stream()
+				.forEach(index -> ensureMultiDimensionalIndex(collection, index));
+		persistentEntity.getVertexCentricIndexes().stream()
+				.forEach(index -> ensureVertexCentricIndex(collection, index));
 		persistentEntity.getTtlIndex().ifPresent(index -> ensureTtlIndex(collection, index));
 		persistentEntity.getTtlIndexedProperty().ifPresent(p -> ensureTtlIndex(collection, p));
 	}
@@ -244,15 +347,48 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	}
 
 	private static void ensurePersistentIndex(final CollectionOperations collection, final PersistentIndex annotation) {
-		collection.ensurePersistentIndex(Arrays.asList(annotation.fields()),
-				new PersistentIndexOptions().unique(annotation.unique()).sparse(annotation.sparse()));
+		ensurePersistentIndex(collection, Arrays.asList(annotation.fields()), annotation.unique(), annotation.sparse(),
+			annotation.storedValues(), annotation.inBackground(), annotation.estimates(), annotation.cacheEnabled());
 	}
 
 	private static void ensurePersistentIndex(final CollectionOperations collection,
 			final ArangoPersistentProperty value) {
-		final PersistentIndexOptions options = new PersistentIndexOptions();
-		value.getPersistentIndexed().ifPresent(i -> options.unique(i.unique()).sparse(i.sparse()));
-		collection.ensurePersistentIndex(Collections.singleton(value.getFieldName()), options);
+		final Collection<String> fields = Collections.singleton(value.getFieldName());
+		final Optional<PersistentIndexed> annotation = value.getPersistentIndexed();
+		if (annotation.isPresent()) {
+			final PersistentIndexed i = annotation.get();
+			ensurePersistentIndex(collection, fields, i.unique(), i.sparse(), i.storedValues(), i.inBackground(),
+				i.estimates(), i.cacheEnabled());
+		} else {
+			collection.ensurePersistentIndex(fields, new PersistentIndexOptions());
+		}
+	}
+
+	/**
+	 * Options beyond {@code unique} and {@code sparse} are not supported by {@link PersistentIndexOptions} of all
+	 * driver versions, so indexes using them are created from a raw index definition.
+	 */
+	private static void ensurePersistentIndex(
+		final CollectionOperations collection,
+		final Collection<String> fields,
+		final boolean unique,
+		final boolean sparse,
+		final String[] storedValues,
+		final boolean inBackground,
+		final boolean estimates,
+		final boolean cacheEnabled) {
+
+		if (storedValues.length == 0 && !inBackground && estimates && !cacheEnabled) {
+			collection.ensurePersistentIndex(fields, new PersistentIndexOptions().unique(unique).sparse(sparse));
+			return;
+		}
+		final MapBuilder definition = new MapBuilder().put("type", "persistent").put("fields", fields)
+				.put("unique", unique).put("sparse", sparse).put("estimates", estimates)
+				.put("inBackground", inBackground).put("cacheEnabled", cacheEnabled);
+		if (storedValues.length > 0) {
+			definition.put("storedValues", Arrays.asList(storedValues));
+		}
+		collection.ensureIndex(definition.get());
 	}
 
 	private static void ensureGeoIndex(final CollectionOperations collection, final GeoIndex annotation) {
@@ -278,6 +414,36 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		collection.ensureFulltextIndex(Collections.singleton(value.getFieldName()), options);
 	}
 
+	private static void ensureMultiDimensionalIndex(
+		final CollectionOperations collection,
+		final MultiDimensionalIndex annotation) {
+		collection.ensureIndex(new MapBuilder().put("type", "zkd").put("fields", Arrays.asList(annotation.fields()))
+				.put("fieldValueTypes", "double").put("unique", annotation.unique())
+				.put("inBackground", annotation.inBackground()).get());
+	}
+
+	private static void ensureVertexCentricIndex(
+		final CollectionOperations collection,
+		final VertexCentricIndex annotation) {
+		if (annotation.direction() != Direction.INBOUND) {
+			ensureVertexCentricIndex(collection, "_from", annotation);
+		}
+		if (annotation.direction() != Direction.OUTBOUND) {
+			ensureVertexCentricIndex(collection, "_to", annotation);
+		}
+	}
+
+	private static void ensureVertexCentricIndex(
+		final CollectionOperations collection,
+		final String vertexField,
+		final VertexCentricIndex annotation) {
+		final List<String> fields = new ArrayList<>();
+		fields.add(vertexField);
+		fields.addAll(Arrays.asList(annotation.fields()));
+		ensurePersistentIndex(collection, fields, false, annotation.sparse(), new String[0],
+			annotation.inBackground(), true, false);
+	}
+
 	private static void ensureTtlIndex(final CollectionOperations collection, final TtlIndex annotation) {
 		collection.ensureTtlIndex(Collections.singleton(annotation.field()),
 				new TtlIndexOptions().expireAfter(annotation.expireAfter()));
@@ -289,6 +455,33 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		collection.ensureTtlIndex(Collections.singleton(value.getFieldName()), options);
 	}
 
+	/**
+	 * Creates the view declared on the entity with a link to its collection, or adds the link to the existing view.
+	 */
+	private static void ensureSearchView(final ArangoDatabase db, final String collection, final SearchView annotation,
+			final ArangoPersistentEntity<?> persistentEntity) {
+		final CollectionLink link = CollectionLink.on(collection).includeAllFields(annotation.includeAllFields());
+		if (annotation.analyzers().length > 0) {
+			link.analyzers(annotation.analyzers());
+		}
+		final FieldLink[] fields = persistentEntity.getSearchFieldProperties().stream()
+				.map(p -> FieldLink.on(p.getFieldName()).analyzers(p.getSearchField().get().analyzers()))
+				.toArray(FieldLink[]::new);
+		if (fields.length > 0) {
+			link.fields(fields);
+		}
+		final ArangoSearch view = db.arangoSearch(annotation.value());
+		if (!view.exists()) {
+			try {
+				view.create(new ArangoSearchCreateOptions().link(link));
+				return;
+			} catch (final ArangoDBException e) {
+				// created concurrently, add the link below
+			}
+		}
+		view.updateProperties(new ArangoSearchPropertiesOptions().link(link));
+	}
+
 	private Optional<String> determineCollectionFromId(final Object id) {
 		return id != null ? Optional.ofNullable(MetadataUtils.determineCollectionFromId(converter.convertId(id)))
 				: Optional.empty();
@@ -314,10 +507,24 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		final T result = converter.read(entityClass, source);
 		if (result != null) {
 			potentiallyEmitEvent(new AfterLoadEvent<>(result));
+			if (entityCallbacks != null) {
+				final String collection = converter.getMappingContext().hasPersistentEntityFor(entityClass)
+						? collectionName(entityClass)
+						: null;
+				return entityCallbacks.callback(AfterConvertCallback.class, result, collection);
+			}
 		}
 		return result;
 	}
 
+	private String collectionName(final Class<?> entityClass) {
+		return converter.getMappingContext().getRequiredPersistentEntity(entityClass).getCollection();
+	}
+
+	private String collectionName(final Class<?> entityClass, final Object id) {
+		return determineCollectionFromId(id).orElseGet(() -> collectionName(entityClass));
+	}
+
 	@Override
 	public ArangoDB driver() {
 		return arango;
@@ -354,8 +561,215 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
 	@Override
 	public <T> ArangoCursor<T> query(final String query, final Map<String, Object> bindVars,
-			final AqlQueryOptions options, final Class<T> entityClass) throws DataAccessException {
-		return db().query(query, bindVars == null ? null : prepareBindVars(bindVars), options, entityClass);
+			final AqlQueryOptions queryOptions, final Class<T> entityClass) throws DataAccessException {
+		final Map<String, Object> preparedBindVars = bindVars == null ? null : prepareBindVars(bindVars);
+		final AqlQueryOptions options = joinTransaction(queryOptions);
+		final SlowQueryLog log = slowQueryLog;
+		try {
+			if (log == null) {
+				return db().query(query, preparedBindVars, options, entityClass);
+			}
+			final ArangoDatabase db = db();
+			final long start = System.nanoTime();
+			final ArangoCursor<T> cursor = db.query(query, preparedBindVars, options, entityClass);
+			log.record(query, preparedBindVars, cursor, System.nanoTime() - start,
+				() -> CursorOptions.defaults().execute(() -> db.query(query, preparedBindVars,
+					new AqlQueryOptions().profile(true).batchSize(1), VPackSlice.class)), asyncExecutor);
+			return cursor;
+		} finally {
+			invalidateQueryResults(query, bindVars);
+		}
+	}
+
+	/**
+	 * Invalidates the cached results of the collections a write query may modify. As the query is not parsed, every
+	 * collection operand of a query containing a write operation is considered written.
+	 */
+	private void invalidateQueryResults(final String query, final Map<String, Object> bindVars) {
+		if (!AqlUtils.isWriteQuery(query)) {
+			return;
+		}
+		final String database = databaseName();
+		for (final String operand : AqlUtils.getCollectionOperands(query)) {
+			if (!operand.startsWith("@@")) {
+				queryResultCache.invalidate(database, operand);
+				continue;
+			}
+			final Object value = bindVars != null ? bindVars.get(operand.substring(1)) : null;
+			if (value instanceof Class) {
+				queryResultCache.invalidate(database, _collection((Class<?>) value).name());
+			} else if (value != null) {
+				queryResultCache.invalidate(database, value.toString());
+			}
+		}
+	}
+
+	@Override
+	public <T> ArangoCursor<T> query(final String query, final Map<String, Object> bindVars,
+			final AqlQueryOptions options, final Class<T> entityClass, final FetchPlan fetchPlan)
+			throws DataAccessException {
+		return fetchPlan.execute(() -> query(query, bindVars, options, entityClass));
+	}
+
+	@Override
+	public <T> ArangoCursor<T> query(final String query, final Map<String, Object> bindVars,
+			final AqlQueryOptions options, final Class<T> entityClass, final CursorOptions cursorOptions)
+			throws DataAccessException {
+		return cursorOptions.execute(() -> query(query, bindVars, options, entityClass));
+	}
+
+	@Override
+	public AqlExecutionExplainEntity explainQuery(final String query, final Map<String, Object> bindVars,
+			final AqlQueryExplainOptions options) throws DataAccessException {
+		try {
+			return db().explainQuery(query, bindVars == null ? null : prepareBindVars(bindVars), options);
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+	}
+
+	@Override
+	public StreamTransactionEntity beginStreamTransaction(final StreamTransactionOptions options)
+			throws DataAccessException {
+		try {
+			return db().beginStreamTransaction(options);
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+	}
+
+	@Override
+	public StreamTransactionEntity commitStreamTransaction(final String id) throws DataAccessException {
+		try {
+			return db().commitStreamTransaction(id);
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+	}
+
+	@Override
+	public StreamTransactionEntity abortStreamTransaction(final String id) throws DataAccessException {
+		try {
+			return db().abortStreamTransaction(id);
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+	}
+
+	/**
+	 * @return the id of the stream transaction bound to this template for the current thread, {@literal null} if there
+	 *         is none
+	 */
+	private String transactionId() {
+		final Object holder = TransactionSynchronizationManager.getResource(this);
+		return holder instanceof ArangoTransactionHolder ? ((ArangoTransactionHolder) holder).getTransactionId()
+				: null;
+	}
+
+	private AqlQueryOptions joinTransaction(final AqlQueryOptions options) {
+		final String id = transactionId();
+		if (id == null || (options != null && options.getStreamTransactionId() != null)) {
+			return options;
+		}
+		return (options != null ? options : new AqlQueryOptions()).streamTransactionId(id);
+	}
+
+	private DocumentCreateOptions joinTransaction(final DocumentCreateOptions options) {
+		final String id = transactionId();
+		return id != null && options.getStreamTransactionId() == null ? options.streamTransactionId(id) : options;
+	}
+
+	private DocumentReadOptions joinTransaction(final DocumentReadOptions options) {
+		final String id = transactionId();
+		return id != null && options.getStreamTransactionId() == null ? options.streamTransactionId(id) : options;
+	}
+
+	private DocumentUpdateOptions joinTransaction(final DocumentUpdateOptions options) {
+		final String id = transactionId();
+		return id != null && options.getStreamTransactionId() == null ? options.streamTransactionId(id) : options;
+	}
+
+	private DocumentReplaceOptions joinTransaction(final DocumentReplaceOptions options) {
+		final String id = transactionId();
+		return id != null && options.getStreamTransactionId() == null ? options.streamTransactionId(id) : options;
+	}
+
+	private DocumentDeleteOptions joinTransaction(final DocumentDeleteOptions options) {
+		final String id = transactionId();
+		return id != null && options.getStreamTransactionId() == null ? options.streamTransactionId(id) : options;
+	}
+
+	@Override
+	public <T> ArangoCursor<T> aggregate(final Aggregation aggregation, final Class<?> entityClass,
+			final Class<T> resultType) throws DataAccessException {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String query = aggregation.buildQuery(converter.getMappingContext(), entityClass, bindVars);
+		return query(query, bindVars, null, resultType);
+	}
+
+	@Override
+	public <T> ArangoCursor<T> find(final CriteriaQuery query, final Class<T> entityClass) throws DataAccessException {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String aql = query.buildQuery(converter.getMappingContext(), entityClass,
+			converter.getTypeMapper().getTypeKey(), bindVars);
+		return query.hasFields() ? IdentityMap.isolate(() -> query(aql, bindVars, null, entityClass))
+				: query(aql, bindVars, null, entityClass);
+	}
+
+	@Override
+	public long count(final CriteriaQuery query, final Class<?> entityClass) throws DataAccessException {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String aql = query.buildCountQuery(converter.getMappingContext(), entityClass, bindVars);
+		final Long count = query(aql, bindVars, null, Long.class).first();
+		return count != null ? count : 0L;
+	}
+
+	@Override
+	public <V> ArangoCursor<V> traverse(final GraphTraversal traversal, final Class<V> vertexType)
+			throws DataAccessException {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String query = traversal.buildQuery(converter.getMappingContext(), vertexType, null, Returns.VERTICES,
+			bindVars);
+		return query(query, bindVars, null, vertexType);
+	}
+
+	@Override
+	public <E> ArangoCursor<E> traverseEdges(final GraphTraversal traversal, final Class<?> vertexType,
+			final Class<E> edgeType) throws DataAccessException {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String query = traversal.buildQuery(converter.getMappingContext(), vertexType, edgeType, Returns.EDGES,
+			bindVars);
+		return query(query, bindVars, null, edgeType);
+	}
+
+	@Override
+	public <V, E> Stream<TraversalPath<V, E>> traversePaths(final GraphTraversal traversal, final Class<V> vertexType,
+			final Class<E> edgeType) throws DataAccessException {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String query = traversal.buildQuery(converter.getMappingContext(), vertexType, edgeType, Returns.PATHS,
+			bindVars);
+		final ArangoCursor<VPackSlice> cursor = query(query, bindVars, null, VPackSlice.class);
+		final IdentityMap identityMap = IdentityMap.currentOrCreate();
+		return StreamSupport.stream(cursor.spliterator(), false).map(path -> identityMap
+				.execute(() -> new TraversalPath<V, E>(readPathElements(path.get("vertices"), vertexType),
+					readPathElements(path.get("edges"), edgeType))))
+				.onClose(() -> closeCursor(cursor));
+	}
+
+	private static void closeCursor(final ArangoCursor<?> cursor) {
+		try {
+			cursor.close();
+		} catch (final IOException e) {
+			// the server discards the cursor after its ttl
+		}
+	}
+
+	private <T> List<T> readPathElements(final VPackSlice elements, final Class<T> type) {
+		final List<T> result = new ArrayList<>(elements.size());
+		for (final Iterator<VPackSlice> iterator = elements.arrayIterator(); iterator.hasNext();) {
+			result.add(fromVPack(type, iterator.next()));
+		}
+		return result;
 	}
 
 	private Map<String, Object> prepareBindVars(final Map<String, Object> bindVars) {
@@ -378,7 +792,9 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
 		MultiDocumentEntity<? extends DocumentEntity> result;
 		try {
-			result = _collection(entityClass).deleteDocuments(toVPackCollection(values), entityClass, options);
+			final ArangoCollection collection = _collection(entityClass);
+			result = collection.deleteDocuments(toVPackCollection(values), entityClass, joinTransaction(options));
+			invalidateQueryResults(collection);
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
@@ -401,7 +817,9 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
 		final DocumentEntity result;
 		try {
-			result = _collection(entityClass, id).deleteDocument(determineDocumentKeyFromId(id), entityClass, options);
+			final ArangoCollection collection = _collection(entityClass, id);
+			result = collection.deleteDocument(determineDocumentKeyFromId(id), entityClass, joinTransaction(options));
+			invalidateQueryResults(collection);
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
@@ -412,24 +830,43 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
 	@Override
 	public DocumentEntity delete(final Object id, final Class<?> entityClass) throws DataAccessException {
-		return delete(id, entityClass, new DocumentDeleteOptions());
+		if (writeCoalescer == null || transactionId() != null) {
+			return delete(id, entityClass, new DocumentDeleteOptions());
+		}
+
+		potentiallyEmitEvent(new BeforeDeleteEvent<>(id, entityClass));
+
+		final DocumentEntity result;
+		try {
+			final ArangoCollection collection = _collection(entityClass, id);
+			result = coalesceWrite(collection, "delete", determineDocumentKeyFromId(id),
+				keys -> collection.deleteDocuments(keys, entityClass, new DocumentDeleteOptions()));
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+
+		potentiallyEmitEvent(new AfterDeleteEvent<>(id, entityClass));
+		return result;
 	}
 
 	@Override
 	public <T> MultiDocumentEntity<? extends DocumentEntity> update(final Iterable<T> values,
 			final Class<T> entityClass, final DocumentUpdateOptions options) throws DataAccessException {
 
-		potentiallyEmitBeforeSaveEvent(values);
+		final String collectionName = collectionName(entityClass);
+		final List<T> entities = potentiallyEmitBeforeSaveEvent(values, collectionName);
 
 		final MultiDocumentEntity<? extends DocumentEntity> result;
 		try {
-			result = _collection(entityClass).updateDocuments(toVPackCollection(values), options);
+			final ArangoCollection collection = _collection(entityClass);
+			result = collection.updateDocuments(toVPackCollection(entities), joinTransaction(options));
+			invalidateQueryResults(collection);
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
 
-		updateDBFields(values, result);
-		potentiallyEmitAfterSaveEvent(values, result);
+		updateDBFields(values, entities, result);
+		potentiallyEmitAfterSaveEvent(entities, result, collectionName);
 		return result;
 	}
 
@@ -443,41 +880,65 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	public DocumentEntity update(final Object id, final Object value, final DocumentUpdateOptions options)
 			throws DataAccessException {
 
-		potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+		final String collectionName = collectionName(value.getClass(), id);
+		final Object entity = potentiallyEmitBeforeSaveEvent(value, collectionName);
 
 		final DocumentEntity result;
 		try {
-			result = _collection(value.getClass(), id).updateDocument(determineDocumentKeyFromId(id), toVPack(value),
-					options);
+			final ArangoCollection collection = _collection(value.getClass(), id);
+			result = collection.updateDocument(determineDocumentKeyFromId(id), toVPack(entity),
+				joinTransaction(options));
+			invalidateQueryResults(collection);
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
 
-		updateDBFields(value, result);
-		potentiallyEmitEvent(new AfterSaveEvent<>(value));
+		updateDBFields(value, entity, result);
+		potentiallyEmitAfterSaveEvent(entity, collectionName);
 		return result;
 	}
 
 	@Override
 	public DocumentEntity update(final Object id, final Object value) throws DataAccessException {
-		return update(id, value, new DocumentUpdateOptions());
+		if (writeCoalescer == null || transactionId() != null) {
+			return update(id, value, new DocumentUpdateOptions());
+		}
+
+		final String collectionName = collectionName(value.getClass(), id);
+		final Object entity = potentiallyEmitBeforeSaveEvent(value, collectionName);
+
+		final DocumentEntity result;
+		try {
+			final ArangoCollection collection = _collection(value.getClass(), id);
+			result = coalesceWrite(collection, "update", withKey(toVPack(entity), determineDocumentKeyFromId(id)),
+				docs -> collection.updateDocuments(docs, new DocumentUpdateOptions()));
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+
+		updateDBFields(value, entity, result);
+		potentiallyEmitAfterSaveEvent(entity, collectionName);
+		return result;
 	}
 
 	@Override
 	public <T> MultiDocumentEntity<? extends DocumentEntity> replace(final Iterable<T> values,
 			final Class<T> entityClass, final DocumentReplaceOptions options) throws DataAccessException {
 
-		potentiallyEmitBeforeSaveEvent(values);
+		final String collectionName = collectionName(entityClass);
+		final List<T> entities = potentiallyEmitBeforeSaveEvent(values, collectionName);
 
 		final MultiDocumentEntity<? extends DocumentEntity> result;
 		try {
-			result = _collection(entityClass).replaceDocuments(toVPackCollection(values), options);
+			final ArangoCollection collection = _collection(entityClass);
+			result = collection.replaceDocuments(toVPackCollection(entities), joinTransaction(options));
+			invalidateQueryResults(collection);
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
 
-		updateDBFields(values, result);
-		potentiallyEmitAfterSaveEvent(values, result);
+		updateDBFields(values, entities, result);
+		potentiallyEmitAfterSaveEvent(entities, result, collectionName);
 		return result;
 	}
 
@@ -490,24 +951,45 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	@Override
 	public DocumentEntity replace(final Object id, final Object value, final DocumentReplaceOptions options)
 			throws DataAccessException {
-		potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+		final String collectionName = collectionName(value.getClass(), id);
+		final Object entity = potentiallyEmitBeforeSaveEvent(value, collectionName);
 
 		final DocumentEntity result;
 		try {
-			result = _collection(value.getClass(), id).replaceDocument(determineDocumentKeyFromId(id), toVPack(value),
-					options);
+			final ArangoCollection collection = _collection(value.getClass(), id);
+			result = collection.replaceDocument(determineDocumentKeyFromId(id), toVPack(entity),
+				joinTransaction(options));
+			invalidateQueryResults(collection);
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
 
-		updateDBFields(value, result);
-		potentiallyEmitEvent(new AfterSaveEvent<>(value));
+		updateDBFields(value, entity, result);
+		potentiallyEmitAfterSaveEvent(entity, collectionName);
 		return result;
 	}
 
 	@Override
 	public DocumentEntity replace(final Object id, final Object value) throws DataAccessException {
-		return replace(id, value, new DocumentReplaceOptions());
+		if (writeCoalescer == null || transactionId() != null) {
+			return replace(id, value, new DocumentReplaceOptions());
+		}
+
+		final String collectionName = collectionName(value.getClass(), id);
+		final Object entity = potentiallyEmitBeforeSaveEvent(value, collectionName);
+
+		final DocumentEntity result;
+		try {
+			final ArangoCollection collection = _collection(value.getClass(), id);
+			result = coalesceWrite(collection, "replace", withKey(toVPack(entity), determineDocumentKeyFromId(id)),
+				docs -> collection.replaceDocuments(docs, new DocumentReplaceOptions()));
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+
+		updateDBFields(value, entity, result);
+		potentiallyEmitAfterSaveEvent(entity, collectionName);
+		return result;
 	}
 
 	@Override
@@ -515,8 +997,8 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 			throws DataAccessException {
 		try {
 			final VPackSlice doc = _collection(entityClass, id).getDocument(determineDocumentKeyFromId(id),
-					VPackSlice.class, options);
-			return Optional.ofNullable(fromVPack(entityClass, doc));
+					VPackSlice.class, joinTransaction(options));
+			return Optional.ofNullable(IdentityMap.join(() -> fromVPack(entityClass, doc)));
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
@@ -524,7 +1006,23 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
 	@Override
 	public <T> Optional<T> find(final Object id, final Class<T> entityClass) throws DataAccessException {
-		return find(id, entityClass, new DocumentReadOptions());
+		if (readCoalescer == null || transactionId() != null) {
+			return find(id, entityClass, new DocumentReadOptions());
+		}
+		try {
+			final ArangoCollection collection = _collection(entityClass, id);
+			final VPackSlice doc = readCoalescer.get(collection.db().name(), collection.name(),
+				determineDocumentKeyFromId(id), keys -> collection.getDocuments(keys, VPackSlice.class).getDocuments());
+			return Optional.ofNullable(IdentityMap.join(() -> fromVPack(entityClass, doc)));
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+	}
+
+	@Override
+	public <T> Optional<T> find(final Object id, final Class<T> entityClass, final FetchPlan fetchPlan)
+			throws DataAccessException {
+		return fetchPlan.execute(() -> find(id, entityClass));
 	}
 
 	@Override
@@ -534,34 +1032,237 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		return query(query, bindVars, null, entityClass).asListRemaining();
 	}
 
+	@Override
+	public <T> Stream<T> parallelScan(final Class<T> entityClass, final int partitions) throws DataAccessException {
+		Assert.isTrue(partitions > 0, "Partitions must be positive!");
+		try {
+			final ArangoCollection collection = _collection(entityClass);
+			final long count = collection.count().getCount();
+			final KeyRangeSpliterator<T> spliterator = new KeyRangeSpliterator<>(
+					determineKeyRangeBounds(collection, count, partitions), keyRangeQuery(collection, entityClass),
+					count / partitions);
+			return StreamSupport.stream(spliterator, true).onClose(spliterator::close);
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+	}
+
+	@Override
+	public <T> void parallelScan(final Class<T> entityClass, final int partitions, final Consumer<? super T> consumer)
+			throws DataAccessException {
+		parallelScan(entityClass, partitions, consumer, getAsyncExecutor());
+	}
+
+	@Override
+	public <T> void parallelScan(final Class<T> entityClass, final int partitions, final Consumer<? super T> consumer,
+			final Executor executor) throws DataAccessException {
+		Assert.isTrue(partitions > 0, "Partitions must be positive!");
+		try {
+			final ArangoCollection collection = _collection(entityClass);
+			final List<String> bounds = determineKeyRangeBounds(collection, collection.count().getCount(),
+				partitions);
+			final BiFunction<String, String, ArangoCursor<T>> rangeQuery = keyRangeQuery(collection, entityClass);
+			final List<CompletableFuture<Void>> ranges = new ArrayList<>();
+			for (int i = 0; i < bounds.size() - 1; i++) {
+				final String from = bounds.get(i);
+				final String to = bounds.get(i + 1);
+				ranges.add(CompletableFuture.runAsync(() -> {
+					try (ArangoCursor<T> cursor = rangeQuery.apply(from, to)) {
+						cursor.forEachRemaining(consumer);
+					} catch (final IOException e) {
+						// the cursor expires on the server anyway
+					}
+				}, executor));
+			}
+			CompletableFuture.allOf(ranges.toArray(new CompletableFuture<?>[0])).join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof ArangoDBException) {
+				throw translateExceptionIfPossible((ArangoDBException) e.getCause());
+			}
+			throw e;
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+	}
+
+	/**
+	 * Determines the keys splitting the collection into ranges of about the same number of documents. Each key is looked
+	 * up in the primary index by its offset from the previous one, so the index is scanned once in total. The returned
+	 * bounds start and end with {@literal null} for the open bounds of the first and last range.
+	 */
+	private List<String> determineKeyRangeBounds(final ArangoCollection collection, final long count,
+			final int partitions) {
+		final List<String> bounds = new ArrayList<>();
+		bounds.add(null);
+		if (partitions > 1 && count > 1) {
+			final StringBuilder query = new StringBuilder();
+			final Map<String, Object> bindVars = new HashMap<>();
+			bindVars.put("@col", collection.name());
+			final List<String> keys = new ArrayList<>();
+			long offset = 0;
+			for (int i = 1; i < partitions; i++) {
+				query.append("LET k").append(i).append(" = FIRST(FOR e IN @@col");
+				if (i > 1) {
+					// a missing previous key must not restart the scan at the beginning
+					query.append(" FILTER k").append(i - 1).append(" != null AND e._key >= k").append(i - 1);
+				}
+				query.append(" SORT e._key LIMIT @o").append(i).append(", 1 RETURN e._key) ");
+				final long next = count * i / partitions;
+				bindVars.put("o" + i, next - offset);
+				offset = next;
+				keys.add("k" + i);
+			}
+			query.append("FOR k IN [").append(String.join(", ", keys)).append("] FILTER k != null RETURN k");
+			for (final String key : query(query.toString(), bindVars, null, String.class)) {
+				// small collections map several offsets to the same key
+				if (!key.equals(bounds.get(bounds.size() - 1))) {
+					bounds.add(key);
+				}
+			}
+		}
+		bounds.add(null);
+		return bounds;
+	}
+
+	/**
+	 * Creates the query of the documents within a key range. The query is executed by the thread reading the range,
+	 * with the fetch plan, cursor options, database and stream transaction of the calling thread.
+	 */
+	private <T> BiFunction<String, String, ArangoCursor<T>> keyRangeQuery(final ArangoCollection collection,
+			final Class<T> entityClass) {
+		final FetchPlan fetchPlan = FetchPlan.current();
+		final CursorOptions cursorOptions = CursorOptions.current();
+		final ThreadContext threadContext = captureThreadContext();
+		return (from, to) -> {
+			final StringBuilder query = new StringBuilder("FOR e IN @@col");
+			final Map<String, Object> bindVars = new HashMap<>();
+			bindVars.put("@col", collection.name());
+			if (from != null) {
+				query.append(" FILTER e._key >= @from");
+				bindVars.put("from", from);
+			}
+			if (to != null) {
+				query.append(" FILTER e._key < @to");
+				bindVars.put("to", to);
+			}
+			query.append(" RETURN e");
+			final Supplier<ArangoCursor<T>> rangeQuery = () -> query(query.toString(), bindVars,
+				new AqlQueryOptions().stream(true), entityClass);
+			final Supplier<ArangoCursor<T>> planned = fetchPlan != null ? () -> fetchPlan.execute(rangeQuery)
+					: rangeQuery;
+			return threadContext.execute(cursorOptions != null ? () -> cursorOptions.execute(planned) : planned);
+		};
+	}
+
 	@Override
 	public <T> Iterable<T> find(final Iterable<? extends Object> ids, final Class<T> entityClass)
 			throws DataAccessException {
 		try {
 			final Collection<String> keys = new ArrayList<>();
 			ids.forEach(id -> keys.add(determineDocumentKeyFromId(id)));
-			final MultiDocumentEntity<VPackSlice> docs = _collection(entityClass).getDocuments(keys, VPackSlice.class);
-			return docs.getDocuments().stream().map(doc -> fromVPack(entityClass, doc)).collect(Collectors.toList());
+			final MultiDocumentEntity<VPackSlice> docs = _collection(entityClass).getDocuments(keys, VPackSlice.class,
+				joinTransaction(new DocumentReadOptions()));
+			return IdentityMap.join(() -> docs.getDocuments().stream().map(doc -> fromVPack(entityClass, doc))
+					.collect(Collectors.toList()));
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
 	}
 
+	@Override
+	public <T> MultiGetResult<T> findByIds(final Iterable<String> ids, final Class<T> entityClass)
+			throws DataAccessException {
+		// without an executor the collections are requested one after another by the calling thread
+		return findByIds(ids, entityClass, asyncExecutor != null ? getAsyncExecutor() : Runnable::run);
+	}
+
+	@Override
+	public <T> MultiGetResult<T> findByIds(final Iterable<String> ids, final Class<T> entityClass,
+			final Executor executor) throws DataAccessException {
+		final List<String> idList = new ArrayList<>();
+		final List<String> fullIds = new ArrayList<>();
+		final Map<String, Set<String>> keysByCollection = new LinkedHashMap<>();
+		for (final String id : ids) {
+			final String collection = determineCollectionFromId(id).orElseGet(
+				() -> converter.getMappingContext().getRequiredPersistentEntity(entityClass).getCollection());
+			final String key = determineDocumentKeyFromId(id);
+			keysByCollection.computeIfAbsent(collection, c -> new LinkedHashSet<>()).add(key);
+			idList.add(id);
+			fullIds.add(MetadataUtils.createIdFromCollectionAndKey(collection, key));
+		}
+
+		final Map<String, T> entitiesById = new HashMap<>();
+		try {
+			// collections and the transaction are resolved by the calling thread, as the database name may depend on it
+			final DocumentReadOptions options = joinTransaction(new DocumentReadOptions());
+			// a stream transaction does not serve concurrent requests
+			final boolean sequential = keysByCollection.size() == 1 || options.getStreamTransactionId() != null;
+			final Map<String, CompletableFuture<Collection<VPackSlice>>> requests = new LinkedHashMap<>();
+			keysByCollection.forEach((name, keys) -> {
+				final ArangoCollection collection = _collection(name);
+				final Supplier<Collection<VPackSlice>> request = () -> collection
+						.getDocuments(keys, VPackSlice.class, options).getDocuments();
+				requests.put(name, sequential ? CompletableFuture.completedFuture(request.get())
+						: CompletableFuture.supplyAsync(request, executor));
+			});
+			IdentityMap.join(() -> {
+				requests.forEach((collection, request) -> {
+					final Class<? extends T> type = determineEntityType(collection, entityClass);
+					for (final VPackSlice doc : request.join()) {
+						entitiesById.put(doc.get(_ID).getAsString(), fromVPack(type, doc));
+					}
+				});
+				return null;
+			});
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof ArangoDBException) {
+				throw translateExceptionIfPossible((ArangoDBException) e.getCause());
+			}
+			throw e;
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+
+		final Map<String, T> entitiesByRequestedId = new HashMap<>();
+		for (int i = 0; i < idList.size(); i++) {
+			final T entity = entitiesById.get(fullIds.get(i));
+			if (entity != null) {
+				entitiesByRequestedId.put(idList.get(i), entity);
+			}
+		}
+		return new MultiGetResult<>(idList, entitiesByRequestedId);
+	}
+
+	/**
+	 * Determines the entity type mapped to the given collection, which is assignable to the given type.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> Class<? extends T> determineEntityType(final String collection, final Class<T> type) {
+		final List<Class<?>> candidates = converter.getMappingContext().getPersistentEntities().stream()
+				.filter(entity -> type.isAssignableFrom(entity.getType()))
+				.filter(entity -> collection.equals(entity.getCollection()))
+				.<Class<?>> map(entity -> entity.getType()).collect(Collectors.toList());
+		return candidates.size() == 1 ? (Class<? extends T>) candidates.get(0) : type;
+	}
+
 	@Override
 	public <T> MultiDocumentEntity<? extends DocumentEntity> insert(final Iterable<T> values,
 			final Class<T> entityClass, final DocumentCreateOptions options) throws DataAccessException {
 
-		potentiallyEmitBeforeSaveEvent(values);
+		final String collectionName = collectionName(entityClass);
+		final List<T> entities = potentiallyEmitBeforeSaveEvent(values, collectionName);
 
 		final MultiDocumentEntity<? extends DocumentEntity> result;
 		try {
-			result = _collection(entityClass).insertDocuments(toVPackCollection(values), options);
+			final ArangoCollection collection = _collection(entityClass);
+			result = collection.insertDocuments(toVPackCollection(entities), joinTransaction(options));
+			invalidateQueryResults(collection);
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
 
-		updateDBFields(values, result);
-		potentiallyEmitAfterSaveEvent(values, result);
+		updateDBFields(values, entities, result);
+		potentiallyEmitAfterSaveEvent(entities, result, collectionName);
 		return result;
 	}
 
@@ -573,39 +1274,90 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
 	@Override
 	public DocumentEntity insert(final Object value, final DocumentCreateOptions options) throws DataAccessException {
-		potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+		final String collectionName = collectionName(value.getClass());
+		final Object entity = potentiallyEmitBeforeSaveEvent(value, collectionName);
 
 		final DocumentEntity result;
 		try {
-			result = _collection(value.getClass()).insertDocument(toVPack(value), options);
+			final ArangoCollection collection = _collection(value.getClass());
+			result = collection.insertDocument(toVPack(entity), joinTransaction(options));
+			invalidateQueryResults(collection);
 		} catch (final ArangoDBException e) {
 			throw exceptionTranslator.translateExceptionIfPossible(e);
 		}
 
-		updateDBFields(value, result);
-		potentiallyEmitEvent(new AfterSaveEvent<>(value));
+		updateDBFields(value, entity, result);
+		potentiallyEmitAfterSaveEvent(entity, collectionName);
 		return result;
 	}
 
 	@Override
 	public DocumentEntity insert(final Object value) throws DataAccessException {
-		return insert(value, new DocumentCreateOptions());
+		if (writeCoalescer == null || transactionId() != null) {
+			return insert(value, new DocumentCreateOptions());
+		}
+
+		final String collectionName = collectionName(value.getClass());
+		final Object entity = potentiallyEmitBeforeSaveEvent(value, collectionName);
+
+		final DocumentEntity result;
+		try {
+			final ArangoCollection collection = _collection(value.getClass());
+			result = coalesceWrite(collection, "insert", toVPack(entity),
+				docs -> collection.insertDocuments(docs, new DocumentCreateOptions()));
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+
+		updateDBFields(value, entity, result);
+		potentiallyEmitAfterSaveEvent(entity, collectionName);
+		return result;
+	}
+
+	/**
+	 * Writes the given document within a batch of the {@link WriteCoalescer}.
+	 */
+	private <D> DocumentEntity coalesceWrite(
+		final ArangoCollection collection,
+		final String operation,
+		final D document,
+		final Function<List<D>, MultiDocumentEntity<?>> executor) {
+		return writeCoalescer.write(collection.db().name(), collection.name(), operation, document, documents -> {
+			final MultiDocumentEntity<?> result = executor.apply(documents);
+			invalidateQueryResults(collection);
+			return result.getDocumentsAndErrors().stream()
+					.map(it -> it instanceof ErrorEntity ? new ArangoDBException((ErrorEntity) it) : it)
+					.collect(Collectors.toList());
+		});
+	}
+
+	private static VPackSlice withKey(final VPackSlice document, final String key) {
+		final VPackBuilder builder = new VPackBuilder().add(ValueType.OBJECT).add(_KEY, key);
+		for (final Iterator<Entry<String, VPackSlice>> iterator = document.objectIterator(); iterator.hasNext();) {
+			final Entry<String, VPackSlice> field = iterator.next();
+			if (!_KEY.equals(field.getKey())) {
+				builder.add(field.getKey(), field.getValue());
+			}
+		}
+		return builder.close().slice();
 	}
 
 	@Override
 	public DocumentEntity insert(final String collectionName, final Object value, final DocumentCreateOptions options)
 			throws DataAccessException {
-		potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+		final Object entity = potentiallyEmitBeforeSaveEvent(value, collectionName);
 
 		final DocumentEntity result;
 		try {
-			result = _collection(collectionName).insertDocument(toVPack(value), options);
+			final ArangoCollection collection = _collection(collectionName);
+			result = collection.insertDocument(toVPack(entity), joinTransaction(options));
+			invalidateQueryResults(collection);
 		} catch (final ArangoDBException e) {
 			throw exceptionTranslator.translateExceptionIfPossible(e);
 		}
 
-		updateDBFields(value, result);
-		potentiallyEmitEvent(new AfterSaveEvent<>(value));
+		updateDBFields(value, entity, result);
+		potentiallyEmitAfterSaveEvent(entity, collectionName);
 		return result;
 	}
 
@@ -684,37 +1436,112 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
 	@Override
 	public <T> void repsert(final T value) throws DataAccessException {
+		save(value);
+	}
+
+	@Override
+	public <T> T save(final T value) throws DataAccessException {
 		@SuppressWarnings("unchecked") final Class<T> clazz = (Class<T>) value.getClass();
-		final String collectionName = _collection(clazz).name();
+		final ArangoCollection collection = _collection(clazz);
+		final String collectionName = collection.name();
 
-		potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+		final T entity = potentiallyEmitBeforeSaveEvent(value, collectionName);
 
 		final T result;
 		try {
-			result = query(
-					REPSERT_QUERY,
-					new MapBuilder()
-							.put("@col", collectionName)
-							.put("doc", value)
-							.get(),
-					clazz
-			).first();
+			if (writeCoalescer != null && transactionId() == null) {
+				result = coalesceRepsert(collection, clazz, entity);
+			} else {
+				result = query(
+						REPSERT_QUERY,
+						new MapBuilder()
+								.put("@col", collectionName)
+								.put("doc", entity)
+								.get(),
+						clazz
+				).first();
+				invalidateQueryResults(collection);
+			}
 		} catch (final ArangoDBException e) {
 			throw exceptionTranslator.translateExceptionIfPossible(e);
 		}
 
-		updateDBFieldsFromObject(value, result);
-		potentiallyEmitEvent(new AfterSaveEvent<>(result));
+		updateDBFieldsFromObject(entity, result);
+		if (value != entity) {
+			updateDBFieldsFromObject(value, result);
+		}
+		return potentiallyEmitAfterSaveEvent(entity, collectionName);
+	}
+
+	/**
+	 * Repserts the given value within a batch of the {@link WriteCoalescer}. If the batch fails without having written
+	 * anything, its values are repserted one by one, so that only the writers of failing values get an error.
+	 * Otherwise, e.g. if a query on a cluster failed after writing part of the batch, repeating it could insert the
+	 * values without key a second time, so all writers get the error of the batch.
+	 */
+	private <T> T coalesceRepsert(final ArangoCollection collection, final Class<T> entityClass, final T value) {
+		final String collectionName = collection.name();
+		return writeCoalescer.write(collection.db().name(), collectionName, "repsert:" + entityClass.getName(), value,
+			values -> {
+				try {
+					return query(REPSERT_MANY_QUERY,
+						new MapBuilder().put("@col", collectionName).put("docs", values).get(), entityClass)
+								.asListRemaining();
+				} catch (final ArangoDBException e) {
+					if (values.size() == 1 || !isWriteRolledBack(e)) {
+						throw e;
+					}
+					final List<Object> results = new ArrayList<>(values.size());
+					for (final T it : values) {
+						try {
+							results.add(query(REPSERT_QUERY,
+								new MapBuilder().put("@col", collectionName).put("doc", it).get(), entityClass)
+										.first());
+						} catch (final ArangoDBException ex) {
+							results.add(ex);
+						}
+					}
+					return results;
+				} finally {
+					invalidateQueryResults(collection);
+				}
+			});
+	}
+
+	/**
+	 * Determines whether a failed write query provably wrote nothing. Queries on a single server are executed as a
+	 * transaction, on a cluster only queries failing before they write are.
+	 */
+	private boolean isWriteRolledBack(final ArangoDBException e) {
+		if (PRE_WRITE_ERRORS.contains(e.getErrorNum())) {
+			return true;
+		}
+		try {
+			if (role == null) {
+				role = arango.getRole();
+			}
+			return role == ServerRole.SINGLE;
+		} catch (final ArangoDBException ex) {
+			return false;
+		}
 	}
 
 	@Override
-	public <T> void repsert(final Iterable<? extends T> values, final Class<T> entityClass) throws DataAccessException {
+	public <T> void repsert(final Iterable<? extends T> values, final Class<T> entityClass)
+			throws DataAccessException {
+		saveAll(values, entityClass);
+	}
+
+	@Override
+	public <T> Iterable<T> saveAll(final Iterable<? extends T> values, final Class<T> entityClass)
+			throws DataAccessException {
 		if (!values.iterator().hasNext()) {
-			return;
+			return Collections.emptyList();
 		}
 
-		final String collectionName = _collection(entityClass).name();
-		potentiallyEmitBeforeSaveEvent(values);
+		final ArangoCollection collection = _collection(entityClass);
+		final String collectionName = collection.name();
+		final List<T> entities = potentiallyEmitBeforeSaveEvent(values, collectionName);
 
 		final Iterable<? extends T> result;
 		try {
@@ -722,16 +1549,22 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 					REPSERT_MANY_QUERY,
 					new MapBuilder()
 							.put("@col", collectionName)
-							.put("docs", values)
+							.put("docs", entities)
 							.get(),
 					entityClass
 			).asListRemaining();
+			invalidateQueryResults(collection);
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
 
+		updateDBFieldsFromObjects(entities, result);
 		updateDBFieldsFromObjects(values, result);
-		result.forEach(it -> potentiallyEmitEvent(new AfterSaveEvent<>(it)));
+		final List<T> saved = new ArrayList<>(entities.size());
+		for (final T entity : entities) {
+			saved.add(potentiallyEmitAfterSaveEvent(entity, collectionName));
+		}
+		return saved;
 	}
 
 	private void updateDBFieldsFromObjects(final Iterable<?> values, final Iterable<?> res) {
@@ -770,6 +1603,16 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		}
 	}
 
+	/**
+	 * Sets the key, id and revision of the saved documents on the saved entities and on the given values, which the
+	 * caller holds, in case the callbacks replaced them.
+	 */
+	private <T> void updateDBFields(final Iterable<T> values, final List<T> entities,
+			final MultiDocumentEntity<? extends DocumentEntity> res) {
+		updateDBFields(entities, res);
+		updateDBFields(values, res);
+	}
+
 	private <T> void updateDBFields(final Iterable<T> values, final MultiDocumentEntity<? extends DocumentEntity> res) {
 		final Iterator<T> valueIterator = values.iterator();
 		if (res.getErrors().isEmpty()) {
@@ -789,6 +1632,17 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		}
 	}
 
+	/**
+	 * Sets the key, id and revision of the saved document on the saved entity and on the given value, which the caller
+	 * holds, if the callbacks replaced it.
+	 */
+	private void updateDBFields(final Object value, final Object entity, final DocumentEntity documentEntity) {
+		updateDBFields(entity, documentEntity);
+		if (value != entity) {
+			updateDBFields(value, documentEntity);
+		}
+	}
+
 	private void updateDBFields(final Object value, final DocumentEntity documentEntity) {
 		final ArangoPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(value.getClass());
 		final PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(value);
@@ -805,7 +1659,8 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	@Override
 	public boolean exists(final Object id, final Class<?> entityClass) throws DataAccessException {
 		try {
-			return _collection(entityClass).documentExists(determineDocumentKeyFromId(id));
+			return _collection(entityClass).documentExists(determineDocumentKeyFromId(id),
+				new DocumentExistsOptions().streamTransactionId(transactionId()));
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
@@ -819,9 +1674,9 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
-		databaseCache.remove(db.name());
-		collectionCache.keySet().stream().filter(key -> key.getDb().equals(db.name()))
-				.forEach(key -> collectionCache.remove(key));
+		databaseCache.invalidate(db.name());
+		queryResultCache.invalidateDatabase(db.name());
+		collectionCache.invalidateAll(key -> key.getDb().equals(db.name()));
 	}
 
 	@Override
@@ -841,7 +1696,7 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	}
 
 	private CollectionOperations collection(final ArangoCollection collection) {
-		return new DefaultCollectionOperations(collection, collectionCache, exceptionTranslator);
+		return new DefaultCollectionOperations(collection, collectionCache, queryResultCache, exceptionTranslator);
 	}
 
 	@Override
@@ -869,7 +1724,174 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		context.setBeanResolver(new BeanFactoryResolver(applicationContext));
 		context.addPropertyAccessor(new BeanFactoryAccessor());
 		eventPublisher = applicationContext;
-		arango._setCursorInitializer(new ArangoCursorInitializer(converter, applicationContext));
+		if (entityCallbacks == null) {
+			entityCallbacks = EntityCallbacks.create(applicationContext);
+		}
+		arango._setCursorInitializer(new ArangoCursorInitializer(converter, applicationContext,
+			this::getDefaultCursorOptions, this::getEntityCallbacks, this::getDecodeExecutor, this::captureThreadContext));
+	}
+
+	/**
+	 * Sets the callbacks invoked around the conversion and writing of entities. By default the
+	 * {@link EntityCallback} beans of the application context are used.
+	 *
+	 * @param entityCallbacks
+	 *            the callbacks, {@literal null} to disable them
+	 */
+	public void setEntityCallbacks(final EntityCallbacks entityCallbacks) {
+		this.entityCallbacks = entityCallbacks;
+	}
+
+	public EntityCallbacks getEntityCallbacks() {
+		return entityCallbacks;
+	}
+
+	/**
+	 * Enables the coalescing of concurrent {@link #find(Object, Class)} calls into multi-document requests.
+	 *
+	 * @param readCoalescer
+	 *            the coalescer to use, {@literal null} to disable coalescing
+	 */
+	public void setReadCoalescer(final ReadCoalescer readCoalescer) {
+		this.readCoalescer = readCoalescer;
+	}
+
+	/**
+	 * Enables the coalescing of concurrent {@link #insert(Object)}, {@link #repsert(Object)},
+	 * {@link #update(Object, Object)}, {@link #replace(Object, Object)} and {@link #delete(Object, Class)} calls into
+	 * multi-document requests.
+	 *
+	 * @param writeCoalescer
+	 *            the coalescer to use, {@literal null} to disable coalescing
+	 */
+	public void setWriteCoalescer(final WriteCoalescer writeCoalescer) {
+		this.writeCoalescer = writeCoalescer;
+	}
+
+	/**
+	 * Provisions the given database in the background, creating it if it does not exist, so that the first access to
+	 * it does not have to. Joins a provisioning of the database which is already running.
+	 *
+	 * @param database
+	 *            name of the database, e.g. of a new tenant
+	 * @param executor
+	 *            the executor provisioning the database
+	 * @return completes when the database is available
+	 */
+	public CompletableFuture<Void> provisionDatabase(final String database, final Executor executor) {
+		return databaseCache.getAsync(database, this::openDatabase, executor).thenApply(db -> null);
+	}
+
+	/**
+	 * @return the cache of the databases in use, e.g. to limit its size or read its statistics
+	 */
+	public ResourceCache<?, ?> getDatabaseCache() {
+		return databaseCache;
+	}
+
+	/**
+	 * @return the cache of the collections in use, e.g. to limit its size or read its statistics
+	 */
+	public ResourceCache<?, ?> getCollectionCache() {
+		return collectionCache;
+	}
+
+	/**
+	 * Sets the executor provisioning databases and collections on their first use. The accessing threads wait for the
+	 * provisioning, concurrent accesses to the same database or collection share one provisioning.
+	 *
+	 * @param provisioningExecutor
+	 *            the executor, {@literal null} to provision in the accessing thread (default)
+	 */
+	public void setProvisioningExecutor(final Executor provisioningExecutor) {
+		this.provisioningExecutor = provisioningExecutor != null ? provisioningExecutor : Runnable::run;
+	}
+
+	/**
+	 * Skips the checks whether databases and collections exist, and their creation, on their first use. Indexes of
+	 * entities are still ensured.
+	 *
+	 * @param assumeExists
+	 *            whether all used databases and collections are known to exist
+	 */
+	public void setAssumeExists(final boolean assumeExists) {
+		this.assumeExists = assumeExists;
+	}
+
+	/**
+	 * Enables the recording of slow AQL queries.
+	 *
+	 * @param slowQueryLog
+	 *            the log to record to, {@literal null} to disable recording
+	 */
+	public void setSlowQueryLog(final SlowQueryLog slowQueryLog) {
+		this.slowQueryLog = slowQueryLog;
+	}
+
+	public SlowQueryLog getSlowQueryLog() {
+		return slowQueryLog;
+	}
+
+	/**
+	 * Sets the client side options of the cursors of queries executed without explicit {@link CursorOptions}.
+	 *
+	 * @param defaultCursorOptions
+	 *            the options, {@literal null} for {@link CursorOptions#defaults()}
+	 */
+	public void setDefaultCursorOptions(final CursorOptions defaultCursorOptions) {
+		this.defaultCursorOptions = defaultCursorOptions;
+	}
+
+	public CursorOptions getDefaultCursorOptions() {
+		return defaultCursorOptions;
+	}
+
+	/**
+	 * Sets the executor decoding the results of cursors in parallel whose {@link CursorOptions} do not give one. Its
+	 * threads resolve references within the database and stream transaction of the querying thread.
+	 *
+	 * @param decodeExecutor
+	 *            the executor, {@literal null} to fail queries decoding in parallel without an executor
+	 */
+	public void setDecodeExecutor(final Executor decodeExecutor) {
+		this.decodeExecutor = decodeExecutor;
+	}
+
+	public Executor getDecodeExecutor() {
+		return decodeExecutor;
+	}
+
+	/**
+	 * Sets the executor of the requests performed in the background or in parallel, e.g. the counts of
+	 * {@link com.arangodb.springframework.annotation.PageCount#ASYNC} page queries. The requests block the threads
+	 * of the executor, so it should not be the common {@link ForkJoinPool}.
+	 *
+	 * @param asyncExecutor
+	 *            the executor, {@literal null} to fail operations requiring one
+	 */
+	public void setAsyncExecutor(final Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	@Override
+	public Executor getAsyncExecutor() {
+		final Executor executor = asyncExecutor;
+		if (executor == null) {
+			throw new IllegalStateException("No async executor configured, see ArangoTemplate#setAsyncExecutor!");
+		}
+		return withThreadContext(executor);
+	}
+
+	@Override
+	public Executor withThreadContext(final Executor executor) {
+		Assert.notNull(executor, "Executor must not be null!");
+		return task -> {
+			final ThreadContext context = captureThreadContext();
+			executor.execute(() -> context.execute(() -> {
+				task.run();
+				return null;
+			}));
+		};
 	}
 
 	private void potentiallyEmitEvent(final ArangoMappingEvent<?> event) {
@@ -878,14 +1900,44 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		}
 	}
 
-	private void potentiallyEmitBeforeSaveEvent(final Iterable<?> values) {
-		for (final Object value : values) {
-			potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+	/**
+	 * Invokes the {@link BeforeConvertCallback}s, publishes the {@link BeforeSaveEvent} and invokes the
+	 * {@link BeforeSaveCallback}s for an entity to save.
+	 *
+	 * @return the entity to convert and save, which may be another instance than the given one
+	 */
+	private <T> T potentiallyEmitBeforeSaveEvent(final T value, final String collection) {
+		T entity = value;
+		if (entityCallbacks != null) {
+			entity = entityCallbacks.callback(BeforeConvertCallback.class, entity, collection);
+		}
+		potentiallyEmitEvent(new BeforeSaveEvent<>(entity));
+		if (entityCallbacks != null) {
+			entity = entityCallbacks.callback(BeforeSaveCallback.class, entity, collection);
+		}
+		return entity;
+	}
+
+	private <T> List<T> potentiallyEmitBeforeSaveEvent(final Iterable<? extends T> values, final String collection) {
+		final List<T> entities = new ArrayList<>();
+		for (final T value : values) {
+			entities.add(potentiallyEmitBeforeSaveEvent(value, collection));
 		}
+		return entities;
+	}
+
+	/**
+	 * Publishes the {@link AfterSaveEvent} and invokes the {@link AfterSaveCallback}s for a saved entity.
+	 *
+	 * @return the entity returned by the callbacks, which may be another instance than the given one
+	 */
+	private <T> T potentiallyEmitAfterSaveEvent(final T value, final String collection) {
+		potentiallyEmitEvent(new AfterSaveEvent<>(value));
+		return entityCallbacks != null ? entityCallbacks.callback(AfterSaveCallback.class, value, collection) : value;
 	}
 
 	private void potentiallyEmitAfterSaveEvent(final Iterable<?> values,
-			final MultiDocumentEntity<? extends DocumentEntity> result) {
+			final MultiDocumentEntity<? extends DocumentEntity> result, final String collection) {
 
 		final Iterator<?> valueIterator = values.iterator();
 		final Iterator<?> documentIterator = result.getDocumentsAndErrors().iterator();
@@ -894,7 +1946,7 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 			final Object nextDoc = documentIterator.next();
 			final Object nextValue = valueIterator.next();
 			if (nextDoc instanceof DocumentEntity) {
-				potentiallyEmitEvent(new AfterSaveEvent<>(nextValue));
+				potentiallyEmitAfterSaveEvent(nextValue, collection);
 			}
 		}
 	}
@@ -925,4 +1977,9 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		return this.resolverFactory;
 	}
 
+	@Override
+	public QueryResultCache getQueryResultCache() {
+		return queryResultCache;
+	}
+
 }
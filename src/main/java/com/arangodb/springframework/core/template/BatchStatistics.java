@@ -0,0 +1,103 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.function.Supplier;
+
+import com.arangodb.entity.CursorEntity;
+
+/**
+ * Size of the first result batch of the cursor created by a query, as received from the server. The statistics are
+ * recorded for the queries {@link #execute(Supplier) executed} with an instance.
+ */
+public final class BatchStatistics {
+
+	private static final ThreadLocal<BatchStatistics> CURRENT = new ThreadLocal<>();
+
+	private int documents;
+	private long bytes;
+	private boolean hasMore;
+	private boolean recorded;
+
+	/**
+	 * Executes the given query, recording the first batch of the created cursor in this instance.
+	 */
+	public <T> T execute(final Supplier<T> query) {
+		final BatchStatistics previous = CURRENT.get();
+		CURRENT.set(this);
+		try {
+			return query.get();
+		} finally {
+			if (previous != null) {
+				CURRENT.set(previous);
+			} else {
+				CURRENT.remove();
+			}
+		}
+	}
+
+	/**
+	 * Records the first batch of a cursor created by the current thread, if it executes a query with statistics.
+	 */
+	static void record(final CursorEntity result) {
+		final BatchStatistics statistics = CURRENT.get();
+		if (statistics != null && result.getResult() != null) {
+			statistics.documents = result.getResult().size();
+			statistics.bytes = result.getResult().getByteSize();
+			statistics.hasMore = Boolean.TRUE.equals(result.getHasMore());
+			statistics.recorded = true;
+		}
+	}
+
+	/**
+	 * @return whether a cursor has been created
+	 */
+	public boolean isRecorded() {
+		return recorded;
+	}
+
+	/**
+	 * @return number of documents in the batch
+	 */
+	public int getDocuments() {
+		return documents;
+	}
+
+	/**
+	 * @return serialized size of the batch in bytes
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * @return whether the cursor has more batches, so the batch was limited by its size
+	 */
+	public boolean hasMore() {
+		return hasMore;
+	}
+
+	@Override
+	public String toString() {
+		return "BatchStatistics [documents=" + documents + ", bytes=" + bytes + ", hasMore=" + hasMore + "]";
+	}
+
+}
@@ -0,0 +1,189 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * Client side options of the cursors created by a query, complementing the server side
+ * {@link com.arangodb.model.AqlQueryOptions}.
+ * <p>
+ * With {@link #prefetch(int) prefetching} enabled, the next batches of the cursor are requested in the background
+ * while the current batch is consumed. A prefetching cursor must be {@link java.io.Closeable#close() closed} if it is
+ * not consumed completely. Otherwise it is only closed once the prefetching waited for the consumer for the
+ * {@link #prefetchTimeout(Duration) prefetch timeout}.
+ * <p>
+ * With {@link #decodeInParallel(Executor) parallel decoding} enabled, the documents of each batch are mapped to
+ * entities concurrently by the threads of an explicitly given executor. References and relations are resolved within
+ * the database and stream transaction of the querying thread. The results and their
+ * {@link com.arangodb.springframework.core.mapping.event.AfterLoadEvent}s are still returned in the order of the
+ * cursor, by the consuming thread.
+ * <p>
+ * The options apply to the queries they are passed to, or to all queries if set as
+ * {@link ArangoTemplate#setDefaultCursorOptions(CursorOptions) default options}. Instances are immutable.
+ *
+ * @see com.arangodb.springframework.annotation.QueryOptions#prefetchBatches()
+ * @see com.arangodb.springframework.annotation.QueryOptions#parallelDecoding()
+ */
+public final class CursorOptions {
+
+	private static final CursorOptions DEFAULTS = new CursorOptions(0, null, Duration.ofSeconds(30), false, null);
+	private static final ThreadLocal<CursorOptions> CURRENT = new ThreadLocal<>();
+
+	private final int prefetchBatches;
+	private final Executor prefetchExecutor;
+	private final Duration prefetchTimeout;
+	private final boolean parallelDecoding;
+	private final Executor decodeExecutor;
+
+	private CursorOptions(final int prefetchBatches, final Executor prefetchExecutor, final Duration prefetchTimeout,
+		final boolean parallelDecoding, final Executor decodeExecutor) {
+		super();
+		this.prefetchBatches = prefetchBatches;
+		this.prefetchExecutor = prefetchExecutor;
+		this.prefetchTimeout = prefetchTimeout;
+		this.parallelDecoding = parallelDecoding;
+		this.decodeExecutor = decodeExecutor;
+	}
+
+	/**
+	 * Returns the options of a cursor fetching the next batch when the current one is consumed.
+	 */
+	public static CursorOptions defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * Returns the options of the query currently executed by this thread.
+	 *
+	 * @return the current options, {@literal null} if there are none
+	 */
+	public static CursorOptions current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Returns a copy of these options prefetching up to the given number of batches, each on a new daemon thread.
+	 *
+	 * @param batches
+	 *            maximum number of batches fetched ahead of the consumed one, {@code 0} to disable prefetching
+	 */
+	public CursorOptions prefetch(final int batches) {
+		return prefetch(batches, null);
+	}
+
+	/**
+	 * Returns a copy of these options prefetching up to the given number of batches.
+	 *
+	 * @param batches
+	 *            maximum number of batches fetched ahead of the consumed one, {@code 0} to disable prefetching
+	 * @param executor
+	 *            executor running the prefetching of a cursor for its whole lifetime, {@literal null} to use a new
+	 *            daemon thread per cursor
+	 */
+	public CursorOptions prefetch(final int batches, final Executor executor) {
+		Assert.isTrue(batches >= 0, "Prefetch batches must not be negative!");
+		return new CursorOptions(batches, executor, prefetchTimeout, parallelDecoding, decodeExecutor);
+	}
+
+	/**
+	 * Returns a copy of these options closing a prefetching cursor once its consumer did not take a document for the
+	 * given time, 30 seconds by default. The consumer gets an exception if it continues afterwards.
+	 *
+	 * @param timeout
+	 *            maximum time the prefetching waits for the consumer
+	 */
+	public CursorOptions prefetchTimeout(final Duration timeout) {
+		Assert.isTrue(timeout != null && !timeout.isNegative() && !timeout.isZero(),
+			"Prefetch timeout must be positive!");
+		return new CursorOptions(prefetchBatches, prefetchExecutor, timeout, parallelDecoding, decodeExecutor);
+	}
+
+	/**
+	 * Returns a copy of these options decoding the documents of each batch in parallel on the
+	 * {@link ArangoTemplate#setDecodeExecutor(Executor) decode executor of the template}. Queries fail if the template
+	 * has none.
+	 */
+	public CursorOptions decodeInParallel() {
+		return new CursorOptions(prefetchBatches, prefetchExecutor, prefetchTimeout, true, null);
+	}
+
+	/**
+	 * Returns a copy of these options decoding the documents of each batch in parallel.
+	 *
+	 * @param executor
+	 *            executor decoding the documents, {@literal null} to decode them sequentially by the consuming thread
+	 */
+	public CursorOptions decodeInParallel(final Executor executor) {
+		return new CursorOptions(prefetchBatches, prefetchExecutor, prefetchTimeout, executor != null, executor);
+	}
+
+	public int getPrefetchBatches() {
+		return prefetchBatches;
+	}
+
+	public Executor getPrefetchExecutor() {
+		return prefetchExecutor;
+	}
+
+	public Duration getPrefetchTimeout() {
+		return prefetchTimeout;
+	}
+
+	public boolean isParallelDecoding() {
+		return parallelDecoding;
+	}
+
+	/**
+	 * @return the executor decoding the documents, {@literal null} to use the one of the template if
+	 *         {@link #isParallelDecoding() decoding in parallel}
+	 */
+	public Executor getDecodeExecutor() {
+		return decodeExecutor;
+	}
+
+	/**
+	 * Executes the given query with these options as {@link #current() current options}.
+	 */
+	public <T> T execute(final Supplier<T> query) {
+		final CursorOptions previous = CURRENT.get();
+		CURRENT.set(this);
+		try {
+			return query.get();
+		} finally {
+			if (previous != null) {
+				CURRENT.set(previous);
+			} else {
+				CURRENT.remove();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "CursorOptions [prefetchBatches=" + prefetchBatches + ", parallelDecoding=" + parallelDecoding + "]";
+	}
+
+}
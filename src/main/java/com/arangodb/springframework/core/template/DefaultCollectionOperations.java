@@ -38,6 +38,7 @@ import com.arangodb.model.PersistentIndexOptions;
 import com.arangodb.model.SkiplistIndexOptions;
 import com.arangodb.model.TtlIndexOptions;
 import com.arangodb.springframework.core.CollectionOperations;
+import com.arangodb.velocystream.Response;
 
 /**
  * @author Mark Vollmary
@@ -46,14 +47,17 @@ import com.arangodb.springframework.core.CollectionOperations;
 public class DefaultCollectionOperations implements CollectionOperations {
 
 	private final ArangoCollection collection;
-	private final Map<CollectionCacheKey, CollectionCacheValue> collectionCache;
+	private final ResourceCache<CollectionCacheKey, CollectionCacheValue> collectionCache;
+	private final QueryResultCache queryResultCache;
 	private final PersistenceExceptionTranslator exceptionTranslator;
 
 	protected DefaultCollectionOperations(final ArangoCollection collection,
-		final Map<CollectionCacheKey, CollectionCacheValue> collectionCache,
+		final ResourceCache<CollectionCacheKey, CollectionCacheValue> collectionCache,
+		final QueryResultCache queryResultCache,
 		final PersistenceExceptionTranslator exceptionTranslator) {
 		this.collection = collection;
 		this.collectionCache = collectionCache;
+		this.queryResultCache = queryResultCache;
 		this.exceptionTranslator = exceptionTranslator;
 	}
 
@@ -68,9 +72,10 @@ public class DefaultCollectionOperations implements CollectionOperations {
 
 	@Override
 	public void drop() throws DataAccessException {
-		collectionCache.remove(new CollectionCacheKey(collection.db().name(), collection.name()));
+		collectionCache.invalidate(new CollectionCacheKey(collection.db().name(), collection.name()));
 		try {
 			collection.drop();
+			queryResultCache.invalidate(collection.db().name(), collection.name());
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
@@ -80,6 +85,7 @@ public class DefaultCollectionOperations implements CollectionOperations {
 	public void truncate() throws DataAccessException {
 		try {
 			collection.truncate();
+			queryResultCache.invalidate(collection.db().name(), collection.name());
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
@@ -172,6 +178,17 @@ public class DefaultCollectionOperations implements CollectionOperations {
 		}
 	}
 
+	@Override
+	public IndexEntity ensureIndex(final Map<String, Object> definition) throws DataAccessException {
+		try {
+			final Response response = collection.db().route("/_api/index")
+					.withQueryParam("collection", collection.name()).withBody(definition).post();
+			return collection.db().util().deserialize(response.getBody(), IndexEntity.class);
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+	}
+
 	@Override
 	public void dropIndex(final String id) throws DataAccessException {
 		try {
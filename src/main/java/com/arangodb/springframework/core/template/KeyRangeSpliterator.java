@@ -0,0 +1,137 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import com.arangodb.ArangoCursor;
+
+/**
+ * {@link Spliterator} over the documents of a collection, partitioned into disjoint ranges of their {@code _key}. It
+ * splits along the ranges, each range is read by its own cursor once the spliterator covering it is traversed.
+ *
+ * @param <T>
+ *            the type of the entities
+ */
+class KeyRangeSpliterator<T> implements Spliterator<T> {
+
+	private final List<String> bounds;
+	private final BiFunction<String, String, ArangoCursor<T>> rangeQuery;
+	private final Set<ArangoCursor<T>> openCursors;
+	private final long estimatedRangeSize;
+	private int origin;
+	private final int fence;
+	private ArangoCursor<T> cursor;
+
+	/**
+	 * @param bounds
+	 *            the sorted bounds of the ranges, where range {@code i} contains the keys from {@code bounds[i]}
+	 *            (inclusive) to {@code bounds[i + 1]} (exclusive) and {@literal null} stands for an open bound
+	 * @param rangeQuery
+	 *            opens a cursor over the documents of the range between the given bounds
+	 * @param estimatedRangeSize
+	 *            estimated number of documents per range
+	 */
+	KeyRangeSpliterator(final List<String> bounds, final BiFunction<String, String, ArangoCursor<T>> rangeQuery,
+		final long estimatedRangeSize) {
+		this(bounds, rangeQuery, ConcurrentHashMap.newKeySet(), estimatedRangeSize, 0, bounds.size() - 1);
+	}
+
+	private KeyRangeSpliterator(final List<String> bounds,
+		final BiFunction<String, String, ArangoCursor<T>> rangeQuery, final Set<ArangoCursor<T>> openCursors,
+		final long estimatedRangeSize, final int origin, final int fence) {
+		super();
+		this.bounds = bounds;
+		this.rangeQuery = rangeQuery;
+		this.openCursors = openCursors;
+		this.estimatedRangeSize = estimatedRangeSize;
+		this.origin = origin;
+		this.fence = fence;
+	}
+
+	@Override
+	public boolean tryAdvance(final Consumer<? super T> action) {
+		while (true) {
+			if (cursor == null) {
+				if (origin >= fence) {
+					return false;
+				}
+				cursor = rangeQuery.apply(bounds.get(origin), bounds.get(origin + 1));
+				openCursors.add(cursor);
+				origin++;
+			}
+			if (cursor.hasNext()) {
+				action.accept(cursor.next());
+				return true;
+			}
+			close(cursor);
+			cursor = null;
+		}
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		final int ranges = fence - origin;
+		if (cursor != null || ranges < 2) {
+			return null;
+		}
+		final int mid = origin + ranges / 2;
+		final KeyRangeSpliterator<T> prefix = new KeyRangeSpliterator<>(bounds, rangeQuery, openCursors,
+				estimatedRangeSize, origin, mid);
+		origin = mid;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		final long ranges = fence - origin + (cursor != null ? 1 : 0);
+		return ranges * estimatedRangeSize;
+	}
+
+	@Override
+	public int characteristics() {
+		return NONNULL;
+	}
+
+	/**
+	 * Closes the cursors of all ranges not yet read completely, including those of the split off spliterators.
+	 */
+	void close() {
+		openCursors.forEach(this::close);
+	}
+
+	private void close(final ArangoCursor<T> cursor) {
+		if (openCursors.remove(cursor)) {
+			try {
+				cursor.close();
+			} catch (final IOException e) {
+				// the cursor expires on the server anyway
+			}
+		}
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Result of {@link com.arangodb.springframework.core.ArangoOperations#findByIds(Iterable, Class)} with the found
+ * entities in the order of the requested ids and the ids of the documents not found.
+ *
+ * @param <T>
+ *            the common type of the entities
+ */
+public class MultiGetResult<T> implements Iterable<T> {
+
+	private final List<T> entities;
+	private final Map<String, T> entitiesById;
+	private final Set<String> missingIds;
+
+	public MultiGetResult(final List<String> ids, final Map<String, T> entitiesById) {
+		super();
+		final List<T> entities = new ArrayList<>(ids.size());
+		final Set<String> missingIds = new LinkedHashSet<>();
+		for (final String id : ids) {
+			final T entity = entitiesById.get(id);
+			if (entity != null) {
+				entities.add(entity);
+			} else {
+				missingIds.add(id);
+			}
+		}
+		this.entities = Collections.unmodifiableList(entities);
+		this.entitiesById = Collections.unmodifiableMap(entitiesById);
+		this.missingIds = Collections.unmodifiableSet(missingIds);
+	}
+
+	/**
+	 * Returns the found entities in the order of the requested ids.
+	 */
+	public List<T> getEntities() {
+		return entities;
+	}
+
+	/**
+	 * Returns the entity with the given requested id.
+	 */
+	public Optional<T> get(final String id) {
+		return Optional.ofNullable(entitiesById.get(id));
+	}
+
+	/**
+	 * Returns the requested ids, in their order, for which no document exists.
+	 */
+	public Set<String> getMissingIds() {
+		return missingIds;
+	}
+
+	public boolean hasMissingIds() {
+		return !missingIds.isEmpty();
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return entities.iterator();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiGetResult [entities=" + entities + ", missingIds=" + missingIds + "]";
+	}
+
+}
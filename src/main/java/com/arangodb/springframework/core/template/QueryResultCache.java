@@ -0,0 +1,230 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Client-side cache of query results, owned by an {@link ArangoTemplate}.
+ * <p>
+ * Results are stored in regions (e.g. one per repository method) with their own time to live and maximum size. Every
+ * result records the version of each collection it was read from at the time the query was started. Writing to a
+ * collection increments its version, which invalidates all results read from it in constant time, including results
+ * of queries which were running concurrently to the write. Stale results are evicted lazily.
+ *
+ */
+public class QueryResultCache {
+
+	private final Supplier<String> databaseResolver;
+	private final Map<CollectionCacheKey, AtomicLong> versions;
+	private final Map<Object, Region> regions;
+
+	/**
+	 * @param databaseResolver
+	 *            resolves the name of the database currently in use
+	 */
+	public QueryResultCache(final Supplier<String> databaseResolver) {
+		super();
+		this.databaseResolver = databaseResolver;
+		versions = new ConcurrentHashMap<>();
+		regions = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the cached result for the given key or loads and caches it. The cached instance itself is returned to
+	 * every caller, so it must not be modified.
+	 *
+	 * @param region
+	 *            the region to use, created on first access with the given time to live and size
+	 * @param ttl
+	 *            time to live of a result in milliseconds
+	 * @param maxEntries
+	 *            maximum number of results in the region
+	 * @param collections
+	 *            the collections the query reads
+	 * @param key
+	 *            the key of the result, e.g. query and bind parameters
+	 * @param loader
+	 *            executes the query
+	 * @return the cached or loaded result
+	 */
+	public Object get(
+		final Object region,
+		final long ttl,
+		final int maxEntries,
+		final Collection<String> collections,
+		final Object key,
+		final Supplier<Object> loader) {
+
+		final String database = databaseResolver.get();
+		final Region cache = regions.computeIfAbsent(region, r -> new Region(maxEntries));
+		final CacheKey cacheKey = new CacheKey(database, key);
+
+		final Entry cached = cache.get(cacheKey);
+		if (cached != null && isValid(cached)) {
+			return cached.value;
+		}
+
+		final CollectionCacheKey[] readSet = new CollectionCacheKey[collections.size()];
+		final long[] readVersions = new long[readSet.length];
+		int i = 0;
+		for (final String collection : collections) {
+			readSet[i] = new CollectionCacheKey(database, collection);
+			readVersions[i] = version(readSet[i]).get();
+			++i;
+		}
+
+		final Object value = loader.get();
+		cache.put(cacheKey, new Entry(value, System.currentTimeMillis() + ttl, readSet, readVersions));
+		return value;
+	}
+
+	/**
+	 * Invalidates all results read from the given collection of the given database.
+	 */
+	public void invalidate(final String database, final String collection) {
+		version(new CollectionCacheKey(database, collection)).incrementAndGet();
+	}
+
+	/**
+	 * Invalidates all results read from the given collections of the database currently in use.
+	 */
+	public void invalidate(final Collection<String> collections) {
+		final String database = databaseResolver.get();
+		for (final String collection : collections) {
+			invalidate(database, collection);
+		}
+	}
+
+	/**
+	 * Invalidates all results read from any collection of the given database.
+	 */
+	public void invalidateDatabase(final String database) {
+		versions.forEach((key, version) -> {
+			if (key.getDb().equals(database)) {
+				version.incrementAndGet();
+			}
+		});
+	}
+
+	/**
+	 * Removes all cached results.
+	 */
+	public void clear() {
+		regions.clear();
+	}
+
+	private AtomicLong version(final CollectionCacheKey key) {
+		return versions.computeIfAbsent(key, k -> new AtomicLong());
+	}
+
+	private boolean isValid(final Entry entry) {
+		if (entry.expiresAt < System.currentTimeMillis()) {
+			return false;
+		}
+		for (int i = 0; i < entry.readSet.length; ++i) {
+			if (version(entry.readSet[i]).get() != entry.readVersions[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static class Region {
+
+		private final Map<CacheKey, Entry> entries;
+
+		@SuppressWarnings("serial")
+		Region(final int maxEntries) {
+			entries = new LinkedHashMap<CacheKey, Entry>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(final Map.Entry<CacheKey, Entry> eldest) {
+					return size() > maxEntries;
+				}
+			};
+		}
+
+		synchronized Entry get(final CacheKey key) {
+			return entries.get(key);
+		}
+
+		synchronized void put(final CacheKey key, final Entry entry) {
+			entries.put(key, entry);
+			final long now = System.currentTimeMillis();
+			final Iterator<Entry> iterator = entries.values().iterator();
+			// the least recently used entries come first, drop those which have expired
+			while (iterator.hasNext() && iterator.next().expiresAt < now) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private static class CacheKey {
+
+		private final String database;
+		private final Object key;
+
+		CacheKey(final String database, final Object key) {
+			this.database = database;
+			this.key = key;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * database.hashCode() + key.hashCode();
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			final CacheKey other = (CacheKey) obj;
+			return database.equals(other.database) && key.equals(other.key);
+		}
+	}
+
+	private static class Entry {
+
+		private final Object value;
+		private final long expiresAt;
+		private final CollectionCacheKey[] readSet;
+		private final long[] readVersions;
+
+		Entry(final Object value, final long expiresAt, final CollectionCacheKey[] readSet,
+			final long[] readVersions) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+			this.readSet = readSet;
+			this.readVersions = readVersions;
+		}
+	}
+
+}
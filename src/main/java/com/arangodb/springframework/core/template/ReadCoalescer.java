@@ -0,0 +1,129 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Merges concurrent lookups of single documents of the same collection into one multi-document request.
+ * <p>
+ * The first lookup of a collection opens a batch and waits up to {@code maxDelay} for further lookups to join it, or
+ * until the batch reached {@code maxBatchSize} documents. Lookups of a document which is already requested by a
+ * pending or executing batch don't issue a request of their own, but wait for its result.
+ * <p>
+ * Enabled for {@link ArangoTemplate#find(Object, Class)} with {@link ArangoTemplate#setReadCoalescer(ReadCoalescer)}.
+ */
+public class ReadCoalescer extends AbstractCoalescer<CollectionCacheKey, ReadCoalescer.Lookup> {
+
+	private static final String _KEY = "_key";
+
+	private final ConcurrentMap<CollectionCacheKey, ConcurrentMap<String, CompletableFuture<VPackSlice>>> inFlight;
+
+	/**
+	 * @param maxDelay
+	 *            maximum time a lookup is delayed waiting for further lookups
+	 * @param timeUnit
+	 *            time unit of {@code maxDelay}
+	 * @param maxBatchSize
+	 *            maximum number of documents requested by one batch
+	 */
+	public ReadCoalescer(final long maxDelay, final TimeUnit timeUnit, final int maxBatchSize) {
+		super(maxDelay, timeUnit, maxBatchSize);
+		this.inFlight = new ConcurrentHashMap<>();
+	}
+
+	static final class Lookup {
+		private final String key;
+		private final CompletableFuture<VPackSlice> future;
+
+		Lookup(final String key, final CompletableFuture<VPackSlice> future) {
+			this.key = key;
+			this.future = future;
+		}
+	}
+
+	/**
+	 * Returns the document with the given key.
+	 *
+	 * @param database
+	 *            name of the database
+	 * @param collection
+	 *            name of the collection
+	 * @param key
+	 *            key of the document
+	 * @param loader
+	 *            loads the documents with the given keys, ignoring missing ones
+	 * @return the document, {@literal null} if it does not exist
+	 */
+	VPackSlice get(
+		final String database,
+		final String collection,
+		final String key,
+		final Function<Collection<String>, Collection<VPackSlice>> loader) {
+
+		final CollectionCacheKey batchKey = new CollectionCacheKey(database, collection);
+		final ConcurrentMap<String, CompletableFuture<VPackSlice>> requested = inFlight.computeIfAbsent(batchKey,
+			k -> new ConcurrentHashMap<>());
+		final CompletableFuture<VPackSlice> future = new CompletableFuture<>();
+		final CompletableFuture<VPackSlice> existing = requested.putIfAbsent(key, future);
+		if (existing != null) {
+			return await(existing);
+		}
+		final Batch<Lookup> opened = join(batchKey, new Lookup(key, future));
+		// the lookup opening a batch executes it
+		if (opened != null) {
+			awaitBatch(batchKey, opened);
+			execute(requested, opened.getElements(), loader);
+		}
+		return await(future);
+	}
+
+	private static void execute(
+		final Map<String, CompletableFuture<VPackSlice>> requested,
+		final List<Lookup> lookups,
+		final Function<Collection<String>, Collection<VPackSlice>> loader) {
+
+		try {
+			final Map<String, VPackSlice> documents = new HashMap<>();
+			for (final VPackSlice document : loader
+					.apply(lookups.stream().map(lookup -> lookup.key).collect(Collectors.toList()))) {
+				documents.put(document.get(_KEY).getAsString(), document);
+			}
+			lookups.forEach(lookup -> lookup.future.complete(documents.get(lookup.key)));
+		} catch (final RuntimeException e) {
+			lookups.forEach(lookup -> lookup.future.completeExceptionally(e));
+		} finally {
+			lookups.forEach(lookup -> requested.remove(lookup.key, lookup.future));
+		}
+	}
+
+}
@@ -0,0 +1,251 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.util.Assert;
+
+/**
+ * Cache of the databases and collections used by an {@link ArangoTemplate}, bounded by a maximum size and a time to
+ * live after the last access. Exceeding the maximum size evicts the least recently used entry.
+ * <p>
+ * Missing entries are provisioned, i.e. looked up and created if necessary, by the provisioning executor. Concurrent
+ * accesses to an entry which is being provisioned wait for the same provisioning instead of starting their own.
+ * <p>
+ * Both limits are disabled by default, configure them via {@link ArangoTemplate#getDatabaseCache()} and
+ * {@link ArangoTemplate#getCollectionCache()}.
+ */
+public class ResourceCache<K, V> {
+
+	private final Map<K, Entry<V>> entries;
+	private final Map<K, CompletableFuture<V>> provisioning;
+	private volatile int maxSize = 0;
+	private volatile long ttlNanos = 0;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	@SuppressWarnings("serial")
+	ResourceCache() {
+		super();
+		entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+				final int max = maxSize;
+				if (max > 0 && size() > max) {
+					evictions.incrementAndGet();
+					return true;
+				}
+				return false;
+			}
+		};
+		provisioning = new ConcurrentHashMap<>();
+	}
+
+	private static class Entry<V> {
+		private final V value;
+		private volatile long lastAccess;
+
+		Entry(final V value, final long lastAccess) {
+			this.value = value;
+			this.lastAccess = lastAccess;
+		}
+	}
+
+	/**
+	 * @param maxSize
+	 *            maximum number of entries, 0 (default) for an unbounded cache
+	 */
+	public void setMaxSize(final int maxSize) {
+		Assert.isTrue(maxSize >= 0, "Max size must not be negative!");
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * @param ttl
+	 *            time an entry is retained after its last access, 0 (default) to retain entries until they are evicted
+	 *            by size
+	 * @param timeUnit
+	 *            time unit of {@code ttl}
+	 */
+	public void setTimeToLive(final long ttl, final TimeUnit timeUnit) {
+		Assert.isTrue(ttl >= 0, "Time to live must not be negative!");
+		this.ttlNanos = timeUnit.toNanos(ttl);
+	}
+
+	/**
+	 * Returns the cached value for the given key or provisions it, waiting for the provisioning to finish.
+	 */
+	V get(final K key, final Function<K, V> provisioner, final Executor executor) {
+		try {
+			return getAsync(key, provisioner, executor).join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the cached value for the given key or provisions it, joining a provisioning which is already running.
+	 */
+	CompletableFuture<V> getAsync(final K key, final Function<K, V> provisioner, final Executor executor) {
+		final V cached = getIfPresent(key);
+		if (cached != null) {
+			hits.incrementAndGet();
+			return CompletableFuture.completedFuture(cached);
+		}
+		misses.incrementAndGet();
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> running = provisioning.putIfAbsent(key, future);
+		if (running != null) {
+			return running;
+		}
+		// another provisioning may have finished between the lookup and the registration of this one
+		final V provisioned = getIfPresent(key);
+		if (provisioned != null) {
+			provisioning.remove(key, future);
+			future.complete(provisioned);
+			return future;
+		}
+		try {
+			executor.execute(() -> provision(key, provisioner, future));
+		} catch (final RuntimeException e) {
+			provisioning.remove(key, future);
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	private void provision(final K key, final Function<K, V> provisioner, final CompletableFuture<V> future) {
+		try {
+			final V value = provisioner.apply(key);
+			synchronized (entries) {
+				entries.put(key, new Entry<>(value, System.nanoTime()));
+			}
+			future.complete(value);
+		} catch (final RuntimeException e) {
+			future.completeExceptionally(e);
+		} finally {
+			provisioning.remove(key, future);
+		}
+	}
+
+	private V getIfPresent(final K key) {
+		final long now = System.nanoTime();
+		final long ttl = ttlNanos;
+		synchronized (entries) {
+			final Entry<V> entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (ttl > 0 && now - entry.lastAccess > ttl) {
+				entries.remove(key);
+				evictions.incrementAndGet();
+				removeExpired(now, ttl);
+				return null;
+			}
+			entry.lastAccess = now;
+			return entry.value;
+		}
+	}
+
+	/**
+	 * Removes expired entries, the least recently used entries come first.
+	 */
+	private void removeExpired(final long now, final long ttl) {
+		final Iterator<Entry<V>> iterator = entries.values().iterator();
+		while (iterator.hasNext() && now - iterator.next().lastAccess > ttl) {
+			iterator.remove();
+			evictions.incrementAndGet();
+		}
+	}
+
+	void invalidate(final K key) {
+		synchronized (entries) {
+			entries.remove(key);
+		}
+	}
+
+	void invalidateAll(final Predicate<K> filter) {
+		synchronized (entries) {
+			entries.keySet().removeIf(filter);
+		}
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	/**
+	 * @return the number of cached entries
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * @return the number of accesses served from the cache
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return the number of accesses which required a provisioning or waited for one
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * @return the number of entries evicted by size or time to live
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	@Override
+	public String toString() {
+		return "ResourceCache [size=" + size() + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions
+				+ "]";
+	}
+
+}
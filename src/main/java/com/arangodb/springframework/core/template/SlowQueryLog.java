@@ -0,0 +1,393 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.entity.CursorEntity.Stats;
+import com.arangodb.springframework.core.util.AqlUtils;
+
+/**
+ * Records AQL queries exceeding a latency or scan threshold in a bounded in-memory ring buffer and logs them as
+ * warnings.
+ * <p>
+ * Every AQL query executed through {@link ArangoTemplate} is checked against the thresholds with the statistics of its
+ * cursor, which the server returns with the first batch of non-streaming queries. This includes the queries of
+ * repository methods, {@link ArangoTemplate#repsert(Object) repserts} and criteria queries, but not the requests of
+ * the document API, e.g. {@link ArangoTemplate#find(Object, Class)}, {@link ArangoTemplate#insert(Object)} or the
+ * batches of the {@link ReadCoalescer} and {@link WriteCoalescer}. The latency is the maximum of the
+ * execution time reported by the server and the time until the first batch has been received. Queries executed by
+ * repository methods are recorded with the method as their {@link #withOrigin(String, Supplier) origin}.
+ * <p>
+ * A sample of the recorded read-only queries can be executed a second time with {@code profile} enabled, to capture
+ * the statistics of a profiled execution. The profiled executions run on the {@link #setProfileExecutor(Executor)
+ * profile executor} or the {@link ArangoTemplate#setAsyncExecutor(Executor) async executor} of the template.
+ * <p>
+ * Enabled with {@link ArangoTemplate#setSlowQueryLog(SlowQueryLog)}.
+ */
+public class SlowQueryLog {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SlowQueryLog.class);
+
+	private static final ThreadLocal<String> ORIGIN = new ThreadLocal<>();
+
+	private final long thresholdNanos;
+	private final Entry[] entries;
+	private long recorded = 0;
+	private long scannedThreshold = 0;
+	private double profileSampleRate = 0;
+	private Executor profileExecutor;
+	private volatile boolean missingExecutorLogged = false;
+	private final Map<String, MethodStatistics> methodStatistics = new ConcurrentHashMap<>();
+
+	/**
+	 * @param threshold
+	 *            minimal latency of a query to be recorded
+	 * @param timeUnit
+	 *            time unit of {@code threshold}
+	 * @param capacity
+	 *            maximal number of retained entries, older entries are overwritten
+	 */
+	public SlowQueryLog(final long threshold, final TimeUnit timeUnit, final int capacity) {
+		super();
+		Assert.isTrue(threshold >= 0, "Threshold must not be negative!");
+		Assert.isTrue(capacity > 0, "Capacity must be positive!");
+		this.thresholdNanos = timeUnit.toNanos(threshold);
+		this.entries = new Entry[capacity];
+	}
+
+	/**
+	 * @param scannedThreshold
+	 *            minimal number of documents scanned by a query, from collections or indexes, to be recorded
+	 *            regardless of its latency, 0 (default) disables the check
+	 */
+	public void setScannedThreshold(final long scannedThreshold) {
+		this.scannedThreshold = scannedThreshold;
+	}
+
+	/**
+	 * @param profileSampleRate
+	 *            fraction of recorded read-only queries which are executed again with {@code profile} enabled, 0
+	 *            (default) disables profiling. Profiling requires an executor, set with
+	 *            {@link #setProfileExecutor(Executor)} or as async executor of the template.
+	 */
+	public void setProfileSampleRate(final double profileSampleRate) {
+		Assert.isTrue(profileSampleRate >= 0 && profileSampleRate <= 1, "Sample rate must be between 0 and 1!");
+		this.profileSampleRate = profileSampleRate;
+	}
+
+	/**
+	 * @param profileExecutor
+	 *            executor of the profiled executions, defaults to the async executor of the template
+	 */
+	public void setProfileExecutor(final Executor profileExecutor) {
+		Assert.notNull(profileExecutor, "Executor must not be null!");
+		this.profileExecutor = profileExecutor;
+	}
+
+	/**
+	 * Executes the given call, recording its queries with the given origin, e.g. the repository method.
+	 */
+	public static <T> T withOrigin(final String origin, final Supplier<T> call) {
+		final String previous = ORIGIN.get();
+		ORIGIN.set(origin);
+		try {
+			return call.get();
+		} finally {
+			if (previous != null) {
+				ORIGIN.set(previous);
+			} else {
+				ORIGIN.remove();
+			}
+		}
+	}
+
+	/**
+	 * Checks an executed query against the thresholds and records it if exceeded.
+	 *
+	 * @param query
+	 *            the AQL query
+	 * @param bindVars
+	 *            the binding parameters of the query
+	 * @param cursor
+	 *            the cursor created by the query
+	 * @param latencyNanos
+	 *            time until the first batch has been received
+	 * @param profiler
+	 *            executes the query with {@code profile} enabled
+	 * @param defaultProfileExecutor
+	 *            executor of the profiler if no {@link #setProfileExecutor(Executor) profile executor} is set, may be
+	 *            {@literal null}
+	 */
+	void record(
+		final String query,
+		final Map<String, Object> bindVars,
+		final ArangoCursor<?> cursor,
+		final long latencyNanos,
+		final Supplier<ArangoCursor<?>> profiler,
+		final Executor defaultProfileExecutor) {
+
+		final Stats stats = cursor.getStats();
+		final long executionNanos = stats != null && stats.getExecutionTime() != null
+				? (long) (stats.getExecutionTime() * TimeUnit.SECONDS.toNanos(1))
+				: 0;
+		final long latency = Math.max(latencyNanos, executionNanos);
+		final long scanned = stats != null ? value(stats.getScannedFull()) + value(stats.getScannedIndex()) : 0;
+		final String origin = ORIGIN.get();
+		if (origin != null) {
+			methodStatistics.computeIfAbsent(origin, k -> new MethodStatistics()).record(latency, scanned);
+		}
+		if (latency < thresholdNanos && (scannedThreshold <= 0 || scanned < scannedThreshold)) {
+			return;
+		}
+
+		final Entry entry = new Entry(System.currentTimeMillis(), origin, query, shapeOf(bindVars), latency, stats);
+		synchronized (entries) {
+			entries[(int) (recorded++ % entries.length)] = entry;
+		}
+		LOGGER.warn("Slow query" + (origin != null ? " at [" + origin + "]" : "") + ": " + entry.getLatency()
+				+ " ms, scanned " + scanned + " documents - " + query + " " + entry.getBindVars());
+
+		if (profileSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < profileSampleRate
+				&& !AqlUtils.isWriteQuery(query)) {
+			final Executor executor = profileExecutor != null ? profileExecutor : defaultProfileExecutor;
+			if (executor != null) {
+				executor.execute(() -> profile(entry, profiler));
+			} else if (!missingExecutorLogged) {
+				missingExecutorLogged = true;
+				LOGGER.warn("Slow queries are not profiled, as there is neither a profile executor "
+						+ "nor an async executor of the template.");
+			}
+		}
+	}
+
+	private static void profile(final Entry entry, final Supplier<ArangoCursor<?>> profiler) {
+		try (ArangoCursor<?> cursor = profiler.get()) {
+			entry.profile = cursor.getStats();
+		} catch (final IOException | RuntimeException e) {
+			LOGGER.debug("Profiling of slow query failed: " + e.getMessage());
+		}
+	}
+
+	private static long value(final Long value) {
+		return value != null ? value : 0;
+	}
+
+	/**
+	 * Describes the binding parameters by the types of their values, collection parameters by their value.
+	 */
+	private static Map<String, String> shapeOf(final Map<String, Object> bindVars) {
+		final Map<String, String> shape = new LinkedHashMap<>();
+		if (bindVars != null) {
+			bindVars.forEach((name, value) -> shape.put(name, value == null ? "null"
+					: name.startsWith("@") ? value.toString() : value.getClass().getSimpleName()));
+		}
+		return shape;
+	}
+
+	/**
+	 * @return the retained entries, oldest first
+	 */
+	public List<Entry> getEntries() {
+		synchronized (entries) {
+			final List<Entry> result = new ArrayList<>();
+			final long start = Math.max(0, recorded - entries.length);
+			for (long i = start; i < recorded; i++) {
+				result.add(entries[(int) (i % entries.length)]);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * @return the number of recorded queries, including the overwritten ones
+	 */
+	public long getRecorded() {
+		synchronized (entries) {
+			return recorded;
+		}
+	}
+
+	/**
+	 * @return execution statistics of all AQL queries per origin, slow or not
+	 */
+	public Map<String, MethodStatistics> getMethodStatistics() {
+		return Collections.unmodifiableMap(methodStatistics);
+	}
+
+	/**
+	 * Discards the retained entries and statistics.
+	 */
+	public void clear() {
+		synchronized (entries) {
+			recorded = 0;
+			Arrays.fill(entries, null);
+		}
+		methodStatistics.clear();
+	}
+
+	/**
+	 * A recorded slow query.
+	 */
+	public static class Entry {
+
+		private final long timestamp;
+		private final String origin;
+		private final String query;
+		private final Map<String, String> bindVars;
+		private final long latencyNanos;
+		private final Stats stats;
+		private volatile Stats profile;
+
+		private Entry(final long timestamp, final String origin, final String query, final Map<String, String> bindVars,
+			final long latencyNanos, final Stats stats) {
+			super();
+			this.timestamp = timestamp;
+			this.origin = origin;
+			this.query = query;
+			this.bindVars = bindVars;
+			this.latencyNanos = latencyNanos;
+			this.stats = stats;
+		}
+
+		/**
+		 * @return the time of the execution in milliseconds since the epoch
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		/**
+		 * @return the repository method executing the query, {@literal null} for direct template calls
+		 */
+		public String getOrigin() {
+			return origin;
+		}
+
+		public String getQuery() {
+			return query;
+		}
+
+		/**
+		 * @return the types of the binding parameters by their names
+		 */
+		public Map<String, String> getBindVars() {
+			return bindVars;
+		}
+
+		/**
+		 * @return the latency in milliseconds
+		 */
+		public long getLatency() {
+			return TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+		}
+
+		/**
+		 * @return the statistics returned with the cursor, {@literal null} if not available
+		 */
+		public Stats getStats() {
+			return stats;
+		}
+
+		/**
+		 * @return the statistics of the profiled execution, {@literal null} if the query has not (yet) been profiled
+		 */
+		public Stats getProfile() {
+			return profile;
+		}
+
+		@Override
+		public String toString() {
+			return "Entry [origin=" + origin + ", latency=" + getLatency() + " ms, query=" + query + ", bindVars="
+					+ bindVars + "]";
+		}
+
+	}
+
+	/**
+	 * Execution statistics of the queries of one origin.
+	 */
+	public static class MethodStatistics {
+
+		private final AtomicLong executions = new AtomicLong();
+		private final AtomicLong totalLatencyNanos = new AtomicLong();
+		private final AtomicLong maxLatencyNanos = new AtomicLong();
+		private final AtomicLong scanned = new AtomicLong();
+
+		private void record(final long latencyNanos, final long scannedDocuments) {
+			executions.incrementAndGet();
+			totalLatencyNanos.addAndGet(latencyNanos);
+			maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+			scanned.addAndGet(scannedDocuments);
+		}
+
+		public long getExecutions() {
+			return executions.get();
+		}
+
+		/**
+		 * @return the mean latency in milliseconds
+		 */
+		public double getMeanLatency() {
+			final long count = executions.get();
+			return count > 0 ? totalLatencyNanos.get() / (double) count / TimeUnit.MILLISECONDS.toNanos(1) : 0;
+		}
+
+		/**
+		 * @return the maximal latency in milliseconds
+		 */
+		public long getMaxLatency() {
+			return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+		}
+
+		/**
+		 * @return the total number of scanned documents
+		 */
+		public long getScanned() {
+			return scanned.get();
+		}
+
+		@Override
+		public String toString() {
+			return "MethodStatistics [executions=" + executions + ", meanLatency=" + getMeanLatency()
+					+ " ms, maxLatency=" + getMaxLatency() + " ms, scanned=" + scanned + "]";
+		}
+
+	}
+
+}
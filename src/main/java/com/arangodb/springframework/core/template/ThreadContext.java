@@ -0,0 +1,79 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * State a template binds to the thread executing an operation, captured to continue the operation on other threads,
+ * e.g. to resolve the references of cursor results decoded in parallel. It consists of the database resolved for the
+ * thread and the stream transaction bound to it.
+ */
+final class ThreadContext {
+
+	static final ThreadContext NONE = new ThreadContext(null, null, null, null);
+
+	private final ThreadLocal<String> databaseBinding;
+	private final String database;
+	private final Object transactionKey;
+	private final Object transaction;
+
+	ThreadContext(final ThreadLocal<String> databaseBinding, final String database, final Object transactionKey,
+		final Object transaction) {
+		super();
+		this.databaseBinding = databaseBinding;
+		this.database = database;
+		this.transactionKey = transactionKey;
+		this.transaction = transaction;
+	}
+
+	/**
+	 * Executes the given action by the current thread within this context.
+	 */
+	<T> T execute(final Supplier<T> action) {
+		if (databaseBinding == null) {
+			return action.get();
+		}
+		final String previousDatabase = databaseBinding.get();
+		databaseBinding.set(database);
+		// the thread which captured the context has the transaction bound already
+		final boolean bindTransaction = transaction != null
+				&& !TransactionSynchronizationManager.hasResource(transactionKey);
+		if (bindTransaction) {
+			TransactionSynchronizationManager.bindResource(transactionKey, transaction);
+		}
+		try {
+			return action.get();
+		} finally {
+			if (bindTransaction) {
+				TransactionSynchronizationManager.unbindResource(transactionKey);
+			}
+			if (previousDatabase != null) {
+				databaseBinding.set(previousDatabase);
+			} else {
+				databaseBinding.remove();
+			}
+		}
+	}
+
+}
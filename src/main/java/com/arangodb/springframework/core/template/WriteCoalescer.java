@@ -0,0 +1,120 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.util.Assert;
+
+/**
+ * Groups concurrent single-document writes of the same kind to the same collection into one multi-document request.
+ * <p>
+ * The first write opens a batch and waits up to {@code maxDelay} for further writes to join it, or until the batch
+ * reached {@code maxBatchSize} documents. Every writer gets the result or error of its own document, except for
+ * repserts on a cluster: a failing batch query may have written part of the batch, so all of its writers get the
+ * error.
+ * <p>
+ * Enabled for {@link ArangoTemplate#insert(Object)}, {@link ArangoTemplate#repsert(Object)},
+ * {@link ArangoTemplate#update(Object, Object)} and {@link ArangoTemplate#delete(Object, Class)} with
+ * {@link ArangoTemplate#setWriteCoalescer(WriteCoalescer)}. Writes with explicit options are not coalesced.
+ */
+public class WriteCoalescer extends AbstractCoalescer<List<String>, WriteCoalescer.Write> {
+
+	/**
+	 * @param maxDelay
+	 *            maximum time a write is delayed waiting for further writes
+	 * @param timeUnit
+	 *            time unit of {@code maxDelay}
+	 * @param maxBatchSize
+	 *            maximum number of documents written by one batch
+	 */
+	public WriteCoalescer(final long maxDelay, final TimeUnit timeUnit, final int maxBatchSize) {
+		super(maxDelay, timeUnit, maxBatchSize);
+	}
+
+	static final class Write {
+		private final Object document;
+		private final CompletableFuture<Object> future;
+
+		Write(final Object document, final CompletableFuture<Object> future) {
+			this.document = document;
+			this.future = future;
+		}
+	}
+
+	/**
+	 * Writes the given document as part of a batch.
+	 *
+	 * @param database
+	 *            name of the database
+	 * @param collection
+	 *            name of the collection
+	 * @param operation
+	 *            kind of the write, only writes of the same kind are grouped
+	 * @param document
+	 *            the document to write
+	 * @param executor
+	 *            writes the given documents, returning per document its result or a {@link RuntimeException}
+	 * @return the result of the document
+	 */
+	@SuppressWarnings("unchecked")
+	<D, R> R write(
+		final String database,
+		final String collection,
+		final String operation,
+		final D document,
+		final Function<List<D>, List<?>> executor) {
+
+		final List<String> batchKey = Arrays.asList(database, collection, operation);
+		final CompletableFuture<Object> future = new CompletableFuture<>();
+		final Batch<Write> opened = join(batchKey, new Write(document, future));
+		// the write opening a batch executes it
+		if (opened != null) {
+			awaitBatch(batchKey, opened);
+			execute(opened.getElements(), (Function<List<Object>, List<?>>) (Function<?, ?>) executor);
+		}
+		return (R) await(future);
+	}
+
+	private static void execute(final List<Write> writes, final Function<List<Object>, List<?>> executor) {
+		try {
+			final List<?> results = executor
+					.apply(writes.stream().map(write -> write.document).collect(Collectors.toList()));
+			Assert.state(results.size() == writes.size(), "Expected one result per document!");
+			for (int i = 0; i < results.size(); i++) {
+				final Object result = results.get(i);
+				if (result instanceof RuntimeException) {
+					writes.get(i).future.completeExceptionally((RuntimeException) result);
+				} else {
+					writes.get(i).future.complete(result);
+				}
+			}
+		} catch (final RuntimeException e) {
+			writes.forEach(write -> write.future.completeExceptionally(e));
+		}
+	}
+
+}
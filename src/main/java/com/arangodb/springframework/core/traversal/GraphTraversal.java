@@ -0,0 +1,469 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.traversal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.util.Assert;
+
+import com.arangodb.springframework.annotation.Relations.Direction;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.core.query.Criteria;
+
+/**
+ * Fluent definition of a graph traversal, shortest path or k shortest paths search which is executed as AQL. Prune
+ * and filter conditions are evaluated by the traversal engine on the server, so only matching vertices, edges and
+ * paths are transferred.
+ *
+ * <pre>
+ * GraphTraversal.from("persons/alice")
+ * 		.edges(Knows.class)
+ * 		.direction(Direction.OUTBOUND)
+ * 		.depth(1, 3)
+ * 		.pruneVertices(Criteria.where("age").gt(70))
+ * 		.filterVertices(Criteria.where("name").like("B%"))
+ * 		.order(Order.BFS)
+ * 		.uniqueVertices(Uniqueness.GLOBAL);
+ * </pre>
+ *
+ * Conditions given as {@link Criteria} use the property paths of the vertex or edge type and are compiled with bind
+ * parameters. Conditions given as AQL expressions may reference the variables {@code v} (vertex), {@code e} (edge)
+ * and {@code p} (path) as well as bind parameters added with {@link #bindVar(String, Object)}. Shortest path searches
+ * returning paths and k shortest paths searches only bind {@code p}, so they only support filter expressions.
+ *
+ * @see com.arangodb.springframework.core.ArangoOperations#traverse(GraphTraversal, Class)
+ * @see com.arangodb.springframework.core.ArangoOperations#traversePaths(GraphTraversal, Class, Class)
+ */
+public class GraphTraversal {
+
+	public enum Type {
+		TRAVERSAL, SHORTEST_PATH, K_SHORTEST_PATHS
+	}
+
+	public enum Order {
+		BFS, DFS, WEIGHTED
+	}
+
+	public enum Uniqueness {
+		NONE, PATH, GLOBAL
+	}
+
+	/**
+	 * The elements a traversal returns
+	 */
+	public enum Returns {
+		VERTICES, EDGES, PATHS
+	}
+
+	static final String VERTEX_VAR = "v";
+	static final String EDGE_VAR = "e";
+	static final String PATH_VAR = "p";
+
+	private final Type type;
+	private final Object start;
+	private final Object target;
+	private final List<Object> edges;
+	private final List<Condition> prunes;
+	private final List<Condition> filters;
+	private final Map<String, Object> bindVars;
+	private Direction direction;
+	private int minDepth;
+	private int maxDepth;
+	private Order order;
+	private Uniqueness uniqueVertices;
+	private Uniqueness uniqueEdges;
+	private String weightAttribute;
+	private Double defaultWeight;
+	private Long offset;
+	private Integer limit;
+
+	private GraphTraversal(final Type type, final Object start, final Object target) {
+		super();
+		Assert.notNull(start, "Start vertex must not be null!");
+		this.type = type;
+		this.start = start;
+		this.target = target;
+		edges = new ArrayList<>();
+		prunes = new ArrayList<>();
+		filters = new ArrayList<>();
+		bindVars = new LinkedHashMap<>();
+		direction = Direction.OUTBOUND;
+		minDepth = 1;
+		maxDepth = 1;
+	}
+
+	/**
+	 * Creates a traversal starting at the given vertex.
+	 *
+	 * @param startVertex
+	 *            the {@code _id} of the start vertex
+	 */
+	public static GraphTraversal from(final Object startVertex) {
+		return new GraphTraversal(Type.TRAVERSAL, startVertex, null);
+	}
+
+	/**
+	 * Creates a search for the shortest path between the given vertices.
+	 *
+	 * @param startVertex
+	 *            the {@code _id} of the start vertex
+	 * @param targetVertex
+	 *            the {@code _id} of the target vertex
+	 */
+	public static GraphTraversal shortestPath(final Object startVertex, final Object targetVertex) {
+		Assert.notNull(targetVertex, "Target vertex must not be null!");
+		return new GraphTraversal(Type.SHORTEST_PATH, startVertex, targetVertex);
+	}
+
+	/**
+	 * Creates a search for the shortest paths between the given vertices in order of increasing length or weight.
+	 * Use {@link #limit(int)} to restrict the number of paths.
+	 *
+	 * @param startVertex
+	 *            the {@code _id} of the start vertex
+	 * @param targetVertex
+	 *            the {@code _id} of the target vertex
+	 */
+	public static GraphTraversal kShortestPaths(final Object startVertex, final Object targetVertex) {
+		Assert.notNull(targetVertex, "Target vertex must not be null!");
+		return new GraphTraversal(Type.K_SHORTEST_PATHS, startVertex, targetVertex);
+	}
+
+	/**
+	 * Adds edge collections, given by their edge entity types.
+	 */
+	public GraphTraversal edges(final Class<?>... edgeTypes) {
+		edges.addAll(Arrays.asList(edgeTypes));
+		return this;
+	}
+
+	/**
+	 * Adds edge collections, given by their names.
+	 */
+	public GraphTraversal edges(final String... edgeCollections) {
+		edges.addAll(Arrays.asList(edgeCollections));
+		return this;
+	}
+
+	public GraphTraversal direction(final Direction direction) {
+		Assert.notNull(direction, "Direction must not be null!");
+		this.direction = direction;
+		return this;
+	}
+
+	public GraphTraversal depth(final int minDepth, final int maxDepth) {
+		Assert.isTrue(minDepth >= 0 && maxDepth >= minDepth, "Invalid depth range!");
+		this.minDepth = minDepth;
+		this.maxDepth = maxDepth;
+		return this;
+	}
+
+	/**
+	 * Stops following paths at vertices matching the given criteria. The matching vertices are still part of the
+	 * result.
+	 */
+	public GraphTraversal pruneVertices(final Criteria criteria) {
+		prunes.add(new Condition(criteria, VERTEX_VAR, null));
+		return this;
+	}
+
+	/**
+	 * Stops following paths at edges matching the given criteria.
+	 */
+	public GraphTraversal pruneEdges(final Criteria criteria) {
+		prunes.add(new Condition(criteria, EDGE_VAR, null));
+		return this;
+	}
+
+	/**
+	 * Stops following paths for which the given AQL expression is true.
+	 */
+	public GraphTraversal prune(final String expression) {
+		prunes.add(new Condition(null, null, expression));
+		return this;
+	}
+
+	public GraphTraversal filterVertices(final Criteria criteria) {
+		filters.add(new Condition(criteria, VERTEX_VAR, null));
+		return this;
+	}
+
+	public GraphTraversal filterEdges(final Criteria criteria) {
+		filters.add(new Condition(criteria, EDGE_VAR, null));
+		return this;
+	}
+
+	/**
+	 * Only returns elements for which the given AQL expression is true.
+	 */
+	public GraphTraversal filter(final String expression) {
+		filters.add(new Condition(null, null, expression));
+		return this;
+	}
+
+	/**
+	 * Adds a bind parameter referenced in an AQL expression of {@link #prune(String)} or {@link #filter(String)}.
+	 */
+	public GraphTraversal bindVar(final String name, final Object value) {
+		bindVars.put(name, value);
+		return this;
+	}
+
+	public GraphTraversal order(final Order order) {
+		this.order = order;
+		return this;
+	}
+
+	public GraphTraversal uniqueVertices(final Uniqueness uniqueness) {
+		this.uniqueVertices = uniqueness;
+		return this;
+	}
+
+	/**
+	 * Sets the uniqueness of edges, which is either {@link Uniqueness#NONE} or {@link Uniqueness#PATH}.
+	 */
+	public GraphTraversal uniqueEdges(final Uniqueness uniqueness) {
+		Assert.isTrue(uniqueness != Uniqueness.GLOBAL, "Global uniqueness is not supported for edges!");
+		this.uniqueEdges = uniqueness;
+		return this;
+	}
+
+	/**
+	 * Sets the edge attribute used as weight for {@link Order#WEIGHTED} traversals and weighted shortest paths.
+	 */
+	public GraphTraversal weight(final String weightAttribute, final double defaultWeight) {
+		this.weightAttribute = weightAttribute;
+		this.defaultWeight = defaultWeight;
+		return this;
+	}
+
+	public GraphTraversal limit(final int limit) {
+		this.limit = limit;
+		return this;
+	}
+
+	public GraphTraversal limit(final long offset, final int limit) {
+		this.offset = offset;
+		this.limit = limit;
+		return this;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Builds the AQL query of this traversal. The edge collections given as types are bound as {@code @@edge0},
+	 * {@code @@edge1}, ... and the vertex collection as {@code @@vertex}.
+	 *
+	 * @param context
+	 *            the mapping context used to resolve field names of criteria
+	 * @param vertexType
+	 *            the type of the vertices
+	 * @param edgeType
+	 *            the type of the edges, may be {@literal null} if no edge criteria are used
+	 * @param returns
+	 *            the elements to return
+	 * @param bindVars
+	 *            the map the bind parameters are added to
+	 * @return the AQL query
+	 */
+	public String buildQuery(
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+		final Class<?> vertexType,
+		final Class<?> edgeType,
+		final Returns returns,
+		final Map<String, Object> bindVars) {
+
+		Assert.isTrue(!edges.isEmpty(), "At least one edge collection is required!");
+		Assert.isTrue(type == Type.TRAVERSAL || prunes.isEmpty(), "Prune conditions are only supported in traversals!");
+		final boolean pathOnly = type == Type.K_SHORTEST_PATHS
+				|| (type == Type.SHORTEST_PATH && returns == Returns.PATHS);
+		Assert.isTrue(!pathOnly || filters.stream().allMatch(Condition::isExpression),
+			"Vertex and edge criteria are not supported in path searches, use filter expressions on the path p!");
+		Assert.isTrue(type != Type.K_SHORTEST_PATHS || returns == Returns.PATHS,
+			"K shortest paths can only return paths!");
+
+		bindVars.putAll(this.bindVars);
+		bindVars.put("@vertex", vertexType);
+		bindVars.put("start", start);
+		if (target != null) {
+			bindVars.put("target", target);
+		}
+		if (weightAttribute != null) {
+			bindVars.put("weightAttribute", weightAttribute);
+			bindVars.put("defaultWeight", defaultWeight);
+		}
+
+		final StringJoiner edgeCollections = new StringJoiner(", ");
+		for (int i = 0; i < edges.size(); ++i) {
+			final String bindVar = "@edge" + i;
+			bindVars.put(bindVar, edges.get(i));
+			edgeCollections.add("@" + bindVar);
+		}
+
+		final StringBuilder query = new StringBuilder("WITH @@vertex ");
+		switch (type) {
+		case SHORTEST_PATH:
+			buildShortestPath(query, edgeCollections.toString(), returns);
+			break;
+		case K_SHORTEST_PATHS:
+			query.append("FOR ").append(PATH_VAR).append(" IN ").append(direction)
+					.append(" K_SHORTEST_PATHS @start TO @target ").append(edgeCollections);
+			appendOptions(query);
+			break;
+		case TRAVERSAL:
+		default:
+			query.append("FOR ").append(VERTEX_VAR).append(", ").append(EDGE_VAR).append(", ").append(PATH_VAR)
+					.append(" IN ").append(minDepth).append("..").append(maxDepth).append(' ').append(direction)
+					.append(" @start ").append(edgeCollections);
+			if (!prunes.isEmpty()) {
+				query.append(" PRUNE ").append(join(prunes, " OR ", context, vertexType, edgeType, bindVars));
+			}
+			appendOptions(query);
+			break;
+		}
+
+		if (!filters.isEmpty()) {
+			query.append(" FILTER ").append(join(filters, " AND ", context, vertexType, edgeType, bindVars));
+		}
+		if (returns == Returns.EDGES && type == Type.TRAVERSAL) {
+			query.append(" FILTER ").append(EDGE_VAR).append(" != null");
+		}
+
+		if (limit != null) {
+			bindVars.put("offset", offset != null ? offset : 0L);
+			bindVars.put("count", limit);
+			query.append(" LIMIT @offset, @count");
+		}
+
+		query.append(" RETURN ").append(buildReturn(returns));
+		return query.toString();
+	}
+
+	private void buildShortestPath(final StringBuilder query, final String edgeCollections, final Returns returns) {
+		final StringBuilder shortestPath = new StringBuilder("FOR ").append(VERTEX_VAR).append(", ").append(EDGE_VAR)
+				.append(" IN ").append(direction).append(" SHORTEST_PATH @start TO @target ").append(edgeCollections);
+		appendOptions(shortestPath);
+		if (returns == Returns.PATHS) {
+			// collect the steps of the path, so that it can be returned like the paths of traversals
+			query.append("LET steps = (").append(shortestPath).append(" RETURN { ").append(VERTEX_VAR).append(", ")
+					.append(EDGE_VAR).append(" }) FILTER LENGTH(steps) > 0 LET ").append(PATH_VAR)
+					.append(" = { vertices: steps[*].").append(VERTEX_VAR).append(", edges: steps[* FILTER CURRENT.")
+					.append(EDGE_VAR).append(" != null].").append(EDGE_VAR).append(" }");
+		} else {
+			query.append(shortestPath);
+			if (returns == Returns.EDGES) {
+				query.append(" FILTER ").append(EDGE_VAR).append(" != null");
+			}
+		}
+	}
+
+	private void appendOptions(final StringBuilder query) {
+		final StringJoiner options = new StringJoiner(", ", " OPTIONS { ", " }").setEmptyValue("");
+		if (order != null) {
+			options.add("order: \"" + order.name().toLowerCase() + "\"");
+		}
+		if (uniqueVertices != null) {
+			options.add("uniqueVertices: \"" + uniqueVertices.name().toLowerCase() + "\"");
+		}
+		if (uniqueEdges != null) {
+			options.add("uniqueEdges: \"" + uniqueEdges.name().toLowerCase() + "\"");
+		}
+		if (weightAttribute != null) {
+			options.add("weightAttribute: @weightAttribute");
+			options.add("defaultWeight: @defaultWeight");
+		}
+		query.append(options);
+	}
+
+	private static String buildReturn(final Returns returns) {
+		switch (returns) {
+		case EDGES:
+			return EDGE_VAR;
+		case PATHS:
+			return "{ vertices: " + PATH_VAR + ".vertices, edges: " + PATH_VAR + ".edges }";
+		case VERTICES:
+		default:
+			return VERTEX_VAR;
+		}
+	}
+
+	private String join(
+		final List<Condition> conditions,
+		final String delimiter,
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+		final Class<?> vertexType,
+		final Class<?> edgeType,
+		final Map<String, Object> bindVars) {
+
+		final StringJoiner joined = new StringJoiner(delimiter);
+		for (final Condition condition : conditions) {
+			joined.add("(" + condition.build(context, vertexType, resolveEdgeType(edgeType), bindVars) + ")");
+		}
+		return joined.toString();
+	}
+
+	private Class<?> resolveEdgeType(final Class<?> edgeType) {
+		if (edgeType != null) {
+			return edgeType;
+		}
+		return edges.stream().filter(Class.class::isInstance).map(Class.class::cast).findFirst().orElse(null);
+	}
+
+	private static class Condition {
+		private final Criteria criteria;
+		private final String varName;
+		private final String expression;
+
+		Condition(final Criteria criteria, final String varName, final String expression) {
+			Assert.isTrue(criteria != null || expression != null, "Condition must not be null!");
+			this.criteria = criteria;
+			this.varName = varName;
+			this.expression = expression;
+		}
+
+		boolean isExpression() {
+			return criteria == null;
+		}
+
+		String build(
+			final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+			final Class<?> vertexType,
+			final Class<?> edgeType,
+			final Map<String, Object> bindVars) {
+			if (criteria == null) {
+				return expression;
+			}
+			final Class<?> domainClass = VERTEX_VAR.equals(varName) ? vertexType : edgeType;
+			Assert.notNull(domainClass, "Edge criteria require an edge type!");
+			return criteria.buildPredicate(context, domainClass, varName, bindVars);
+		}
+	}
+
+}
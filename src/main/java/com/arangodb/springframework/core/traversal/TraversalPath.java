@@ -0,0 +1,75 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.traversal;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A path of a graph traversal or shortest path search with its mapped vertices and edges. The path with {@code n}
+ * edges contains {@code n + 1} vertices, where the edge at index {@code i} connects the vertices at index {@code i}
+ * and {@code i + 1}.
+ *
+ * @param <V>
+ *            the type of the vertices
+ * @param <E>
+ *            the type of the edges
+ */
+public class TraversalPath<V, E> {
+
+	private final List<V> vertices;
+	private final List<E> edges;
+
+	public TraversalPath(final List<V> vertices, final List<E> edges) {
+		super();
+		this.vertices = Collections.unmodifiableList(vertices);
+		this.edges = Collections.unmodifiableList(edges);
+	}
+
+	public List<V> getVertices() {
+		return vertices;
+	}
+
+	public List<E> getEdges() {
+		return edges;
+	}
+
+	public V getStartVertex() {
+		return vertices.isEmpty() ? null : vertices.get(0);
+	}
+
+	public V getEndVertex() {
+		return vertices.isEmpty() ? null : vertices.get(vertices.size() - 1);
+	}
+
+	/**
+	 * @return the number of edges of the path
+	 */
+	public int getLength() {
+		return edges.size();
+	}
+
+	@Override
+	public String toString() {
+		return "TraversalPath [vertices=" + vertices + ", edges=" + edges + "]";
+	}
+
+}
@@ -21,14 +21,20 @@
 package com.arangodb.springframework.core.util;
 
 import com.arangodb.springframework.core.mapping.ArangoMappingContext;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
 import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -37,6 +43,11 @@ import java.util.stream.Collectors;
  */
 public final class AqlUtils {
 
+	private static final Pattern WRITE_OPERATION = Pattern.compile(
+		"(?<![.\\w$`@])(?:INSERT|UPDATE|REPLACE|REMOVE|UPSERT)\\b", Pattern.CASE_INSENSITIVE);
+	private static final Pattern COLLECTION_OPERAND = Pattern.compile(
+		"(?<![.\\w$`@])(?:IN|INTO)\\s+(@@\\w+|`[^`]+`|[a-zA-Z_]\\w*)", Pattern.CASE_INSENSITIVE);
+
 	private AqlUtils() {
 
 	}
@@ -233,6 +244,38 @@ public final class AqlUtils {
 		return escaped.toString();
 	}
 
+	/**
+	 * Determines whether a query may write documents, i.e. contains an {@code INSERT}, {@code UPDATE},
+	 * {@code REPLACE}, {@code REMOVE} or {@code UPSERT} operation. The query is not parsed, so keywords within string
+	 * literals let a reading query be reported as writing, but a writing query is never reported as reading.
+	 *
+	 * @param query
+	 *            the AQL query
+	 * @return whether the query may write documents
+	 */
+	public static boolean isWriteQuery(final String query) {
+		return WRITE_OPERATION.matcher(query).find();
+	}
+
+	/**
+	 * Returns the operands of the {@code IN} and {@code INTO} keywords of a query which may be collections, e.g. to
+	 * determine the collections a query may write. Collection bind parameters are returned with their name, e.g.
+	 * {@code @@col}, escaped names without the backticks. The result may contain names which are not collections.
+	 *
+	 * @param query
+	 *            the AQL query
+	 * @return the operands in order of their first occurrence
+	 */
+	public static Set<String> getCollectionOperands(final String query) {
+		final Set<String> operands = new LinkedHashSet<>();
+		final Matcher matcher = COLLECTION_OPERAND.matcher(query);
+		while (matcher.find()) {
+			final String operand = matcher.group(1);
+			operands.add(operand.startsWith("`") ? operand.substring(1, operand.length() - 1) : operand);
+		}
+		return operands;
+	}
+
 	public static String buildCollectionName(final String collection) {
 		return collection.contains("-") ? "`" + collection + "`" : collection;
 	}
@@ -241,4 +284,27 @@ public final class AqlUtils {
 		return field.contains("-") ? "`" + field + "`" : field;
 	}
 
+	/**
+	 * Builds the AQL attribute access of a property path, e.g. {@code e.`customer-name`} for the property
+	 * {@code name} mapped to the field {@code customer-name}.
+	 *
+	 * @param context
+	 *            the mapping context used to resolve the field names
+	 * @param domainClass
+	 *            the type owning the property path
+	 * @param varName
+	 *            the name of the document variable
+	 * @param property
+	 *            the property path, e.g. {@code address.zipCode}
+	 * @return the attribute access
+	 */
+	public static String buildFieldPath(
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+		final Class<?> domainClass,
+		final String varName,
+		final String property) {
+		return varName + "." + context.getPersistentPropertyPath(property, domainClass).toPath(".",
+			p -> buildFieldName(p.getFieldName()));
+	}
+
 }
@@ -47,6 +47,7 @@ import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
 import com.arangodb.springframework.repository.query.ArangoQueryMethod;
 import com.arangodb.springframework.repository.query.DerivedArangoQuery;
 import com.arangodb.springframework.repository.query.StringBasedArangoQuery;
+import com.arangodb.springframework.repository.query.TraversalArangoQuery;
 
 /**
  *
@@ -137,6 +138,8 @@ public class ArangoRepositoryFactory extends RepositoryFactorySupport {
 				return new StringBasedArangoQuery(namedQuery, queryMethod, operations, applicationContext);
 			} else if (queryMethod.hasAnnotatedQuery()) {
 				return new StringBasedArangoQuery(queryMethod, operations, applicationContext);
+			} else if (queryMethod.hasAnnotatedTraversal()) {
+				return new TraversalArangoQuery(queryMethod, operations);
 			} else {
 				return new DerivedArangoQuery(queryMethod, operations);
 			}
@@ -30,6 +30,7 @@ import org.springframework.data.repository.core.support.RepositoryFactorySupport
 import org.springframework.util.Assert;
 
 import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.repository.query.QueryPlanVerifier;
 
 /**
  * Created by F625633 on 07/07/2017.
@@ -39,6 +40,7 @@ public class ArangoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
 	private ArangoOperations arangoOperations;
 	private ApplicationContext applicationContext;
+	private QueryPlanVerifier queryPlanVerifier;
 
 	@Autowired
 	public ArangoRepositoryFactoryBean(final Class<? extends T> repositoryInterface) {
@@ -50,10 +52,19 @@ public class ArangoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		this.arangoOperations = arangoOperations;
 	}
 
+	@Autowired(required = false)
+	public void setQueryPlanVerifier(final QueryPlanVerifier queryPlanVerifier) {
+		this.queryPlanVerifier = queryPlanVerifier;
+	}
+
 	@Override
 	protected RepositoryFactorySupport createRepositoryFactory() {
 		Assert.notNull(arangoOperations, "arangoOperations not configured");
-		return new ArangoRepositoryFactory(arangoOperations, applicationContext);
+		final ArangoRepositoryFactory factory = new ArangoRepositoryFactory(arangoOperations, applicationContext);
+		if (queryPlanVerifier != null) {
+			factory.addQueryCreationListener(queryPlanVerifier);
+		}
+		return factory;
 	}
 
 	@Override
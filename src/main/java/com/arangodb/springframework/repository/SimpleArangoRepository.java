@@ -67,25 +67,24 @@ public class SimpleArangoRepository<T, ID> implements ArangoRepository<T, ID> {
 	 * Saves the passed entity to the database using repsert from the template
 	 *
 	 * @param entity the entity to be saved to the database
-	 * @return the updated entity with any id/key/rev saved
+	 * @return the stored entity with any id/key/rev saved, as returned by the entity callbacks
 	 */
 	@Override
 	public <S extends T> S save(final S entity) {
-		arangoOperations.repsert(entity);
-		return entity;
+		return arangoOperations.save(entity);
 	}
 
 	/**
 	 * Saves the given iterable of entities to the database using repsert from the template
 	 *
 	 * @param entities the iterable of entities to be saved to the database
-	 * @return the iterable of updated entities with any id/key/rev saved in each
-	 *         entity
+	 * @return the iterable of stored entities with any id/key/rev saved in each
+	 *         entity, as returned by the entity callbacks
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public <S extends T> Iterable<S> saveAll(final Iterable<S> entities) {
-		arangoOperations.repsert(entities, domainClass);
-		return entities;
+		return (Iterable<S>) arangoOperations.saveAll(entities, domainClass);
 	}
 
 	/**
@@ -326,7 +325,13 @@ public class SimpleArangoRepository<T, ID> implements ArangoRepository<T, ID> {
 	 */
 	@Override
 	public <S extends T> boolean exists(final Example<S> example) {
-		return count(example) > 0;
+		final Map<String, Object> bindVars = new HashMap<>();
+		bindVars.put("@col", getCollectionName());
+		final String predicate = exampleConverter.convertExampleToPredicate(example, bindVars);
+		final String filter = predicate.length() == 0 ? "" : " FILTER " + predicate;
+		final String query = String.format("FOR e IN @@col %s LIMIT 1 RETURN true", filter);
+		arangoOperations.collection(domainClass);
+		return arangoOperations.query(query, bindVars, null, Boolean.class).hasNext();
 	}
 
 	private <S extends T> ArangoCursor<T> findAllInternal(final Sort sort, @Nullable final Example<S> example,
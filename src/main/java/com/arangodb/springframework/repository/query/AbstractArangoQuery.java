@@ -20,20 +20,37 @@
 
 package com.arangodb.springframework.repository.query;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import com.arangodb.springframework.core.mapping.ArangoMappingContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 import com.arangodb.ArangoCursor;
 import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.springframework.annotation.CachedQuery;
 import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.convert.FetchPlan;
+import com.arangodb.springframework.core.convert.IdentityMap;
+import com.arangodb.springframework.core.template.BatchStatistics;
+import com.arangodb.springframework.core.template.SlowQueryLog;
+import com.arangodb.springframework.core.template.CursorOptions;
+import com.arangodb.springframework.core.util.AqlUtils;
+import com.arangodb.springframework.transaction.ArangoTransactionHolder;
 import com.arangodb.velocypack.VPackSlice;
 
 /**
@@ -46,11 +63,17 @@ import com.arangodb.velocypack.VPackSlice;
 public abstract class AbstractArangoQuery implements RepositoryQuery {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(AbstractArangoQuery.class);
+	private static final Pattern WITH_PATTERN = Pattern.compile("^\\s*WITH\\s+([\\w-]+(?:\\s*,\\s*[\\w-]+)*)",
+		Pattern.CASE_INSENSITIVE);
 
 	protected final ArangoQueryMethod method;
 	protected final ArangoOperations operations;
 	protected final ArangoMappingContext mappingContext;
 	protected final Class<?> domainClass;
+	private final FetchPlan fetchPlan;
+	private final CursorOptions cursorOptions;
+	private final AdaptiveBatchSize adaptiveBatchSize;
+	private volatile PageCountStrategy pageCountStrategy;
 
 	public AbstractArangoQuery(final ArangoQueryMethod method, final ArangoOperations operations) {
 		Assert.notNull(method, "ArangoQueryMethod must not be null!");
@@ -59,20 +82,32 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 		this.operations = operations;
 		mappingContext = (ArangoMappingContext) operations.getConverter().getMappingContext();
 		this.domainClass = method.getEntityInformation().getJavaType();
+		fetchPlan = method.getFetchPlan();
+		cursorOptions = method.getCursorOptions();
+		adaptiveBatchSize = method.createAdaptiveBatchSize();
+		pageCountStrategy = method.createPageCountStrategy();
 	}
 
 	@Override
 	public Object execute(final Object[] parameters) {
-		final ArangoParameterAccessor accessor = new ArangoParametersParameterAccessor(method, parameters);
-		final Map<String, Object> bindVars = new HashMap<>();
+		final Supplier<Object> execution = () -> SlowQueryLog.withOrigin(method.toString(),
+			() -> doExecute(parameters));
+		final Supplier<Object> query = cursorOptions != null ? () -> cursorOptions.execute(execution) : execution;
+		return fetchPlan != null ? fetchPlan.execute(query) : query.get();
+	}
 
-		AqlQueryOptions options = mergeQueryOptions(method.getAnnotatedQueryOptions(), accessor.getQueryOptions());
-		if (options == null) {
-			options = new AqlQueryOptions();
-		}
+	private Object doExecute(final Object[] parameters) {
+		final ArangoParameterAccessor accessor = new ArangoParametersParameterAccessor(method, parameters,
+				method.isSliceQuery());
+		final Map<String, Object> bindVars = new HashMap<>();
 
-		if (method.isPageQuery()) {
-			options.fullCount(true);
+		final AqlQueryOptions dynamicOptions = accessor.getQueryOptions();
+		final AqlQueryOptions mergedOptions = mergeQueryOptions(method.getAnnotatedQueryOptions(), dynamicOptions);
+		final AqlQueryOptions options = mergedOptions != null ? mergedOptions : new AqlQueryOptions();
+		final boolean adaptive = adaptiveBatchSize != null
+				&& (dynamicOptions == null || dynamicOptions.getBatchSize() == null);
+		if (adaptive) {
+			options.batchSize(adaptiveBatchSize.getBatchSize());
 		}
 
 		final String query = createQuery(accessor, bindVars, options);
@@ -80,9 +115,144 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 		final ResultProcessor processor = method.getResultProcessor().withDynamicProjection(accessor);
 		final Class<?> typeToRead = getTypeToRead(processor);
 
-		final ArangoCursor<?> result = operations.query(query, bindVars, options, typeToRead);
+		if (isModifyingQuery()) {
+			final ArangoCursor<?> result = operations.query(query, bindVars, options, typeToRead);
+			logWarningsIfNecessary(result);
+			operations.getQueryResultCache().invalidate(getReadCollections(query, bindVars, null));
+			return convertModifyingResult(result);
+		}
+
+		final Supplier<Object> execution = () -> executeQuery(query, bindVars, options, typeToRead, processor, accessor,
+			adaptive);
+		final Supplier<Object> read = isPartialRead(accessor) ? () -> IdentityMap.isolate(execution) : execution;
+
+		final CachedQuery cachedQuery = method.getCachedQueryAnnotation();
+		if (cachedQuery != null && isCacheable() && !AqlUtils.isWriteQuery(query)) {
+			return operations.getQueryResultCache().get(method, cachedQuery.timeUnit().toMillis(cachedQuery.ttl()),
+				cachedQuery.maxEntries(), getReadCollections(query, bindVars, cachedQuery),
+				getCacheKey(query, bindVars, typeToRead, processor.getReturnedType().getReturnedType()), read);
+		}
+		return read.get();
+	}
+
+	private Object executeQuery(
+		final String query,
+		final Map<String, Object> bindVars,
+		final AqlQueryOptions options,
+		final Class<?> typeToRead,
+		final ResultProcessor processor,
+		final ArangoParameterAccessor accessor,
+		final boolean adaptive) {
+		Long total = null;
+		PageCountContext pageCount = null;
+		if (method.isPageQuery()) {
+			// totals within a stream transaction are neither shared nor counted concurrently to the query
+			if (!isTransactional()) {
+				pageCount = new PageCountContext(query, bindVars, operations, domainClass, accessor.getPageable());
+				total = pageCountStrategy.determineTotal(pageCount);
+			}
+			if (total == null) {
+				options.fullCount(true);
+			}
+		}
+		final ArangoCursor<?> result = adaptive ? queryAdaptive(query, bindVars, options, typeToRead)
+				: operations.query(query, bindVars, options, typeToRead);
 		logWarningsIfNecessary(result);
-		return processor.processResult(convertResult(result, accessor));
+		if (pageCount != null && total == null && result.getStats().getFullCount() != null) {
+			pageCountStrategy.onTotal(pageCount, result.getStats().getFullCount());
+		}
+		return processor.processResult(convertResult(result, accessor, total));
+	}
+
+	/**
+	 * Executes the query recording its first batch, to adjust the batch size of the following executions.
+	 */
+	private ArangoCursor<?> queryAdaptive(
+		final String query,
+		final Map<String, Object> bindVars,
+		final AqlQueryOptions options,
+		final Class<?> typeToRead) {
+		final BatchStatistics statistics = new BatchStatistics();
+		final long start = System.nanoTime();
+		final ArangoCursor<?> result = statistics.execute(() -> operations.query(query, bindVars, options, typeToRead));
+		if (statistics.isRecorded()) {
+			final int previous = adaptiveBatchSize.getBatchSize();
+			adaptiveBatchSize.record(statistics.getDocuments(), statistics.getBytes(), statistics.hasMore(),
+				System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			if (LOGGER.isDebugEnabled() && adaptiveBatchSize.getBatchSize() != previous) {
+				LOGGER.debug("Adjusted batch size of [" + method + "]: " + adaptiveBatchSize);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Builds the key of a cached result from the serialized bind parameters, so that equal values of types without a
+	 * value based {@code equals}, e.g. arrays or entities, map to the same result.
+	 */
+	private Object getCacheKey(
+		final String query,
+		final Map<String, Object> bindVars,
+		final Class<?> typeToRead,
+		final Class<?> returnedType) {
+		return Arrays.asList(query, serializeBindVars(operations, bindVars), typeToRead, returnedType);
+	}
+
+	/**
+	 * Serializes the values of bind parameters to compare them, collection parameters given as type by its name.
+	 */
+	static Map<String, String> serializeBindVars(
+		final ArangoOperations operations,
+		final Map<String, Object> bindVars) {
+		final Map<String, String> serialized = new TreeMap<>();
+		for (final Map.Entry<String, Object> entry : bindVars.entrySet()) {
+			final Object value = entry.getValue();
+			serialized.put(entry.getKey(), value instanceof Class ? ((Class<?>) value).getName()
+					: String.valueOf(operations.getConverter().write(value)));
+		}
+		return serialized;
+	}
+
+	private boolean isCacheable() {
+		return !method.isStreamQuery() && !ArangoCursor.class.isAssignableFrom(method.getReturnType().getType())
+				&& !isTransactional();
+	}
+
+	/**
+	 * @return whether the query runs within a stream transaction, whose results contain its uncommitted writes
+	 */
+	private boolean isTransactional() {
+		return TransactionSynchronizationManager.getResource(operations) instanceof ArangoTransactionHolder;
+	}
+
+	/**
+	 * Determines the collections a query reads: the collection of the domain type, collection bind parameters, the
+	 * collections of a leading {@code WITH} clause and the collections declared in {@link CachedQuery#collections()}.
+	 */
+	private Set<String> getReadCollections(
+		final String query,
+		final Map<String, Object> bindVars,
+		final CachedQuery cachedQuery) {
+		final Set<String> collections = new LinkedHashSet<>();
+		collections.add(mappingContext.getRequiredPersistentEntity(domainClass).getCollection());
+		for (final Map.Entry<String, Object> entry : bindVars.entrySet()) {
+			if (entry.getKey().startsWith("@") && entry.getValue() != null) {
+				final Object value = entry.getValue();
+				collections.add(value instanceof Class
+						? mappingContext.getRequiredPersistentEntity((Class<?>) value).getCollection()
+						: value.toString());
+			}
+		}
+		final Matcher with = WITH_PATTERN.matcher(query);
+		if (with.find()) {
+			for (final String collection : with.group(1).split(",")) {
+				collections.add(collection.trim());
+			}
+		}
+		if (cachedQuery != null) {
+			collections.addAll(Arrays.asList(cachedQuery.collections()));
+		}
+		return collections;
 	}
 
 	private void logWarningsIfNecessary(final ArangoCursor<?> result) {
@@ -96,6 +266,47 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 		return method;
 	}
 
+	/**
+	 * Creates the AQL query of the method for the given arguments without executing it, e.g. to explain it.
+	 *
+	 * @param parameters
+	 *            the arguments of the method
+	 * @param bindVars
+	 *            receives the binding parameters of the query
+	 * @return the created AQL query
+	 */
+	public String createQuery(final Object[] parameters, final Map<String, Object> bindVars) {
+		final ArangoParameterAccessor accessor = new ArangoParametersParameterAccessor(method, parameters,
+				method.isSliceQuery());
+		final AqlQueryOptions mergedOptions = mergeQueryOptions(method.getAnnotatedQueryOptions(),
+			accessor.getQueryOptions());
+		return createQuery(accessor, bindVars, mergedOptions != null ? mergedOptions : new AqlQueryOptions());
+	}
+
+	/**
+	 * @return the controller of the batch size of the method, {@literal null} if adaptive batch sizing is not enabled
+	 */
+	public AdaptiveBatchSize getAdaptiveBatchSize() {
+		return adaptiveBatchSize;
+	}
+
+	public PageCountStrategy getPageCountStrategy() {
+		return pageCountStrategy;
+	}
+
+	/**
+	 * Sets how the total number of results is determined, if the method returns a
+	 * {@link org.springframework.data.domain.Page}.
+	 *
+	 * @param pageCountStrategy
+	 *            the strategy, defaults to the one selected with
+	 *            {@link com.arangodb.springframework.annotation.QueryOptions#pageCount()}
+	 */
+	public void setPageCountStrategy(final PageCountStrategy pageCountStrategy) {
+		Assert.notNull(pageCountStrategy, "PageCountStrategy must not be null!");
+		this.pageCountStrategy = pageCountStrategy;
+	}
+
 	/**
 	 * Implementations should create an AQL query with the given
 	 * {@link com.arangodb.springframework.repository.query.ArangoParameterAccessor} and set necessary binding
@@ -118,6 +329,21 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 
 	protected abstract boolean isExistsQuery();
 
+	/**
+	 * @return whether the query modifies documents and the method returns the number of written documents, which is
+	 *         the case for derived {@code deleteBy}/{@code removeBy} and {@code update...By} methods and
+	 *         {@link com.arangodb.springframework.annotation.Update} queries
+	 */
+	protected abstract boolean isModifyingQuery();
+
+	/**
+	 * @return whether the query returns only some fields of the documents, which are then read in an
+	 *         {@link IdentityMap#isolate(Supplier) isolated} identity map
+	 */
+	protected boolean isPartialRead(final ArangoParameterAccessor accessor) {
+		return false;
+	}
+
 	/**
 	 * Merges AqlQueryOptions derived from @QueryOptions with dynamically passed AqlQueryOptions which takes priority
 	 * 
@@ -169,7 +395,7 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 
 	private Class<?> getTypeToRead(final ResultProcessor processor) {
 		if (isExistsQuery()) {
-			return Integer.class;
+			return Boolean.class;
 		}
 
 		if (method.isGeoQuery()) {
@@ -180,16 +406,36 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 		return typeToRead != null ? typeToRead : Map.class;
 	}
 
-	private Object convertResult(final ArangoCursor<?> result, final ArangoParameterAccessor accessor) {
+	private Object convertResult(
+		final ArangoCursor<?> result,
+		final ArangoParameterAccessor accessor,
+		final Long total) {
 		if (isExistsQuery()) {
-			if (!result.hasNext()) {
-				return false;
-			}
-			return (Integer) result.next() > 0;
+			return result.hasNext();
 		}
 		final ArangoResultConverter resultConverter = new ArangoResultConverter(accessor, result, operations,
-				domainClass);
+				domainClass, total);
 		return resultConverter.convertResult(method.getReturnType().getType());
 	}
 
+	private Object convertModifyingResult(final ArangoCursor<?> result) {
+		final Class<?> returnType = method.getReturnType().getType();
+		final Long writesExecuted = result.getStats().getWritesExecuted();
+		final long count = writesExecuted != null ? writesExecuted : 0L;
+		if (void.class.equals(returnType) || Void.class.equals(returnType)) {
+			return null;
+		}
+		if (boolean.class.equals(returnType) || Boolean.class.equals(returnType)) {
+			return count > 0;
+		}
+		if (int.class.equals(returnType) || Integer.class.equals(returnType)) {
+			return (int) count;
+		}
+		if (long.class.equals(returnType) || Long.class.equals(returnType)) {
+			return count;
+		}
+		throw new IllegalArgumentException(String.format(
+			"Modifying query must return void, boolean, int or long! Offending method: %s", method));
+	}
+
 }
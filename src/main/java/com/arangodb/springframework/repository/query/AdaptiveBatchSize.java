@@ -0,0 +1,157 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.query;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * Adjusts the batch size of the executions of a query method toward a target size and round-trip latency of the
+ * result batches. It tracks the moving averages of the bytes per document and of the latency of the first batch,
+ * observed by the previous executions.
+ * <p>
+ * The batch size grows toward the target size only while batches are full, so a query always returning few documents
+ * keeps its batch size. It shrinks as soon as batches exceed the target size or latency. Each adjustment changes the
+ * batch size by a factor of two at most. The values are exposed by the getters, e.g. to metrics gauges registered by a
+ * {@link org.springframework.data.repository.core.support.QueryCreationListener}.
+ *
+ * @see com.arangodb.springframework.annotation.QueryOptions#adaptiveBatchSize()
+ */
+public class AdaptiveBatchSize {
+
+	public static final int DEFAULT_INITIAL_BATCH_SIZE = 1000;
+	public static final int MIN_BATCH_SIZE = 1;
+	public static final int MAX_BATCH_SIZE = 100_000;
+
+	private static final double WEIGHT = 0.2;
+
+	private final long targetBytes;
+	private final long targetLatency;
+	private volatile int batchSize;
+	private volatile double bytesPerDocument;
+	private volatile double latency;
+	private volatile long samples;
+
+	/**
+	 * @param initialBatchSize
+	 *            batch size of the first execution
+	 * @param targetBytes
+	 *            target size of a batch in bytes
+	 * @param targetLatency
+	 *            target round-trip latency of a batch
+	 * @param unit
+	 *            unit of the latency
+	 */
+	public AdaptiveBatchSize(final int initialBatchSize, final long targetBytes, final long targetLatency,
+		final TimeUnit unit) {
+		super();
+		Assert.isTrue(targetBytes > 0, "Target bytes must be positive!");
+		Assert.isTrue(targetLatency > 0, "Target latency must be positive!");
+		this.batchSize = clamp(initialBatchSize);
+		this.targetBytes = targetBytes;
+		this.targetLatency = unit.toNanos(targetLatency);
+	}
+
+	/**
+	 * Records the first batch of an execution and adjusts the batch size of the following executions.
+	 *
+	 * @param documents
+	 *            number of documents in the batch
+	 * @param bytes
+	 *            size of the batch in bytes
+	 * @param full
+	 *            whether the batch was limited by the batch size
+	 * @param latency
+	 *            round-trip latency of the batch
+	 * @param unit
+	 *            unit of the latency
+	 */
+	public synchronized void record(final int documents, final long bytes, final boolean full, final long latency,
+		final TimeUnit unit) {
+		if (documents <= 0) {
+			return;
+		}
+		final long nanos = unit.toNanos(latency);
+		final double documentBytes = (double) bytes / documents;
+		bytesPerDocument = samples == 0 ? documentBytes : WEIGHT * documentBytes + (1 - WEIGHT) * bytesPerDocument;
+		this.latency = samples == 0 ? nanos : WEIGHT * nanos + (1 - WEIGHT) * this.latency;
+		samples++;
+
+		final int current = batchSize;
+		double next = targetBytes / bytesPerDocument;
+		if (this.latency > targetLatency) {
+			next = Math.min(next, current * targetLatency / this.latency);
+		}
+		if (!full) {
+			next = Math.min(next, current);
+		}
+		next = Math.max(current / 2.0, Math.min(current * 2.0, next));
+		batchSize = clamp((int) next);
+	}
+
+	private static int clamp(final int batchSize) {
+		return Math.max(MIN_BATCH_SIZE, Math.min(MAX_BATCH_SIZE, batchSize));
+	}
+
+	/**
+	 * @return the batch size of the next execution
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * @return the moving average of the bytes per document
+	 */
+	public double getBytesPerDocument() {
+		return bytesPerDocument;
+	}
+
+	/**
+	 * @return the moving average of the round-trip latency of a batch
+	 */
+	public long getLatency(final TimeUnit unit) {
+		return unit.convert((long) latency, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @return the number of recorded batches
+	 */
+	public long getSamples() {
+		return samples;
+	}
+
+	public long getTargetBytes() {
+		return targetBytes;
+	}
+
+	public long getTargetLatency(final TimeUnit unit) {
+		return unit.convert(targetLatency, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public String toString() {
+		return "AdaptiveBatchSize [batchSize=" + batchSize + ", bytesPerDocument=" + (long) bytesPerDocument
+				+ ", latencyMillis=" + getLatency(TimeUnit.MILLISECONDS) + ", samples=" + samples + "]";
+	}
+
+}
@@ -23,6 +23,7 @@ package com.arangodb.springframework.repository.query;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 
 import com.arangodb.model.AqlQueryOptions;
@@ -38,10 +39,27 @@ import com.arangodb.model.AqlQueryOptions;
 public class ArangoParametersParameterAccessor extends ParametersParameterAccessor implements ArangoParameterAccessor {
 
     private final ArangoParameters parameters;
+    private final boolean lookAhead;
 
     public ArangoParametersParameterAccessor(ArangoQueryMethod method, Object[] values) {
+        this(method, values, false);
+    }
+
+    /**
+     * @param lookAhead
+     *            whether the pageable requests one result more than the page size, to determine whether there is a
+     *            next slice without counting all results
+     */
+    public ArangoParametersParameterAccessor(ArangoQueryMethod method, Object[] values, boolean lookAhead) {
         super(method.getParameters(), values);
         this.parameters = method.getParameters();
+        this.lookAhead = lookAhead;
+    }
+
+    @Override
+    public Pageable getPageable() {
+        final Pageable pageable = super.getPageable();
+        return lookAhead && pageable.isPaged() ? new LookAheadPageRequest(pageable) : pageable;
     }
 
     @Override
@@ -24,6 +24,7 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.geo.GeoPage;
@@ -37,8 +38,14 @@ import org.springframework.data.util.TypeInformation;
 import org.springframework.util.StringUtils;
 
 import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.springframework.annotation.CachedQuery;
 import com.arangodb.springframework.annotation.Query;
 import com.arangodb.springframework.annotation.QueryOptions;
+import com.arangodb.springframework.annotation.Search;
+import com.arangodb.springframework.annotation.Traversal;
+import com.arangodb.springframework.annotation.Update;
+import com.arangodb.springframework.core.convert.FetchPlan;
+import com.arangodb.springframework.core.template.CursorOptions;
 
 /**
  * 
@@ -88,6 +95,10 @@ public class ArangoQueryMethod extends QueryMethod {
 				.filter(StringUtils::hasText);
 	}
 
+	public boolean hasAnnotatedUpdate() {
+		return AnnotatedElementUtils.hasAnnotation(method, Update.class);
+	}
+
 	public boolean hasAnnotatedQueryOptions() {
 		return getQueryOptionsAnnotation() != null;
 	}
@@ -134,6 +145,83 @@ public class ArangoQueryMethod extends QueryMethod {
 		return AnnotatedElementUtils.findMergedAnnotation(method, QueryOptions.class);
 	}
 
+	public boolean hasAnnotatedTraversal() {
+		return getTraversalAnnotation() != null;
+	}
+
+	public Traversal getTraversalAnnotation() {
+		return AnnotatedElementUtils.findMergedAnnotation(method, Traversal.class);
+	}
+
+	public Search getSearchAnnotation() {
+		return AnnotatedElementUtils.findMergedAnnotation(method, Search.class);
+	}
+
+	/**
+	 * @return the fetch plan annotated on the method, {@literal null} if there is none
+	 */
+	public FetchPlan getFetchPlan() {
+		final com.arangodb.springframework.annotation.FetchPlan annotation = AnnotatedElementUtils
+				.findMergedAnnotation(method, com.arangodb.springframework.annotation.FetchPlan.class);
+		if (annotation == null) {
+			return null;
+		}
+		return FetchPlan.empty().include(annotation.include()).lazy(annotation.lazy()).exclude(annotation.exclude());
+	}
+
+	/**
+	 * @return the client side cursor options annotated on the method, {@literal null} if there are none
+	 */
+	public CursorOptions getCursorOptions() {
+		final QueryOptions queryOptions = getQueryOptionsAnnotation();
+		if (queryOptions == null || (queryOptions.prefetchBatches() <= 0 && !queryOptions.parallelDecoding())) {
+			return null;
+		}
+		final CursorOptions options = CursorOptions.defaults().prefetch(queryOptions.prefetchBatches());
+		return queryOptions.parallelDecoding() ? options.decodeInParallel() : options;
+	}
+
+	/**
+	 * @return a new controller of the batch size of the method, {@literal null} if adaptive batch sizing is not
+	 *         enabled
+	 */
+	public AdaptiveBatchSize createAdaptiveBatchSize() {
+		final QueryOptions queryOptions = getQueryOptionsAnnotation();
+		if (queryOptions == null || !queryOptions.adaptiveBatchSize()) {
+			return null;
+		}
+		final int initialBatchSize = queryOptions.batchSize() != -1 ? queryOptions.batchSize()
+				: AdaptiveBatchSize.DEFAULT_INITIAL_BATCH_SIZE;
+		return new AdaptiveBatchSize(initialBatchSize, queryOptions.targetBatchBytes(),
+				queryOptions.targetBatchLatency(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * @return a new strategy determining the total number of results, as selected with
+	 *         {@link QueryOptions#pageCount()}
+	 */
+	public PageCountStrategy createPageCountStrategy() {
+		final QueryOptions queryOptions = getQueryOptionsAnnotation();
+		if (queryOptions == null) {
+			return PageCountStrategy.exact();
+		}
+		switch (queryOptions.pageCount()) {
+		case CACHED:
+			return PageCountStrategy.cached(queryOptions.pageCountTtl(), TimeUnit.MILLISECONDS);
+		case ESTIMATED:
+			return PageCountStrategy.estimated();
+		case ASYNC:
+			return PageCountStrategy.async(queryOptions.pageCountTtl(), TimeUnit.MILLISECONDS);
+		case EXACT:
+		default:
+			return PageCountStrategy.exact();
+		}
+	}
+
+	public CachedQuery getCachedQueryAnnotation() {
+		return AnnotatedElementUtils.findMergedAnnotation(method, CachedQuery.class);
+	}
+
 	public TypeInformation<?> getReturnType() {
 		return returnType;
 	}
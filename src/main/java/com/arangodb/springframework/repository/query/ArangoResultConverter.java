@@ -20,6 +20,8 @@
 
 package com.arangodb.springframework.repository.query;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashMap;
@@ -28,13 +30,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.GeoPage;
 import org.springframework.data.geo.GeoResult;
@@ -64,6 +70,7 @@ public class ArangoResultConverter {
 	private final ArangoCursor<?> result;
 	private final ArangoOperations operations;
 	private final Class<?> domainClass;
+	private final Long total;
 
 	private static Map<Object, Method> TYPE_MAP = new HashMap<>();
 
@@ -76,9 +83,10 @@ public class ArangoResultConverter {
 			TYPE_MAP.put(Iterable.class, ArangoResultConverter.class.getMethod("convertList"));
 			TYPE_MAP.put(Collection.class, ArangoResultConverter.class.getMethod("convertList"));
 			TYPE_MAP.put(Page.class, ArangoResultConverter.class.getMethod("convertPage"));
-			TYPE_MAP.put(Slice.class, ArangoResultConverter.class.getMethod("convertPage"));
+			TYPE_MAP.put(Slice.class, ArangoResultConverter.class.getMethod("convertSlice"));
 			TYPE_MAP.put(Set.class, ArangoResultConverter.class.getMethod("convertSet"));
 			TYPE_MAP.put(ArangoCursor.class, ArangoResultConverter.class.getMethod("convertArangoCursor"));
+			TYPE_MAP.put(Stream.class, ArangoResultConverter.class.getMethod("convertStream"));
 			TYPE_MAP.put(GeoResult.class, ArangoResultConverter.class.getMethod("convertGeoResult"));
 			TYPE_MAP.put(GeoResults.class, ArangoResultConverter.class.getMethod("convertGeoResults"));
 			TYPE_MAP.put(GeoPage.class, ArangoResultConverter.class.getMethod("convertGeoPage"));
@@ -100,10 +108,27 @@ public class ArangoResultConverter {
 	 */
 	public ArangoResultConverter(final ArangoParameterAccessor accessor, final ArangoCursor<?> result,
 		final ArangoOperations operations, final Class<?> domainClass) {
+		this(accessor, result, operations, domainClass, null);
+	}
+
+	/**
+	 * @param accessor
+	 * @param result
+	 *            the query result returned by the driver
+	 * @param operations
+	 *            instance of arangoTemplate
+	 * @param domainClass
+	 *            class type of documents
+	 * @param total
+	 *            total number of results of a page query, {@literal null} to use the full count of the result
+	 */
+	public ArangoResultConverter(final ArangoParameterAccessor accessor, final ArangoCursor<?> result,
+		final ArangoOperations operations, final Class<?> domainClass, final Long total) {
 		this.accessor = accessor;
 		this.result = result;
 		this.operations = operations;
 		this.domainClass = domainClass;
+		this.total = total;
 	}
 
 	/**
@@ -218,8 +243,29 @@ public class ArangoResultConverter {
 	}
 
 	public PageImpl<?> convertPage() {
+		return new PageImpl<>(result.asListRemaining(), accessor.getPageable(), getTotal());
+	}
+
+	/**
+	 * Builds the slice from a result containing one document more than requested if there is a next slice.
+	 */
+	public SliceImpl<?> convertSlice() {
+		final List<?> content = result.asListRemaining();
+		final Pageable pageable = accessor.getPageable();
+		if (!(pageable instanceof LookAheadPageRequest)) {
+			return new SliceImpl<>(content, pageable, false);
+		}
+		final Pageable requested = ((LookAheadPageRequest) pageable).getRequested();
+		final boolean hasNext = content.size() > requested.getPageSize();
+		return new SliceImpl<>(hasNext ? content.subList(0, requested.getPageSize()) : content, requested, hasNext);
+	}
+
+	private long getTotal() {
+		if (total != null) {
+			return total;
+		}
 		Assert.notNull(result.getStats().getFullCount(), MISSING_FULL_COUNT);
-		return new PageImpl<>(result.asListRemaining(), accessor.getPageable(), result.getStats().getFullCount());
+		return result.getStats().getFullCount();
 	}
 
 	public Set<?> convertSet() {
@@ -230,6 +276,20 @@ public class ArangoResultConverter {
 		return result;
 	}
 
+	/**
+	 * Streams the cursor, closing it when the stream is closed, e.g. if it is not consumed completely.
+	 */
+	public Stream<?> convertStream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(result, Spliterator.ORDERED), false)
+				.onClose(() -> {
+					try {
+						result.close();
+					} catch (final IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+	}
+
 	public GeoResult<?> convertGeoResult() {
 		return buildGeoResult(result);
 	}
@@ -239,8 +299,7 @@ public class ArangoResultConverter {
 	}
 
 	public GeoPage<?> convertGeoPage() {
-		Assert.notNull(result.getStats().getFullCount(), MISSING_FULL_COUNT);
-		return new GeoPage<>(buildGeoResults(result), accessor.getPageable(), result.getStats().getFullCount());
+		return new GeoPage<>(buildGeoResults(result), accessor.getPageable(), getTotal());
 	}
 
 	public Object convertArray() {
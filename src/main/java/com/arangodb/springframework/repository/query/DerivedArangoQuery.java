@@ -23,14 +23,22 @@ package com.arangodb.springframework.repository.query;
 import com.arangodb.entity.IndexEntity;
 import com.arangodb.entity.IndexType;
 import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.springframework.annotation.Search;
 import com.arangodb.springframework.core.ArangoOperations;
 import com.arangodb.springframework.repository.query.derived.BindParameterBinding;
 import com.arangodb.springframework.repository.query.derived.DerivedQueryCreator;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.StringUtils;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  *
@@ -41,13 +49,32 @@ import java.util.Map;
  */
 public class DerivedArangoQuery extends AbstractArangoQuery {
 
+	private static final Pattern UPDATE_PATTERN = Pattern.compile("^update(\\p{Lu}.*?)By(\\p{Lu}.*)$");
+	private static final String UPDATE_PROPERTY_DELIMITER = "And";
+	private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
 	private final PartTree tree;
 	private final List<String> geoFields;
+	private final List<String> updateProperties;
+	private final Search search;
 
 	public DerivedArangoQuery(final ArangoQueryMethod method, final ArangoOperations operations) {
 		super(method, operations);
-		tree = new PartTree(method.getName(), domainClass);
+		final Matcher updateMatcher = UPDATE_PATTERN.matcher(method.getName());
+		if (updateMatcher.matches()) {
+			updateProperties = getUpdateProperties(updateMatcher.group(1));
+			tree = new PartTree("findBy" + updateMatcher.group(2), domainClass);
+		} else {
+			if (method.hasAnnotatedUpdate()) {
+				throw new IllegalArgumentException(String.format(
+					"@Update is only supported on derived queries named update<Properties>By<Criteria> and @Query methods! Offending method: %s",
+					method));
+			}
+			updateProperties = Collections.emptyList();
+			tree = new PartTree(method.getName(), domainClass);
+		}
 		geoFields = getGeoFields();
+		search = method.getSearchAnnotation();
 	}
 
 	@Override
@@ -56,8 +83,34 @@ public class DerivedArangoQuery extends AbstractArangoQuery {
 		final Map<String, Object> bindVars,
 		final AqlQueryOptions options) {
 
+		if (search != null) {
+			// bootstraps the collection and its view in the current database
+			operations.collection(domainClass);
+		}
 		return new DerivedQueryCreator(mappingContext, domainClass, tree, accessor, new BindParameterBinding(bindVars),
-				geoFields).createQuery();
+				geoFields, updateProperties, search, getProjection(accessor)).createQuery();
+	}
+
+	/**
+	 * Returns the properties read by the returned type, if it is a DTO or a closed interface projection. Open
+	 * projections may access any property of the entity through SpEL, so they get whole documents.
+	 */
+	private List<String> getProjection(final ArangoParameterAccessor accessor) {
+		final ReturnedType returnedType = method.getResultProcessor().withDynamicProjection(accessor)
+				.getReturnedType();
+		if (!returnedType.isProjecting()) {
+			return Collections.emptyList();
+		}
+		final Class<?> type = returnedType.getReturnedType();
+		if (type.isInterface() && !PROJECTION_FACTORY.getProjectionInformation(type).isClosed()) {
+			return Collections.emptyList();
+		}
+		return returnedType.getInputProperties();
+	}
+
+	@Override
+	protected boolean isPartialRead(final ArangoParameterAccessor accessor) {
+		return !getProjection(accessor).isEmpty();
 	}
 
 	@Override
@@ -70,6 +123,23 @@ public class DerivedArangoQuery extends AbstractArangoQuery {
 		return tree.isExistsProjection();
 	}
 
+	@Override
+	protected boolean isModifyingQuery() {
+		return tree.isDelete() || !updateProperties.isEmpty();
+	}
+
+	/**
+	 * Splits the part between {@code update} and {@code By} of a method name like
+	 * {@code updateStatusAndNameByCustomerId} into the properties to update, e.g. {@code status} and {@code name}.
+	 */
+	private static List<String> getUpdateProperties(final String source) {
+		final List<String> properties = new LinkedList<>();
+		for (final String property : source.split(UPDATE_PROPERTY_DELIMITER + "(?=\\p{Lu})")) {
+			properties.add(StringUtils.uncapitalize(property));
+		}
+		return properties;
+	}
+
 	private List<String> getGeoFields() {
 		final List<String> geoFields = new LinkedList<>();
 		if (method.isGeoQuery()) {
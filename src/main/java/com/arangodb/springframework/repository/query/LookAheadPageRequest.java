@@ -0,0 +1,53 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.query;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Requests one result more than the requested page, to determine whether a
+ * {@link org.springframework.data.domain.Slice} has a next one.
+ */
+class LookAheadPageRequest extends PageRequest {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Pageable requested;
+
+	LookAheadPageRequest(final Pageable requested) {
+		super(requested.getPageNumber(), requested.getPageSize() + 1, requested.getSort());
+		this.requested = requested;
+	}
+
+	@Override
+	public long getOffset() {
+		return requested.getOffset();
+	}
+
+	/**
+	 * @return the pageable requested by the caller
+	 */
+	Pageable getRequested() {
+		return requested;
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.query;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.util.AqlUtils;
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * A page query whose total number of results is determined by a {@link PageCountStrategy}.
+ */
+public class PageCountContext {
+
+	private final String query;
+	private final Map<String, Object> bindVars;
+	private final ArangoOperations operations;
+	private final Class<?> domainClass;
+	private final Pageable pageable;
+
+	public PageCountContext(final String query, final Map<String, Object> bindVars, final ArangoOperations operations,
+		final Class<?> domainClass) {
+		this(query, bindVars, operations, domainClass, null);
+	}
+
+	/**
+	 * @param pageable
+	 *            the requested page, whose {@code LIMIT} clause the query contains
+	 */
+	public PageCountContext(final String query, final Map<String, Object> bindVars, final ArangoOperations operations,
+		final Class<?> domainClass, @Nullable final Pageable pageable) {
+		super();
+		this.query = query;
+		this.bindVars = bindVars;
+		this.operations = operations;
+		this.domainClass = domainClass;
+		this.pageable = pageable;
+	}
+
+	public String getQuery() {
+		return query;
+	}
+
+	public Map<String, Object> getBindVars() {
+		return bindVars;
+	}
+
+	public ArangoOperations getOperations() {
+		return operations;
+	}
+
+	public Class<?> getDomainClass() {
+		return domainClass;
+	}
+
+	/**
+	 * @return key identifying executions of the same query with the same bind parameters on the same database,
+	 *         regardless of the requested page. Bind parameters are compared by their serialized values.
+	 */
+	public Object getKey() {
+		return Arrays.asList(operations.getDatabaseName(), removeLimitClause(),
+			AbstractArangoQuery.serializeBindVars(operations, bindVars));
+	}
+
+	private String removeLimitClause() {
+		if (pageable == null || pageable.isUnpaged()) {
+			return query;
+		}
+		// the clause of the page is the last one, following those of subqueries
+		final String limit = AqlUtils.buildLimitClause(pageable);
+		final int index = query.lastIndexOf(limit);
+		return index < 0 ? query : query.substring(0, index) + query.substring(index + limit.length());
+	}
+
+	/**
+	 * Counts the results of the query by executing it again with {@code fullCount}, without reading its results.
+	 *
+	 * @return the total number of results
+	 */
+	public long countExactly() {
+		final ArangoCursor<VPackSlice> cursor = operations.query(query, bindVars,
+			new AqlQueryOptions().fullCount(true).count(true).batchSize(1), VPackSlice.class);
+		final Long fullCount = cursor.getStats().getFullCount();
+		final Integer count = cursor.getCount();
+		try {
+			cursor.close();
+		} catch (final IOException e) {
+			// the server discards the cursor after its ttl
+		}
+		return fullCount != null ? fullCount : count != null ? count : 0;
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.query;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.arangodb.springframework.core.ArangoOperations;
+
+/**
+ * Implementations of the {@link PageCountStrategy} factory methods.
+ */
+final class PageCountStrategies {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PageCountStrategies.class);
+
+	/**
+	 * Maximum number of totals retained per query method
+	 */
+	private static final int MAX_ENTRIES = 1000;
+
+	static final PageCountStrategy EXACT = context -> null;
+
+	static final PageCountStrategy ESTIMATED = context -> context.getOperations()
+			.collection(context.getDomainClass()).count();
+
+	private PageCountStrategies() {
+	}
+
+	private static class Total {
+		private final long value;
+		private final long countedAt;
+
+		Total(final long value, final long countedAt) {
+			this.value = value;
+			this.countedAt = countedAt;
+		}
+	}
+
+	static class Cached implements PageCountStrategy {
+
+		protected final long ttl;
+		private final Map<Object, Total> totals;
+
+		@SuppressWarnings("serial")
+		Cached(final long ttl) {
+			super();
+			this.ttl = ttl;
+			totals = new LinkedHashMap<Object, Total>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(final Map.Entry<Object, Total> eldest) {
+					return size() > MAX_ENTRIES;
+				}
+			};
+		}
+
+		protected Total get(final Object key) {
+			synchronized (totals) {
+				return totals.get(key);
+			}
+		}
+
+		@Override
+		public Long determineTotal(final PageCountContext context) {
+			final Total total = get(context.getKey());
+			return total != null && System.currentTimeMillis() - total.countedAt <= ttl ? total.value : null;
+		}
+
+		@Override
+		public void onTotal(final PageCountContext context, final long total) {
+			synchronized (totals) {
+				totals.put(context.getKey(), new Total(total, System.currentTimeMillis()));
+			}
+		}
+	}
+
+	static class Async extends Cached {
+
+		private final Executor executor;
+		private final Set<Object> counting = ConcurrentHashMap.newKeySet();
+
+		/**
+		 * @param executor
+		 *            executor counting expired totals, {@literal null} for the async executor of the operations
+		 */
+		Async(final long ttl, final Executor executor) {
+			super(ttl);
+			this.executor = executor;
+		}
+
+		@Override
+		public Long determineTotal(final PageCountContext context) {
+			final Object key = context.getKey();
+			final Total total = get(key);
+			if (total == null) {
+				return null;
+			}
+			if (System.currentTimeMillis() - total.countedAt <= ttl) {
+				return total.value;
+			}
+			// the count runs within the database and transaction of the calling thread
+			final ArangoOperations operations = context.getOperations();
+			final Executor counter = executor != null ? operations.withThreadContext(executor)
+					: operations.getAsyncExecutor();
+			if (counting.add(key)) {
+				try {
+					counter.execute(() -> {
+						try {
+							onTotal(context, context.countExactly());
+						} catch (final RuntimeException e) {
+							LOGGER.debug("Counting the results of a page query failed: " + e.getMessage());
+						} finally {
+							counting.remove(key);
+						}
+					});
+				} catch (final RejectedExecutionException e) {
+					counting.remove(key);
+				}
+			}
+			return total.value;
+		}
+	}
+
+}
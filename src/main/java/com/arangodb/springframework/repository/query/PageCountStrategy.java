@@ -0,0 +1,109 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.query;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * Determines the total number of results of a query method returning a {@link org.springframework.data.domain.Page}.
+ * A strategy either provides the total before the query is executed, or lets the query count it with
+ * {@code fullCount}.
+ * <p>
+ * The strategy of a method is selected with {@link com.arangodb.springframework.annotation.QueryOptions#pageCount()}
+ * or set with {@link AbstractArangoQuery#setPageCountStrategy(PageCountStrategy)}, e.g. by a
+ * {@link org.springframework.data.repository.core.support.QueryCreationListener}.
+ */
+public interface PageCountStrategy {
+
+	/**
+	 * Determines the total number of results of the given query before it is executed.
+	 *
+	 * @param context
+	 *            the query to count
+	 * @return the total, {@literal null} to count it with {@code fullCount} while executing the query
+	 */
+	Long determineTotal(PageCountContext context);
+
+	/**
+	 * Receives the total counted with {@code fullCount}, if {@link #determineTotal(PageCountContext)} returned
+	 * {@literal null}.
+	 */
+	default void onTotal(final PageCountContext context, final long total) {
+	}
+
+	/**
+	 * @return strategy counting the results of every execution
+	 */
+	static PageCountStrategy exact() {
+		return PageCountStrategies.EXACT;
+	}
+
+	/**
+	 * @param ttl
+	 *            time a total is reused
+	 * @param timeUnit
+	 *            time unit of {@code ttl}
+	 * @return strategy reusing the total of a query with the same bind parameters for the given time
+	 */
+	static PageCountStrategy cached(final long ttl, final TimeUnit timeUnit) {
+		return new PageCountStrategies.Cached(timeUnit.toMillis(ttl));
+	}
+
+	/**
+	 * @return strategy estimating the total by the number of documents in the collection of the domain type
+	 */
+	static PageCountStrategy estimated() {
+		return PageCountStrategies.ESTIMATED;
+	}
+
+	/**
+	 * @param ttl
+	 *            time after which a total is counted again
+	 * @param timeUnit
+	 *            time unit of {@code ttl}
+	 * @return strategy reusing the total of a query with the same bind parameters, counting an expired total again
+	 *         in the background while returning the expired one, on the
+	 *         {@link com.arangodb.springframework.core.ArangoOperations#getAsyncExecutor() async executor} of the
+	 *         operations
+	 */
+	static PageCountStrategy async(final long ttl, final TimeUnit timeUnit) {
+		return new PageCountStrategies.Async(timeUnit.toMillis(ttl), null);
+	}
+
+	/**
+	 * @param ttl
+	 *            time after which a total is counted again
+	 * @param timeUnit
+	 *            time unit of {@code ttl}
+	 * @param executor
+	 *            executor counting expired totals, within the database and stream transaction of the querying thread
+	 * @return strategy reusing the total of a query with the same bind parameters, counting an expired total again
+	 *         in the background while returning the expired one
+	 */
+	static PageCountStrategy async(final long ttl, final TimeUnit timeUnit, final Executor executor) {
+		Assert.notNull(executor, "Executor must not be null!");
+		return new PageCountStrategies.Async(timeUnit.toMillis(ttl), executor);
+	}
+
+}
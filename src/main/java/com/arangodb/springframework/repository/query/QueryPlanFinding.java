@@ -0,0 +1,93 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.query;
+
+/**
+ * Finding of the {@link QueryPlanVerifier} about the execution plan of a repository query method.
+ */
+public class QueryPlanFinding {
+
+	public enum Type {
+		/**
+		 * The plan enumerates all documents of a collection instead of using an index
+		 */
+		FULL_SCAN,
+		/**
+		 * The estimated cost of the plan exceeds the configured maximum
+		 */
+		HIGH_COST,
+		/**
+		 * The server could not explain the query, e.g. because it is invalid
+		 */
+		EXPLAIN_FAILED
+	}
+
+	private final Type type;
+	private final String method;
+	private final String query;
+	private final String collection;
+	private final String message;
+
+	public QueryPlanFinding(final Type type, final String method, final String query, final String collection,
+		final String message) {
+		super();
+		this.type = type;
+		this.method = method;
+		this.query = query;
+		this.collection = collection;
+		this.message = message;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * @return the repository query method
+	 */
+	public String getMethod() {
+		return method;
+	}
+
+	/**
+	 * @return the AQL query created with representative arguments
+	 */
+	public String getQuery() {
+		return query;
+	}
+
+	/**
+	 * @return the affected collection, {@literal null} if the finding concerns the whole plan
+	 */
+	public String getCollection() {
+		return collection;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	@Override
+	public String toString() {
+		return type + " at [" + method + "]: " + message + " - " + query;
+	}
+
+}
@@ -0,0 +1,323 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.query;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Box;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Point;
+import org.springframework.data.geo.Polygon;
+import org.springframework.data.repository.core.support.QueryCreationListener;
+import org.springframework.data.repository.query.Parameter;
+import org.springframework.util.Assert;
+
+import com.arangodb.entity.AqlExecutionExplainEntity;
+import com.arangodb.entity.AqlExecutionExplainEntity.ExecutionNode;
+import com.arangodb.entity.AqlExecutionExplainEntity.ExecutionPlan;
+import com.arangodb.entity.IndexEntity;
+import com.arangodb.entity.IndexType;
+import com.arangodb.model.AqlQueryExplainOptions;
+import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.repository.query.QueryPlanFinding.Type;
+
+/**
+ * Verifies the execution plans of repository query methods when the repositories are created. Every query method is
+ * turned into its AQL query with representative arguments and explained by the server. Plans which enumerate whole
+ * collections of at least {@link #setMinCollectionSize(long) a configured size} or exceed
+ * {@link #setMaxEstimatedCost(double) a configured estimated cost} are reported as {@link QueryPlanFinding findings}.
+ * <p>
+ * Register an instance as a bean to have it picked up by the repository factories. The findings are logged as
+ * warnings, with {@link #setFailFast(boolean) fail fast} enabled the creation of the repository fails instead.
+ * {@link #getReport()} summarizes the result, e.g. to be exposed through a health endpoint.
+ */
+public class QueryPlanVerifier implements QueryCreationListener<AbstractArangoQuery> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(QueryPlanVerifier.class);
+
+	private static final String ENUMERATE_COLLECTION_NODE = "EnumerateCollectionNode";
+
+	private final ArangoOperations operations;
+	private long minCollectionSize = 0;
+	private double maxEstimatedCost = 0;
+	private boolean failFast = false;
+
+	private final List<QueryPlanFinding> findings = new CopyOnWriteArrayList<>();
+	private final Set<String> collections = ConcurrentHashMap.newKeySet();
+	private final Set<String> usedIndexes = ConcurrentHashMap.newKeySet();
+	private final Map<String, Long> collectionSizes = new ConcurrentHashMap<>();
+	private final AtomicInteger verified = new AtomicInteger();
+	private final AtomicInteger skipped = new AtomicInteger();
+
+	public QueryPlanVerifier(final ArangoOperations operations) {
+		super();
+		Assert.notNull(operations, "ArangoOperations must not be null!");
+		this.operations = operations;
+	}
+
+	/**
+	 * @param minCollectionSize
+	 *            minimal number of documents of a collection for a full scan of it to be reported, defaults to 0
+	 */
+	public void setMinCollectionSize(final long minCollectionSize) {
+		this.minCollectionSize = minCollectionSize;
+	}
+
+	/**
+	 * @param maxEstimatedCost
+	 *            maximal estimated cost of a plan, 0 (default) disables the check
+	 */
+	public void setMaxEstimatedCost(final double maxEstimatedCost) {
+		this.maxEstimatedCost = maxEstimatedCost;
+	}
+
+	/**
+	 * @param failFast
+	 *            whether a finding fails the creation of the repository instead of only being logged
+	 */
+	public void setFailFast(final boolean failFast) {
+		this.failFast = failFast;
+	}
+
+	@Override
+	public void onCreation(final AbstractArangoQuery query) {
+		final String method = query.getQueryMethod().toString();
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String aql;
+		try {
+			aql = query.createQuery(representativeArguments(query.getQueryMethod()), bindVars);
+		} catch (final RuntimeException e) {
+			skipped.incrementAndGet();
+			LOGGER.debug("Skipped verification of query plan at [" + method + "]: " + e.getMessage());
+			return;
+		}
+
+		final AqlExecutionExplainEntity explain;
+		try {
+			explain = operations.explainQuery(aql, bindVars, new AqlQueryExplainOptions());
+		} catch (final DataAccessException e) {
+			report(new QueryPlanFinding(Type.EXPLAIN_FAILED, method, aql, null, e.getMessage()));
+			return;
+		}
+		verified.incrementAndGet();
+
+		final ExecutionPlan plan = explain.getPlan();
+		if (plan == null) {
+			return;
+		}
+		if (plan.getNodes() != null) {
+			for (final ExecutionNode node : plan.getNodes()) {
+				inspect(node, method, aql);
+			}
+		}
+		final Number cost = plan.getEstimatedCost();
+		if (maxEstimatedCost > 0 && cost != null && cost.doubleValue() > maxEstimatedCost) {
+			report(new QueryPlanFinding(Type.HIGH_COST, method, aql, null,
+					"estimated cost " + cost + " exceeds " + maxEstimatedCost));
+		}
+	}
+
+	private void inspect(final ExecutionNode node, final String method, final String aql) {
+		final String collection = node.getCollection();
+		if (collection != null) {
+			collections.add(collection);
+		}
+		if (node.getIndexes() != null) {
+			for (final IndexEntity index : node.getIndexes()) {
+				if (index.getId() != null) {
+					usedIndexes.add(qualifiedIndexId(collection, index.getId()));
+				}
+			}
+		}
+		if (ENUMERATE_COLLECTION_NODE.equals(node.getType()) && collection != null) {
+			final long size = collectionSize(collection);
+			if (size >= minCollectionSize) {
+				report(new QueryPlanFinding(Type.FULL_SCAN, method, aql, collection,
+						"full scan of collection " + collection + " with " + size + " documents"));
+			}
+		}
+	}
+
+	private long collectionSize(final String collection) {
+		return collectionSizes.computeIfAbsent(collection, name -> {
+			try {
+				return operations.collection(name).count();
+			} catch (final DataAccessException e) {
+				return 0L;
+			}
+		});
+	}
+
+	private void report(final QueryPlanFinding finding) {
+		findings.add(finding);
+		if (failFast) {
+			throw new IllegalStateException("Query plan verification failed: " + finding);
+		}
+		LOGGER.warn("Query plan " + finding);
+	}
+
+	private static String qualifiedIndexId(final String collection, final String id) {
+		final int separator = id.indexOf('/');
+		return separator < 0 && collection != null ? collection + "/" + id : id;
+	}
+
+	private static Object[] representativeArguments(final ArangoQueryMethod method) {
+		final List<Object> arguments = new ArrayList<>();
+		for (final Parameter parameter : method.getParameters()) {
+			arguments.add(representativeValue(parameter.getType()));
+		}
+		return arguments.toArray();
+	}
+
+	private static Object representativeValue(final Class<?> type) {
+		if (Pageable.class.isAssignableFrom(type)) {
+			return PageRequest.of(0, 10);
+		}
+		if (Sort.class.isAssignableFrom(type)) {
+			return Sort.unsorted();
+		}
+		if (type == String.class || type == CharSequence.class) {
+			return "";
+		}
+		if (type == boolean.class || type == Boolean.class) {
+			return false;
+		}
+		if (type == char.class || type == Character.class) {
+			return ' ';
+		}
+		if (type.isPrimitive() || Number.class.isAssignableFrom(type)) {
+			return DefaultConversionService.getSharedInstance().convert(0, type);
+		}
+		if (type.isEnum()) {
+			final Object[] constants = type.getEnumConstants();
+			return constants.length > 0 ? constants[0] : null;
+		}
+		if (type.isArray()) {
+			return Array.newInstance(type.getComponentType(), 0);
+		}
+		if (Set.class.isAssignableFrom(type)) {
+			return Collections.emptySet();
+		}
+		if (Iterable.class.isAssignableFrom(type)) {
+			return Collections.emptyList();
+		}
+		if (Map.class.isAssignableFrom(type)) {
+			return Collections.emptyMap();
+		}
+		if (type == Point.class) {
+			return new Point(0, 0);
+		}
+		if (type == Distance.class) {
+			return new Distance(0);
+		}
+		if (type == Range.class) {
+			return Range.unbounded();
+		}
+		if (type == Circle.class) {
+			return new Circle(new Point(0, 0), 1);
+		}
+		if (type == Box.class) {
+			return new Box(new Point(0, 0), new Point(1, 1));
+		}
+		if (type == Polygon.class) {
+			return new Polygon(new Point(0, 0), new Point(0, 1), new Point(1, 1));
+		}
+		return null;
+	}
+
+	/**
+	 * @return the findings of all verified query methods
+	 */
+	public List<QueryPlanFinding> getFindings() {
+		return Collections.unmodifiableList(findings);
+	}
+
+	/**
+	 * @return ids of the indexes of the collections accessed by the verified queries which are used by none of the
+	 *         plans, primary and edge indexes excluded
+	 */
+	public Collection<String> getUnusedIndexes() {
+		final Set<String> unused = new LinkedHashSet<>();
+		for (final String collection : collections) {
+			final Collection<IndexEntity> indexes;
+			try {
+				indexes = operations.collection(collection).getIndexes();
+			} catch (final DataAccessException e) {
+				continue;
+			}
+			for (final IndexEntity index : indexes) {
+				if (index.getType() == IndexType.primary || index.getType() == IndexType.edge) {
+					continue;
+				}
+				final String id = qualifiedIndexId(collection, index.getId());
+				if (!usedIndexes.contains(id)) {
+					unused.add(id);
+				}
+			}
+		}
+		return unused;
+	}
+
+	/**
+	 * @return whether no findings were reported
+	 */
+	public boolean isHealthy() {
+		return findings.isEmpty();
+	}
+
+	/**
+	 * @return summary of the verification with the entries {@code status} ({@code UP} or {@code DOWN}),
+	 *         {@code verified}, {@code skipped}, {@code findings} and {@code unusedIndexes}
+	 */
+	public Map<String, Object> getReport() {
+		final Map<String, Object> report = new LinkedHashMap<>();
+		report.put("status", isHealthy() ? "UP" : "DOWN");
+		report.put("verified", verified.get());
+		report.put("skipped", skipped.get());
+		final List<String> descriptions = new ArrayList<>();
+		findings.forEach(finding -> descriptions.add(finding.toString()));
+		report.put("findings", descriptions);
+		report.put("unusedIndexes", new ArrayList<>(getUnusedIndexes()));
+		return report;
+	}
+
+}
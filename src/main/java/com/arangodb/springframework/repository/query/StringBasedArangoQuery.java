@@ -115,6 +115,11 @@ public class StringBasedArangoQuery extends AbstractArangoQuery {
 		return false;
 	}
 
+	@Override
+	protected boolean isModifyingQuery() {
+		return method.hasAnnotatedUpdate();
+	}
+
 	private String prepareQuery(final ArangoParameterAccessor accessor) {
 		context.setVariables(accessor.getSpelVars());
 
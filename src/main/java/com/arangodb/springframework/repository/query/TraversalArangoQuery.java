@@ -0,0 +1,126 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.query;
+
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.springframework.annotation.Traversal;
+import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.traversal.GraphTraversal;
+import com.arangodb.springframework.core.traversal.GraphTraversal.Returns;
+import com.arangodb.springframework.core.traversal.GraphTraversal.Type;
+import com.arangodb.springframework.repository.query.ArangoParameters.ArangoParameter;
+
+/**
+ * Repository query for methods annotated with {@link Traversal}.
+ *
+ */
+public class TraversalArangoQuery extends AbstractArangoQuery {
+
+	private static final String START_PARAM = "start";
+	private static final String TARGET_PARAM = "target";
+
+	private final Traversal traversal;
+
+	public TraversalArangoQuery(final ArangoQueryMethod method, final ArangoOperations operations) {
+		super(method, operations);
+		traversal = method.getTraversalAnnotation();
+		Assert.isTrue(traversal.returns() != Returns.PATHS,
+			String.format("Traversal of a repository method can not return paths! Offending method: %s", method));
+		assertParameter(START_PARAM);
+		if (traversal.type() != Type.TRAVERSAL) {
+			assertParameter(TARGET_PARAM);
+		}
+	}
+
+	@Override
+	protected String createQuery(
+		final ArangoParameterAccessor accessor,
+		final Map<String, Object> bindVars,
+		final AqlQueryOptions options) {
+
+		final ArangoParameters bindableParams = accessor.getParameters().getBindableParameters();
+		for (int i = 0; i < bindableParams.getNumberOfParameters(); ++i) {
+			final ArangoParameter param = bindableParams.getParameter(i);
+			bindVars.put(param.getName().orElse(String.valueOf(param.getIndex())), accessor.getBindableValue(i));
+		}
+
+		final Object start = bindVars.remove(START_PARAM);
+		final GraphTraversal graphTraversal;
+		switch (traversal.type()) {
+		case SHORTEST_PATH:
+			graphTraversal = GraphTraversal.shortestPath(start, bindVars.remove(TARGET_PARAM));
+			break;
+		case K_SHORTEST_PATHS:
+			graphTraversal = GraphTraversal.kShortestPaths(start, bindVars.remove(TARGET_PARAM));
+			break;
+		case TRAVERSAL:
+		default:
+			graphTraversal = GraphTraversal.from(start).depth(traversal.minDepth(), traversal.maxDepth())
+					.uniqueVertices(traversal.uniqueVertices()).uniqueEdges(traversal.uniqueEdges())
+					.order(traversal.order());
+			if (StringUtils.hasText(traversal.prune())) {
+				graphTraversal.prune(traversal.prune());
+			}
+			break;
+		}
+		graphTraversal.edges(traversal.edges()).direction(traversal.direction());
+		if (StringUtils.hasText(traversal.filter())) {
+			graphTraversal.filter(traversal.filter());
+		}
+
+		final Pageable pageable = accessor.getPageable();
+		if (pageable.isPaged()) {
+			graphTraversal.limit(pageable.getOffset(), pageable.getPageSize());
+		}
+		return graphTraversal.buildQuery(mappingContext, domainClass, null, traversal.returns(), bindVars);
+	}
+
+	@Override
+	protected boolean isCountQuery() {
+		return false;
+	}
+
+	@Override
+	protected boolean isExistsQuery() {
+		return false;
+	}
+
+	@Override
+	protected boolean isModifyingQuery() {
+		return false;
+	}
+
+	private void assertParameter(final String name) {
+		boolean present = false;
+		for (final ArangoParameter param : method.getParameters().getBindableParameters()) {
+			present |= param.getName().filter(name::equals).isPresent();
+		}
+		Assert.isTrue(present, String.format("Traversal requires a parameter named \"%s\"! Offending method: %s",
+			name, method));
+	}
+
+}
@@ -56,6 +56,15 @@ public class BindParameterBinding {
 		return index;
 	}
 
+	/**
+	 * Binds the given value as it is, without any case adjustment or escaping. {@code null} is allowed.
+	 */
+	public int bindValue(final Object value, final int startIndex) {
+		int index = startIndex;
+		bind(index++, value);
+		return index;
+	}
+
 	public int bindPolygon(final Object value, final boolean shouldIgnoreCase, final int startIndex) {
 		int index = startIndex;
 		final Polygon polygon = (Polygon) ignoreArgumentCase(value, shouldIgnoreCase);
@@ -3,50 +3,23 @@
  */
 package com.arangodb.springframework.repository.query.derived;
 
+import com.arangodb.springframework.core.query.Criteria;
+
 /**
  * @author Mark
  *
  */
 /**
+ * Factories of the {@link Criteria} created by {@link DerivedQueryCreator}, referring to resolved AQL attribute
+ * paths and positional bind parameters.
+ *
  * @author Mark Vollmary
  *
  */
-public class Criteria {
-
-	private static final String AND_DELIMITER = " AND ";
-	private static final String OR_DELIMITER = " OR ";
-
-	private final StringBuilder predicate;
-
-	public Criteria() {
-		this("");
-	}
+final class DerivedCriteria {
 
-	public Criteria(final String predicate) {
-		this.predicate = new StringBuilder(predicate);
-	}
+	private DerivedCriteria() {
 
-	public String getPredicate() {
-		return predicate.toString();
-	}
-
-	public Criteria and(final Criteria criteria) {
-		return add(AND_DELIMITER, criteria);
-	}
-
-	public Criteria or(final Criteria criteria) {
-		return add(OR_DELIMITER, criteria);
-	}
-
-	private Criteria add(final String delimiter, final Criteria criteria) {
-		if (criteria == null) {
-			return this;
-		}
-		if (predicate.length() > 0) {
-			predicate.append(delimiter);
-		}
-		predicate.append(criteria.predicate);
-		return this;
 	}
 
 	public static Criteria eql(final String property, final int index) {
@@ -147,9 +120,20 @@ public class Criteria {
 		return new Criteria("GEO_CONTAINS(@" + index + ", " + property + ")");
 	}
 
-	@Override
-	public String toString() {
-		return predicate.toString();
+	public static Criteria startsWith(final String property, final int index) {
+		return new Criteria("STARTS_WITH(" + property + ", @" + index + ")");
+	}
+
+	public static Criteria phrase(final String property, final int index, final String analyzer) {
+		return new Criteria("PHRASE(" + property + ", @" + index + ", '" + analyzer + "')");
+	}
+
+	public static Criteria fieldExists(final String property) {
+		return new Criteria("EXISTS(" + property + ")");
+	}
+
+	public static Criteria analyzer(final Criteria criteria, final String analyzer) {
+		return new Criteria("ANALYZER(" + criteria.getPredicate() + ", '" + analyzer + "')");
 	}
 
 }
@@ -22,9 +22,14 @@ package com.arangodb.springframework.repository.query.derived;
 
 import com.arangodb.springframework.annotation.Ref;
 import com.arangodb.springframework.annotation.Relations;
+import com.arangodb.springframework.annotation.Search;
+import com.arangodb.springframework.annotation.SearchField;
+import com.arangodb.springframework.annotation.SearchView;
 import com.arangodb.springframework.core.geo.GeoJson;
 import com.arangodb.springframework.core.mapping.ArangoMappingContext;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
 import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.core.query.Criteria;
 import com.arangodb.springframework.core.util.AqlUtils;
 import com.arangodb.springframework.repository.query.ArangoParameterAccessor;
 import com.arangodb.springframework.repository.query.derived.geo.Ring;
@@ -43,6 +48,7 @@ import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -54,6 +60,7 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(DerivedQueryCreator.class);
 	private static final Set<Part.Type> UNSUPPORTED_IGNORE_CASE = new HashSet<>();
+	private static final String IDENTITY_ANALYZER = "identity";
 
 	static {
 		UNSUPPORTED_IGNORE_CASE.add(Part.Type.EXISTS);
@@ -73,6 +80,11 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 	private final List<String> geoFields;
 	private final Set<String> withCollections;
 	private final BindParameterBinding binding;
+	private final List<String> updateProperties;
+	private final Search search;
+	private final List<String> projection;
+	private final String viewName;
+	private final String searchCollection;
 
 	// whether any query field type is a type encoded as geoJson, only considered if isUnique == true
 	private boolean hasGeoJsonType  = false;
@@ -80,11 +92,23 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 	private String uniqueLocation = null;
 	private Boolean isUnique = null;
 	private int bindingCounter = 0;
+	private boolean updateValuesSkipped = false;
 
+	/**
+	 * @param updateProperties
+	 *            the properties to update, the values of them are the first bindable parameters of the accessor. If
+	 *            not empty, an {@code UPDATE} query is created.
+	 * @param search
+	 *            if not {@literal null}, a {@code SEARCH} query on the view of the domain class is created
+	 * @param projection
+	 *            the properties read by a closed projection. If not empty, only these attributes are returned
+	 *            instead of whole documents, which allows to answer the query from a covering index.
+	 */
 	public DerivedQueryCreator(
 		final ArangoMappingContext context,
 		final Class<?> domainClass, final PartTree tree, final ArangoParameterAccessor accessor,
-		final BindParameterBinding binder, final List<String> geoFields) {
+		final BindParameterBinding binder, final List<String> geoFields, final List<String> updateProperties,
+		final Search search, final List<String> projection) {
 		super(tree, accessor);
 		this.context = context;
 		this.domainClass = domainClass;
@@ -93,11 +117,25 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 		this.accessor = accessor;
 		this.geoFields = geoFields;
 		this.binding = binder;
+		this.updateProperties = updateProperties;
+		this.search = search;
+		this.projection = projection;
+		if (search != null) {
+			final SearchView view = context.getRequiredPersistentEntity(domainClass).getSearchView()
+					.orElseThrow(() -> new IllegalArgumentException(
+						format("Search query requires @SearchView on \"%s\"", domainClass.getName())));
+			viewName = AqlUtils.buildCollectionName(view.value());
+			searchCollection = "\"" + context.getPersistentEntity(domainClass).getCollection() + "\"";
+		} else {
+			viewName = null;
+			searchCollection = null;
+		}
 		withCollections = new HashSet<>();
 	}
 
 	@Override
 	protected Criteria create(final Part part, final Iterator<Object> iterator) {
+		skipUpdateValues(iterator);
 		return and(part, new Criteria(), iterator);
 	}
 
@@ -131,13 +169,24 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 			query.append("WITH ").append(with).append(" ");
 		}
 
-		query.append("FOR ").append("e").append(" IN ").append(collectionName);
+		if (search != null) {
+			// the view may link further collections, the results are restricted to the collection of the entity
+			query.append("FOR ").append("e").append(" IN ").append(viewName).append(" SEARCH ")
+					.append(criteria.getPredicate().isEmpty() ? "true" : criteria.getPredicate())
+					.append(" OPTIONS { collections: [").append(searchCollection).append("]");
+			if (search.waitForSync()) {
+				query.append(", waitForSync: true");
+			}
+			query.append(" }");
+		} else {
+			query.append("FOR ").append("e").append(" IN ").append(collectionName);
 
-		if (!criteria.getPredicate().isEmpty()) {
-			query.append(" FILTER ").append(criteria.getPredicate());
+			if (!criteria.getPredicate().isEmpty()) {
+				query.append(" FILTER ").append(criteria.getPredicate());
+			}
 		}
 
-		if (tree.isCountProjection() || tree.isExistsProjection()) {
+		if (tree.isCountProjection()) {
 			if (tree.isDistinct()) {
 				query.append(" COLLECT entity = ").append("e");
 			}
@@ -145,15 +194,15 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 		}
 
 		String sortString = " " + AqlUtils.buildSortClause(AqlUtils.toPersistentSort(sort, context, domainClass), "e");
-		if ((!this.geoFields.isEmpty() || isUnique != null && isUnique) && !tree.isDelete() && !tree.isCountProjection()
-				&& !tree.isExistsProjection()) {
+		if ((!this.geoFields.isEmpty() || isUnique != null && isUnique) && !tree.isDelete() && !isUpdate()
+				&& !tree.isCountProjection() && !tree.isExistsProjection()) {
 
 			String distanceSortKey = " SORT ";
 			if (hasGeoJsonType) {
-				distanceSortKey += Criteria
+				distanceSortKey += DerivedCriteria
 						.geoDistance(uniqueLocation, bind(getUniqueGeoJsonPoint())).getPredicate();
 			} else {
-				distanceSortKey += Criteria
+				distanceSortKey += DerivedCriteria
 						.distance(uniqueLocation, bind(getUniquePoint()[0]), bind(getUniquePoint()[1])).getPredicate();
 			}
 			if (sort.isUnsorted()) {
@@ -162,31 +211,43 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 				sortString = distanceSortKey + ", " + sortString.substring(5, sortString.length());
 			}
 		}
-		query.append(sortString);
-
-		if (tree.isLimiting()) {
-			query.append(" LIMIT ").append(tree.getMaxResults());
+		if (search != null && search.scored() && sort.isUnsorted() && !tree.isDelete() && !isUpdate()
+				&& !tree.isCountProjection() && !tree.isExistsProjection()) {
+			sortString = " SORT BM25(e) DESC";
 		}
+		query.append(sortString);
 
-		final Pageable pageable = accessor.getPageable();
-		if (pageable != null && pageable.isPaged()) {
-			query.append(" ").append(AqlUtils.buildLimitClause(pageable));
+		if (tree.isExistsProjection()) {
+			// the first match answers the query, there is no need to count all of them
+			query.append(" LIMIT 1");
+		} else {
+			if (tree.isLimiting()) {
+				query.append(" LIMIT ").append(tree.getMaxResults());
+			}
+			final Pageable pageable = accessor.getPageable();
+			if (pageable != null && pageable.isPaged()) {
+				query.append(" ").append(AqlUtils.buildLimitClause(pageable));
+			}
 		}
 		if (tree.isDelete()) {
 			query.append(" REMOVE e IN ").append(collectionName);
-		} else if (tree.isCountProjection() || tree.isExistsProjection()) {
+		} else if (isUpdate()) {
+			query.append(" UPDATE e WITH ").append(buildUpdateDocument()).append(" IN ").append(collectionName);
+		} else if (tree.isCountProjection()) {
 			query.append(" RETURN length");
+		} else if (tree.isExistsProjection()) {
+			query.append(" RETURN true");
 		} else {
 			query.append(" RETURN ");
 			if (this.geoFields.isEmpty()) {
-				query.append("e");
+				query.append(buildProjection());
 			} else {
 				if (hasGeoJsonType) {
 					query.append(format("MERGE(e, { '_distance': %s })",
-							Criteria.geoDistance(uniqueLocation, bind(getUniqueGeoJsonPoint())).getPredicate()));
+							DerivedCriteria.geoDistance(uniqueLocation, bind(getUniqueGeoJsonPoint())).getPredicate()));
 				} else {
 					query.append(format("MERGE(e, { '_distance': %s })",
-							Criteria.distance(uniqueLocation, bind(getUniquePoint()[0]), bind(getUniquePoint()[1]))
+							DerivedCriteria.distance(uniqueLocation, bind(getUniquePoint()[0]), bind(getUniquePoint()[1]))
 									.getPredicate()));
 				}
 			}
@@ -194,6 +255,94 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 		return query.toString();
 	}
 
+	private boolean isUpdate() {
+		return !updateProperties.isEmpty();
+	}
+
+	/**
+	 * The values of the properties to update precede the parameters of the criteria. They are bound by
+	 * {@link #buildUpdateDocument()} and therefore have to be skipped once when the criteria are created.
+	 *
+	 * @param iterator
+	 */
+	private void skipUpdateValues(final Iterator<Object> iterator) {
+		if (updateValuesSkipped) {
+			return;
+		}
+		for (int i = 0; i < updateProperties.size(); ++i) {
+			Assert.isTrue(iterator.hasNext(), "Too few arguments passed");
+			iterator.next();
+		}
+		updateValuesSkipped = true;
+	}
+
+	/**
+	 * Builds an object literal of the document handle and the projected attributes, e.g.
+	 * {@code { "_id": e._id, "_key": e._key, "name": e.name }}. Attribute accesses instead of the whole document let
+	 * the optimizer read them from an index covering them. Falls back to the whole document if a projected property is
+	 * not persistent.
+	 */
+	private String buildProjection() {
+		if (projection.isEmpty()) {
+			return "e";
+		}
+		final ArangoPersistentEntity<?> entity = context.getRequiredPersistentEntity(domainClass);
+		final StringJoiner attributes = new StringJoiner(", ", "{ ", " }");
+		// the document handle is needed to resolve relations and lazy references of the projected properties
+		attributes.add("\"_id\": e._id").add("\"_key\": e._key");
+		for (final String property : projection) {
+			final ArangoPersistentProperty persistentProperty = entity.getPersistentProperty(property);
+			if (persistentProperty == null) {
+				return "e";
+			}
+			final String field = persistentProperty.getFieldName();
+			if (persistentProperty.isIdProperty() || persistentProperty.isArangoIdProperty()) {
+				continue;
+			}
+			attributes.add(format("\"%s\": e.%s", field, AqlUtils.buildFieldName(field)));
+		}
+		return attributes.toString();
+	}
+
+	/**
+	 * Builds the document used in {@code UPDATE e WITH <document>} from the properties to update, e.g.
+	 * {@code { status: @2, address: { city: @3 } }} for the properties {@code status} and {@code addressCity}
+	 *
+	 * @return
+	 */
+	private String buildUpdateDocument() {
+		final Map<String, Object> document = new LinkedHashMap<>();
+		for (int i = 0; i < updateProperties.size(); ++i) {
+			final PropertyPath path = PropertyPath.from(updateProperties.get(i), domainClass);
+			final List<String> fields = new ArrayList<>();
+			context.getPersistentPropertyPath(path).forEach(p -> fields.add(AqlUtils.buildFieldName(p.getFieldName())));
+			Map<String, Object> nested = document;
+			for (final String field : fields.subList(0, fields.size() - 1)) {
+				nested = getNestedUpdateDocument(nested, field);
+			}
+			final int index = bindingCounter;
+			bindingCounter = binding.bindValue(accessor.getBindableValue(i), bindingCounter);
+			nested.put(fields.get(fields.size() - 1), "@" + index);
+		}
+		return toUpdateDocument(document);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> getNestedUpdateDocument(final Map<String, Object> document, final String field) {
+		final Object nested = document.computeIfAbsent(field, f -> new LinkedHashMap<>());
+		Assert.isTrue(nested instanceof Map, format("Property \"%s\" is updated more than once", field));
+		return (Map<String, Object>) nested;
+	}
+
+	@SuppressWarnings("unchecked")
+	private String toUpdateDocument(final Map<String, Object> document) {
+		return document.entrySet().stream()
+				.map(entry -> entry.getKey() + ": " + (entry.getValue() instanceof Map
+						? toUpdateDocument((Map<String, Object>) entry.getValue())
+						: entry.getValue()))
+				.collect(Collectors.joining(", ", "{ ", " }"));
+	}
+
 	public double[] getUniquePoint() {
 		if (uniquePoint == null) {
 			return new double[2];
@@ -283,7 +432,19 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 				final String entity = "e" + Integer.toString(++varsUsed);
 				final String edges = edgesBuilder.toString();
 				simpleProperties = new StringBuilder();
-				final String iteration = format(TEMPLATE, entity, depths, direction, prevEntity, nested, edges);
+				final String iteration;
+				if (relations.edgeFilter().isEmpty()) {
+					iteration = format(TEMPLATE, entity, depths, direction, prevEntity, nested, edges);
+				} else {
+					// the traversal is a subquery of its own, which scopes the edge variable to this level. Every edge
+					// of a path has to match, so paths are not expanded beyond a non-matching edge.
+					final String filter = relations.edgeFilter();
+					final String traversal = format(
+						"(FOR v, edge IN %s %s %s%s._id %s PRUNE edge != null AND !(%s) FILTER %s RETURN v)", depths,
+						direction, prevEntity, nested, edges, filter, filter);
+					// the iteration becomes part of a format template, hence the escaping of '%'
+					iteration = format("FOR %s IN %s", entity, traversal.replace("%", "%%"));
+				}
 				final String predicate = format(PREDICATE_TEMPLATE, iteration);
 				predicateTemplate = predicateTemplate.length() == 0 ? predicate : format(predicateTemplate, predicate);
 			} else if (property.isCollectionLike()) {
@@ -392,7 +553,112 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 		uniqueLocation = ignorePropertyCase(part);
 	}
 
+	/**
+	 * Creates the criteria of a {@code SEARCH} operation. Only properties of the entity itself and the operators served
+	 * by the view are supported. The comparisons use the analyzer of the query or of the searched field.
+	 */
+	private Criteria createSearchCriteria(final Part part, final Iterator<Object> iterator) {
+		final String[] templateAndProperty = createPredicateTemplateAndPropertyString(part);
+		Assert.isTrue(templateAndProperty[0].isEmpty(),
+			format("Search on \"%s\" across references or collections is not supported", part.getProperty()));
+		Assert.isTrue(part.shouldIgnoreCase() == Part.IgnoreCaseType.NEVER,
+			format("IgnoreCase on \"%s\" is not supported in search queries, use a case insensitive analyzer instead",
+				part.getProperty()));
+		final String property = templateAndProperty[1];
+		final String analyzer = determineAnalyzer(part);
+		final Criteria criteria;
+		switch (part.getType()) {
+		case SIMPLE_PROPERTY:
+			criteria = DerivedCriteria.eql(property, bindSearch(iterator, null));
+			break;
+		case NEGATING_SIMPLE_PROPERTY:
+			criteria = DerivedCriteria.neql(property, bindSearch(iterator, null));
+			break;
+		case TRUE:
+			criteria = DerivedCriteria.isTrue(property);
+			break;
+		case FALSE:
+			criteria = DerivedCriteria.isFalse(property);
+			break;
+		case IS_NULL:
+			criteria = DerivedCriteria.isNull(property);
+			break;
+		case IS_NOT_NULL:
+			criteria = DerivedCriteria.isNotNull(property);
+			break;
+		case EXISTS:
+			return DerivedCriteria.fieldExists(property);
+		case BEFORE:
+		case LESS_THAN:
+			criteria = DerivedCriteria.lt(property, bindSearch(iterator, null));
+			break;
+		case AFTER:
+		case GREATER_THAN:
+			criteria = DerivedCriteria.gt(property, bindSearch(iterator, null));
+			break;
+		case LESS_THAN_EQUAL:
+			criteria = DerivedCriteria.lte(property, bindSearch(iterator, null));
+			break;
+		case GREATER_THAN_EQUAL:
+			criteria = DerivedCriteria.gte(property, bindSearch(iterator, null));
+			break;
+		case BETWEEN:
+			criteria = DerivedCriteria.gte(property, bindSearch(iterator, null))
+					.and(DerivedCriteria.lte(property, bindSearch(iterator, null)));
+			break;
+		case LIKE:
+			criteria = DerivedCriteria.like(property, bindSearch(iterator, null));
+			break;
+		case NOT_LIKE:
+			criteria = DerivedCriteria.notLike(property, bindSearch(iterator, null));
+			break;
+		case STARTING_WITH:
+			criteria = DerivedCriteria.startsWith(property, bindSearch(iterator, null));
+			break;
+		case ENDING_WITH:
+			criteria = DerivedCriteria.like(property, bindSearch(iterator, false));
+			break;
+		case IN:
+			criteria = DerivedCriteria.in(property, bindSearch(iterator, null));
+			break;
+		case NOT_IN:
+			criteria = DerivedCriteria.nin(property, bindSearch(iterator, null));
+			break;
+		case CONTAINING:
+			if (part.getProperty().getTypeInformation().isCollectionLike()) {
+				// the elements of arrays are indexed individually
+				criteria = DerivedCriteria.eql(property, bindSearch(iterator, null));
+				break;
+			}
+			return DerivedCriteria.phrase(property, bindSearch(iterator, null), analyzer);
+		default:
+			throw new IllegalArgumentException(
+				format("Part.Type \"%s\" not supported in search queries", part.getType().toString()));
+		}
+		return IDENTITY_ANALYZER.equals(analyzer) ? criteria : DerivedCriteria.analyzer(criteria, analyzer);
+	}
+
+	private String determineAnalyzer(final Part part) {
+		if (StringUtils.hasText(search.analyzer())) {
+			return search.analyzer();
+		}
+		return context.getPersistentPropertyPath(part.getProperty()).getLeafProperty().getSearchField()
+				.map(SearchField::analyzers).filter(analyzers -> analyzers.length > 0).map(analyzers -> analyzers[0])
+				.orElse(IDENTITY_ANALYZER);
+	}
+
+	private int bindSearch(final Iterator<Object> iterator, final Boolean borderStatus) {
+		Assert.isTrue(iterator.hasNext(), "Too few arguments passed");
+		final int index = bindingCounter;
+		bindingCounter = binding.bind(iterator.next(), false, borderStatus, point -> checkUniquePoint(point),
+			bindingCounter);
+		return index;
+	}
+
 	private Criteria createCriteria(final Part part, final Iterator<Object> iterator) {
+		if (search != null) {
+			return createSearchCriteria(part, iterator);
+		}
 		collectWithCollections(part.getProperty());
 		final String[] templateAndProperty = createPredicateTemplateAndPropertyString(part);
 		final String template = templateAndProperty[0];
@@ -411,76 +677,82 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 
 		switch (part.getType()) {
 		case SIMPLE_PROPERTY:
-			criteria = Criteria.eql(ignorePropertyCase(part, property), bind(part, iterator));
+			criteria = DerivedCriteria.eql(ignorePropertyCase(part, property), bind(part, iterator));
 			break;
 		case NEGATING_SIMPLE_PROPERTY:
-			criteria = Criteria.neql(ignorePropertyCase(part, property), bind(part, iterator));
+			criteria = DerivedCriteria.neql(ignorePropertyCase(part, property), bind(part, iterator));
 			break;
 		case TRUE:
-			criteria = Criteria.isTrue(ignorePropertyCase(part, property));
+			criteria = DerivedCriteria.isTrue(ignorePropertyCase(part, property));
 			break;
 		case FALSE:
-			criteria = Criteria.isFalse(ignorePropertyCase(part, property));
+			criteria = DerivedCriteria.isFalse(ignorePropertyCase(part, property));
 			break;
 		case IS_NULL:
-			criteria = Criteria.isNull(ignorePropertyCase(part, property));
+			criteria = DerivedCriteria.isNull(ignorePropertyCase(part, property));
 			break;
 		case IS_NOT_NULL:
-			criteria = Criteria.isNotNull(ignorePropertyCase(part, property));
+			criteria = DerivedCriteria.isNotNull(ignorePropertyCase(part, property));
 			break;
 		case EXISTS:
 			final String document = property.substring(0, property.lastIndexOf("."));
 			final String attribute = property.substring(property.lastIndexOf(".") + 1, property.length());
-			criteria = Criteria.exists(document, attribute);
+			criteria = DerivedCriteria.exists(document, attribute);
 			break;
 		case BEFORE:
 		case LESS_THAN:
-			criteria = Criteria.lt(ignorePropertyCase(part, property), bind(part, iterator));
+			criteria = DerivedCriteria.lt(ignorePropertyCase(part, property), bind(part, iterator));
 			break;
 		case AFTER:
 		case GREATER_THAN:
-			criteria = Criteria.gt(ignorePropertyCase(part, property), bind(part, iterator));
+			criteria = DerivedCriteria.gt(ignorePropertyCase(part, property), bind(part, iterator));
 			break;
 		case LESS_THAN_EQUAL:
-			criteria = Criteria.lte(ignorePropertyCase(part, property), bind(part, iterator));
+			criteria = DerivedCriteria.lte(ignorePropertyCase(part, property), bind(part, iterator));
 			break;
 		case GREATER_THAN_EQUAL:
-			criteria = Criteria.gte(ignorePropertyCase(part, property), bind(part, iterator));
+			criteria = DerivedCriteria.gte(ignorePropertyCase(part, property), bind(part, iterator));
 			break;
 		case BETWEEN:
-			criteria = Criteria.gte(ignorePropertyCase(part, property), bind(part, iterator))
-					.and(Criteria.lte(ignorePropertyCase(part, property), bind(part, iterator)));
+			Assert.isTrue(iterator.hasNext(), "Too few arguments passed");
+			final Object lowerBound = iterator.next();
+			if (lowerBound instanceof Range) {
+				criteria = between(part, ignorePropertyCase(part, property), (Range<?>) lowerBound);
+			} else {
+				criteria = DerivedCriteria.gte(ignorePropertyCase(part, property), bind(part, lowerBound, null))
+						.and(DerivedCriteria.lte(ignorePropertyCase(part, property), bind(part, iterator)));
+			}
 			break;
 		case LIKE:
-			criteria = Criteria.like(ignorePropertyCase(part, property), bind(part, iterator));
+			criteria = DerivedCriteria.like(ignorePropertyCase(part, property), bind(part, iterator));
 			break;
 		case NOT_LIKE:
-			criteria = Criteria.notLike(ignorePropertyCase(part, property), bind(part, iterator));
+			criteria = DerivedCriteria.notLike(ignorePropertyCase(part, property), bind(part, iterator));
 			break;
 		case STARTING_WITH:
-			criteria = Criteria.like(ignorePropertyCase(part, property), bind(part, iterator, true));
+			criteria = DerivedCriteria.like(ignorePropertyCase(part, property), bind(part, iterator, true));
 			break;
 		case ENDING_WITH:
-			criteria = Criteria.like(ignorePropertyCase(part, property), bind(part, iterator, false));
+			criteria = DerivedCriteria.like(ignorePropertyCase(part, property), bind(part, iterator, false));
 			break;
 		case REGEX:
-			criteria = Criteria.regex(ignorePropertyCase(part, property), bind(part, iterator), shouldIgnoreCase(part));
+			criteria = DerivedCriteria.regex(ignorePropertyCase(part, property), bind(part, iterator), shouldIgnoreCase(part));
 			break;
 		case IN:
-			criteria = Criteria.in(ignorePropertyCase(part, property), bind(part, iterator));
+			criteria = DerivedCriteria.in(ignorePropertyCase(part, property), bind(part, iterator));
 			break;
 		case NOT_IN:
-			criteria = Criteria.nin(ignorePropertyCase(part, property), bind(part, iterator));
+			criteria = DerivedCriteria.nin(ignorePropertyCase(part, property), bind(part, iterator));
 			break;
 		case CONTAINING:
 			if (part.getProperty().getTypeInformation().isCollectionLike()) {
-				criteria = Criteria.in(bind(part, iterator), ignorePropertyCase(part, property));
+				criteria = DerivedCriteria.in(bind(part, iterator), ignorePropertyCase(part, property));
 			} else {
-				criteria = Criteria.contains(ignorePropertyCase(part, property), bind(part, iterator));
+				criteria = DerivedCriteria.contains(ignorePropertyCase(part, property), bind(part, iterator));
 			}
 			break;
 		case NOT_CONTAINING:
-			criteria = Criteria.nin(bind(part, iterator), ignorePropertyCase(part, property));
+			criteria = DerivedCriteria.nin(bind(part, iterator), ignorePropertyCase(part, property));
 			break;
 		case NEAR:
 			if (checkUnique) {
@@ -508,18 +780,18 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 						checkUniqueLocation(part);
 					}
 					if (isGeoJsonType) {
-						criteria = Criteria
+						criteria = DerivedCriteria
 								.lte(index + 1,
-										Criteria.geoDistance(ignorePropertyCase(part, property), index).getPredicate())
-								.and(Criteria.lte(
-										Criteria.geoDistance(ignorePropertyCase(part, property), index).getPredicate(),
+										DerivedCriteria.geoDistance(ignorePropertyCase(part, property), index).getPredicate())
+								.and(DerivedCriteria.lte(
+										DerivedCriteria.geoDistance(ignorePropertyCase(part, property), index).getPredicate(),
 										index + 2));
 					} else {
-						criteria = Criteria
+						criteria = DerivedCriteria
 								.lte(index + 2,
-										Criteria.distance(ignorePropertyCase(part, property), index, index + 1).getPredicate())
-								.and(Criteria.lte(
-										Criteria.distance(ignorePropertyCase(part, property), index, index + 1).getPredicate(),
+										DerivedCriteria.distance(ignorePropertyCase(part, property), index, index + 1).getPredicate())
+								.and(DerivedCriteria.lte(
+										DerivedCriteria.distance(ignorePropertyCase(part, property), index, index + 1).getPredicate(),
 										index + 3));
 					}
 					if (value instanceof Range) {
@@ -530,20 +802,20 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 					break;
 				} else if (value instanceof Box) {
 					if (isGeoJsonType) {
-						criteria = Criteria.geoContains(bind(part, value, null), ignorePropertyCase(part, property));
+						criteria = DerivedCriteria.geoContains(bind(part, value, null), ignorePropertyCase(part, property));
 					} else {
-						criteria = Criteria.lte(index, ignorePropertyCase(part, property) + "[0]")
-								.and(Criteria.lte(ignorePropertyCase(part, property) + "[0]", index + 1))
-								.and(Criteria.lte(index + 2, ignorePropertyCase(part, property) + "[1]"))
-								.and(Criteria.lte(ignorePropertyCase(part, property) + "[1]", index + 3));
+						criteria = DerivedCriteria.lte(index, ignorePropertyCase(part, property) + "[0]")
+								.and(DerivedCriteria.lte(ignorePropertyCase(part, property) + "[0]", index + 1))
+								.and(DerivedCriteria.lte(index + 2, ignorePropertyCase(part, property) + "[1]"))
+								.and(DerivedCriteria.lte(ignorePropertyCase(part, property) + "[1]", index + 3));
 						bindBox(part, value);
 					}
 					break;
                 } else if (value instanceof Polygon) {
                     if (isGeoJsonType) {
-						criteria = Criteria.geoContains(bind(part, value, null), ignorePropertyCase(part, property));
+						criteria = DerivedCriteria.geoContains(bind(part, value, null), ignorePropertyCase(part, property));
                     } else {
-                        criteria = Criteria.isInPolygon(bindPolygon(part, value), ignorePropertyCase(part, property));
+                        criteria = DerivedCriteria.isInPolygon(bindPolygon(part, value), ignorePropertyCase(part, property));
                     }
                     break;
                 } else {
@@ -559,11 +831,11 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 			}
 			if (criteria == null) {
 				if(isGeoJsonType) {
-					criteria = Criteria.lte(
-							Criteria.geoDistance(ignorePropertyCase(part, property), index).getPredicate(), index + 1);
+					criteria = DerivedCriteria.lte(
+							DerivedCriteria.geoDistance(ignorePropertyCase(part, property), index).getPredicate(), index + 1);
 				} else {
-					criteria = Criteria.lte(
-							Criteria.distance(ignorePropertyCase(part, property), index, index + 1).getPredicate(), index + 2);
+					criteria = DerivedCriteria.lte(
+							DerivedCriteria.distance(ignorePropertyCase(part, property), index, index + 1).getPredicate(), index + 2);
 				}
 			}
 			break;
@@ -576,6 +848,27 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 		return template.isEmpty() ? criteria : new Criteria(format(template, criteria.getPredicate()));
 	}
 
+	/**
+	 * Creates plain comparisons for the bounded sides of the range, e.g. {@code e.price >= @0 AND e.price < @1}.
+	 * Comparisons on several attributes combined with {@code AND} can be served by a multi-dimensional index.
+	 */
+	private Criteria between(final Part part, final String property, final Range<?> range) {
+		final Range.Bound<?> lower = range.getLowerBound();
+		final Range.Bound<?> upper = range.getUpperBound();
+		Criteria criteria = null;
+		if (lower.isBounded()) {
+			final int index = bind(part, lower.getValue().get(), null);
+			criteria = lower.isInclusive() ? DerivedCriteria.gte(property, index) : DerivedCriteria.gt(property, index);
+		}
+		if (upper.isBounded()) {
+			final int index = bind(part, upper.getValue().get(), null);
+			final Criteria upperCriteria = upper.isInclusive() ? DerivedCriteria.lte(property, index)
+					: DerivedCriteria.lt(property, index);
+			criteria = criteria == null ? upperCriteria : criteria.and(upperCriteria);
+		}
+		return criteria != null ? criteria : new Criteria("true");
+	}
+
 	private int bind(final Part part, final Iterator<Object> iterator) {
 		return bind(part, iterator, null);
 	}
@@ -0,0 +1,57 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.transaction;
+
+import java.util.Collection;
+
+import org.springframework.transaction.support.ResourceHolderSupport;
+
+/**
+ * Stream transaction of an {@link ArangoTransactionManager}, bound to the {@link
+ * com.arangodb.springframework.core.ArangoOperations} it was begun with. The operations join the transaction of the
+ * holder bound to them.
+ */
+public class ArangoTransactionHolder extends ResourceHolderSupport {
+
+	private final String transactionId;
+	private final Collection<String> writeCollections;
+
+	public ArangoTransactionHolder(final String transactionId, final Collection<String> writeCollections) {
+		super();
+		this.transactionId = transactionId;
+		this.writeCollections = writeCollections;
+	}
+
+	/**
+	 * @return the id of the stream transaction
+	 */
+	public String getTransactionId() {
+		return transactionId;
+	}
+
+	/**
+	 * @return the collections the transaction may write
+	 */
+	public Collection<String> getWriteCollections() {
+		return writeCollections;
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.transaction;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import com.arangodb.model.StreamTransactionOptions;
+import com.arangodb.springframework.annotation.Document;
+import com.arangodb.springframework.annotation.Edge;
+import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+
+/**
+ * {@link org.springframework.transaction.PlatformTransactionManager} based on the stream transactions of ArangoDB.
+ * <p>
+ * A transaction is begun in the database in use by the given {@link ArangoOperations} and bound to the current
+ * thread. All operations of the {@link com.arangodb.springframework.core.template.ArangoTemplate}, and therefore of
+ * the repositories using it, join the bound transaction.
+ * <p>
+ * Stream transactions have to declare the collections they write when they are begun. The collections can be declared
+ * with labels of the transaction definition, e.g.
+ * {@code @Transactional(label = { "write:customers,orders", "read:products" })}. Without write or exclusive labels the
+ * transaction writes the collections of all documents and edges of the mapping context, which are created if
+ * necessary. Reading undeclared collections is allowed. Read-only transactions write no collections.
+ * <p>
+ * Nested transactions are not supported, propagations joining an existing transaction join the stream transaction.
+ */
+public class ArangoTransactionManager extends AbstractPlatformTransactionManager {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Prefix of transaction labels declaring collections read by the transaction, separated by commas
+	 */
+	public static final String READ_LABEL = "read:";
+	/**
+	 * Prefix of transaction labels declaring collections written by the transaction, separated by commas
+	 */
+	public static final String WRITE_LABEL = "write:";
+	/**
+	 * Prefix of transaction labels declaring collections written exclusively by the transaction, separated by commas
+	 */
+	public static final String EXCLUSIVE_LABEL = "exclusive:";
+
+	private final ArangoOperations operations;
+	private Boolean waitForSync;
+
+	public ArangoTransactionManager(final ArangoOperations operations) {
+		super();
+		Assert.notNull(operations, "ArangoOperations must not be null!");
+		this.operations = operations;
+	}
+
+	/**
+	 * @param waitForSync
+	 *            whether the commit waits until the transaction is synchronized to disk, {@literal null} (default) to
+	 *            use the settings of the collections
+	 */
+	public void setWaitForSync(final Boolean waitForSync) {
+		this.waitForSync = waitForSync;
+	}
+
+	private static class ArangoTransactionObject implements SmartTransactionObject {
+		private ArangoTransactionHolder holder;
+
+		@Override
+		public boolean isRollbackOnly() {
+			return holder != null && holder.isRollbackOnly();
+		}
+
+		@Override
+		public void flush() {
+		}
+	}
+
+	@Override
+	protected Object doGetTransaction() {
+		final ArangoTransactionObject transaction = new ArangoTransactionObject();
+		transaction.holder = (ArangoTransactionHolder) TransactionSynchronizationManager.getResource(operations);
+		return transaction;
+	}
+
+	@Override
+	protected boolean isExistingTransaction(final Object transaction) {
+		return ((ArangoTransactionObject) transaction).holder != null;
+	}
+
+	@Override
+	protected void doBegin(final Object transaction, final TransactionDefinition definition) {
+		final Set<String> read = new LinkedHashSet<>();
+		final Set<String> write = new LinkedHashSet<>();
+		final Set<String> exclusive = new LinkedHashSet<>();
+		if (definition instanceof TransactionAttribute) {
+			for (final String label : ((TransactionAttribute) definition).getLabels()) {
+				addCollections(label, READ_LABEL, read);
+				addCollections(label, WRITE_LABEL, write);
+				addCollections(label, EXCLUSIVE_LABEL, exclusive);
+			}
+		}
+		if (definition.isReadOnly()) {
+			write.clear();
+			exclusive.clear();
+		} else if (write.isEmpty() && exclusive.isEmpty()) {
+			for (final ArangoPersistentEntity<?> entity : operations.getConverter().getMappingContext()
+					.getPersistentEntities()) {
+				if (entity.isAnnotationPresent(Document.class) || entity.isAnnotationPresent(Edge.class)) {
+					// the collections have to exist when the transaction begins
+					write.add(operations.collection(entity.getType()).name());
+				}
+			}
+		}
+
+		final StreamTransactionOptions options = new StreamTransactionOptions().allowImplicit(true)
+				.readCollections(read.toArray(new String[0])).writeCollections(write.toArray(new String[0]))
+				.exclusiveCollections(exclusive.toArray(new String[0])).waitForSync(waitForSync);
+		final int timeout = determineTimeout(definition);
+		if (timeout != TransactionDefinition.TIMEOUT_DEFAULT) {
+			options.lockTimeout(timeout);
+		}
+
+		final String id;
+		try {
+			id = operations.beginStreamTransaction(options).getId();
+		} catch (final DataAccessException e) {
+			throw new CannotCreateTransactionException("Could not begin stream transaction", e);
+		}
+		final Set<String> written = new LinkedHashSet<>(write);
+		written.addAll(exclusive);
+		final ArangoTransactionHolder holder = new ArangoTransactionHolder(id, written);
+		holder.setSynchronizedWithTransaction(true);
+		if (timeout != TransactionDefinition.TIMEOUT_DEFAULT) {
+			holder.setTimeoutInSeconds(timeout);
+		}
+		((ArangoTransactionObject) transaction).holder = holder;
+		TransactionSynchronizationManager.bindResource(operations, holder);
+	}
+
+	private static void addCollections(final String label, final String prefix, final Collection<String> collections) {
+		if (label.startsWith(prefix)) {
+			for (final String collection : label.substring(prefix.length()).split(",")) {
+				if (!collection.trim().isEmpty()) {
+					collections.add(collection.trim());
+				}
+			}
+		}
+	}
+
+	@Override
+	protected void doCommit(final DefaultTransactionStatus status) {
+		final ArangoTransactionHolder holder = ((ArangoTransactionObject) status.getTransaction()).holder;
+		try {
+			operations.commitStreamTransaction(holder.getTransactionId());
+		} catch (final DataAccessException e) {
+			throw new TransactionSystemException("Could not commit stream transaction", e);
+		}
+		// results cached while the transaction was running don't contain its writes
+		operations.getQueryResultCache().invalidate(holder.getWriteCollections());
+	}
+
+	@Override
+	protected void doRollback(final DefaultTransactionStatus status) {
+		final ArangoTransactionHolder holder = ((ArangoTransactionObject) status.getTransaction()).holder;
+		try {
+			operations.abortStreamTransaction(holder.getTransactionId());
+		} catch (final DataAccessException e) {
+			throw new TransactionSystemException("Could not abort stream transaction", e);
+		}
+		// results cached while the transaction was running may have been read after its writes
+		operations.getQueryResultCache().invalidate(holder.getWriteCollections());
+	}
+
+	@Override
+	protected void doSetRollbackOnly(final DefaultTransactionStatus status) {
+		((ArangoTransactionObject) status.getTransaction()).holder.setRollbackOnly();
+	}
+
+	@Override
+	protected Object doSuspend(final Object transaction) {
+		((ArangoTransactionObject) transaction).holder = null;
+		return TransactionSynchronizationManager.unbindResource(operations);
+	}
+
+	@Override
+	protected void doResume(final Object transaction, final Object suspendedResources) {
+		TransactionSynchronizationManager.bindResource(operations, suspendedResources);
+	}
+
+	@Override
+	protected void doCleanupAfterCompletion(final Object transaction) {
+		final ArangoTransactionObject object = (ArangoTransactionObject) transaction;
+		TransactionSynchronizationManager.unbindResourceIfPossible(operations);
+		if (object.holder != null) {
+			object.holder.clear();
+		}
+	}
+
+}
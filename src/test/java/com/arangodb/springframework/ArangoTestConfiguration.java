@@ -35,6 +35,8 @@ import org.springframework.data.domain.AuditorAware;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 /**
  *
@@ -53,6 +55,12 @@ public class ArangoTestConfiguration implements ArangoConfiguration {
 
 	public static final String DB = "spring-test-db";
 
+	private final Executor asyncExecutor = Executors.newFixedThreadPool(4, task -> {
+		final Thread thread = new Thread(task);
+		thread.setDaemon(true);
+		return thread;
+	});
+
 	@Override
 	public ArangoDB.Builder arango() {
 		return new ArangoDB.Builder().serializer(new ArangoJack());
@@ -63,6 +71,11 @@ public class ArangoTestConfiguration implements ArangoConfiguration {
 		return DB;
 	}
 
+	@Override
+	public Executor asyncExecutor() {
+		return asyncExecutor;
+	}
+
 	@Override
 	public Collection<Converter<?, ?>> customConverters() {
 		final Collection<Converter<?, ?>> converters = new ArrayList<>();
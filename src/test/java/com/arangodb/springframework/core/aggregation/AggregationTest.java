@@ -0,0 +1,83 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.aggregation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import com.arangodb.springframework.core.aggregation.Aggregation.Comparison;
+import com.arangodb.springframework.core.mapping.ArangoMappingContext;
+import com.arangodb.springframework.testdata.Customer;
+
+public class AggregationTest {
+
+	private final ArangoMappingContext context = new ArangoMappingContext();
+
+	@Test
+	public void groupAndAggregate() {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String query = Aggregation.groupBy("name").sum("age", "total").countDistinct("surname", "surnames")
+				.count("count").buildQuery(context, Customer.class, bindVars);
+		assertThat(query, is("FOR e IN @@col COLLECT group0 = e.`customer-name` "
+				+ "AGGREGATE aggregate0 = SUM(e.age), aggregate1 = COUNT_DISTINCT(e.surname), aggregate2 = COUNT(1) "
+				+ "RETURN { name: group0, total: aggregate0, surnames: aggregate1, count: aggregate2 }"));
+		assertThat(bindVars.get("@col"), is(Customer.class));
+	}
+
+	@Test
+	public void aggregateWithoutGroup() {
+		final String query = Aggregation.newAggregation().min("age", "min").max("age", "max").avg("age", "avg")
+				.buildQuery(context, Customer.class, new HashMap<>());
+		assertThat(query, is("FOR e IN @@col COLLECT AGGREGATE aggregate0 = MIN(e.age), aggregate1 = MAX(e.age), "
+				+ "aggregate2 = AVERAGE(e.age) RETURN { min: aggregate0, max: aggregate1, avg: aggregate2 }"));
+	}
+
+	@Test
+	public void havingSortAndLimit() {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String query = Aggregation.groupBy("address.zipCode").count("count")
+				.having("count", Comparison.GTE, 2).sort(Sort.by(Direction.DESC, "count")).limit(5, 10)
+				.buildQuery(context, Customer.class, bindVars);
+		assertThat(query, is("FOR e IN @@col COLLECT group0 = e.address.zipCode AGGREGATE aggregate0 = COUNT(1) "
+				+ "FILTER aggregate0 >= @having0 SORT aggregate0 DESC LIMIT 5, 10 "
+				+ "RETURN { zipCode: group0, count: aggregate0 }"));
+		assertThat(bindVars.get("having0"), is(2));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidAlias() {
+		Aggregation.groupBy("name").count("count } RETURN 1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unknownAlias() {
+		Aggregation.groupBy("name").having("total", Comparison.GT, 1).buildQuery(context, Customer.class,
+			new HashMap<>());
+	}
+
+}
@@ -25,10 +25,12 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertThat;
 
 import org.junit.Test;
+import org.springframework.data.mapping.MappingException;
 
 import com.arangodb.springframework.AbstractArangoTest;
 import com.arangodb.springframework.annotation.From;
 import com.arangodb.springframework.annotation.To;
+import com.arangodb.springframework.core.convert.FetchPlan;
 import com.arangodb.springframework.core.mapping.testdata.BasicEdgeLazyTestEntity;
 import com.arangodb.springframework.core.mapping.testdata.BasicEdgeTestEntity;
 import com.arangodb.springframework.core.mapping.testdata.BasicTestEntity;
@@ -55,6 +57,17 @@ public class EdgeMappingTest extends AbstractArangoTest {
 		assertThat(document.getTo().getId(), is(e2.getId()));
 	}
 
+	@Test(expected = MappingException.class)
+	public void edgeFromToFetchPlanExclude() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final BasicTestEntity e2 = new BasicTestEntity();
+		template.insert(e2);
+		final BasicEdgeTestEntity e0 = new BasicEdgeTestEntity(e1, e2);
+		template.insert(e0);
+		template.find(e0.id, BasicEdgeTestEntity.class, FetchPlan.empty().exclude("from"));
+	}
+
 	@Test
 	public void edgeFromToLazy() {
 		final BasicTestEntity e1 = new BasicTestEntity();
@@ -24,12 +24,18 @@ import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isOneOf;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -40,6 +46,9 @@ import com.arangodb.springframework.AbstractArangoTest;
 import com.arangodb.springframework.annotation.ArangoId;
 import com.arangodb.springframework.annotation.Document;
 import com.arangodb.springframework.annotation.Ref;
+import com.arangodb.springframework.core.convert.FetchPlan;
+import com.arangodb.springframework.core.convert.IdentityMap;
+import com.arangodb.springframework.core.convert.resolver.LazyLoadingProxy;
 import com.arangodb.springframework.core.mapping.testdata.BasicTestEntity;
 
 /**
@@ -85,6 +94,108 @@ public class RefMappingTest extends AbstractArangoTest {
 		assertThat(document.entity.getId(), is(e1.getId()));
 	}
 
+	@Test
+	public void singleRefFetchPlanExclude() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final SingleReferenceTestEntity e0 = new SingleReferenceTestEntity();
+		e0.entity = e1;
+		template.insert(e0);
+		final SingleReferenceTestEntity document = template
+				.find(e0.id, SingleReferenceTestEntity.class, FetchPlan.empty().exclude("entity")).get();
+		assertThat(document, is(notNullValue()));
+		assertThat(document.entity, instanceOf(LazyLoadingProxy.class));
+
+		// the excluded reference is written back unchanged
+		template.repsert(document);
+		assertThat(template.find(e0.id, SingleReferenceTestEntity.class).get().entity.getId(), is(e1.getId()));
+
+		final Map<String, Object> bindVars = new HashMap<>();
+		bindVars.put("@col", SingleReferenceTestEntity.class);
+		final List<SingleReferenceTestEntity> documents = template.query("FOR e IN @@col RETURN e", bindVars, null,
+			SingleReferenceTestEntity.class, FetchPlan.empty().exclude("SingleReferenceTestEntity.entity"))
+				.asListRemaining();
+		assertThat(documents.size(), is(1));
+		assertThat(documents.get(0).entity, instanceOf(LazyLoadingProxy.class));
+	}
+
+	@Test
+	public void singleRefFetchPlanLazy() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final SingleReferenceTestEntity e0 = new SingleReferenceTestEntity();
+		e0.entity = e1;
+		template.insert(e0);
+		final SingleReferenceTestEntity document = template
+				.find(e0.id, SingleReferenceTestEntity.class, FetchPlan.empty().lazy("entity")).get();
+		assertThat(document.entity, instanceOf(LazyLoadingProxy.class));
+		assertThat(document.entity.getId(), is(e1.getId()));
+	}
+
+	@Test
+	public void singleRefLazyFetchPlanInclude() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final SingleReferenceLazyTestEntity e0 = new SingleReferenceLazyTestEntity();
+		e0.entity = e1;
+		template.insert(e0);
+		final SingleReferenceLazyTestEntity document = template
+				.find(e0.id, SingleReferenceLazyTestEntity.class, FetchPlan.empty().include("entity")).get();
+		assertThat(document.entity, is(not(instanceOf(LazyLoadingProxy.class))));
+		assertThat(document.entity.getId(), is(e1.getId()));
+	}
+
+	@Test
+	public void singleRefSharedTargetResolvedOnce() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final SingleReferenceTestEntity e0 = new SingleReferenceTestEntity();
+		e0.entity = e1;
+		final SingleReferenceTestEntity e2 = new SingleReferenceTestEntity();
+		e2.entity = e1;
+		template.insert(Arrays.asList(e0, e2), SingleReferenceTestEntity.class);
+		final List<SingleReferenceTestEntity> documents = new ArrayList<>();
+		template.findAll(SingleReferenceTestEntity.class).forEach(documents::add);
+		assertThat(documents.size(), is(2));
+		assertThat(documents.get(0).entity, is(notNullValue()));
+		assertThat(documents.get(0).entity, is(sameInstance(documents.get(1).entity)));
+	}
+
+	@Test
+	public void identityMapSession() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final SingleReferenceTestEntity e0 = new SingleReferenceTestEntity();
+		e0.entity = e1;
+		template.insert(e0);
+		try (IdentityMap session = IdentityMap.open()) {
+			final SingleReferenceTestEntity document = template.find(e0.id, SingleReferenceTestEntity.class).get();
+			final BasicTestEntity target = template.find(e1.id, BasicTestEntity.class).get();
+			assertThat(target, is(sameInstance(document.entity)));
+			assertThat(template.find(e0.id, SingleReferenceTestEntity.class).get(), is(sameInstance(document)));
+		}
+		assertThat(IdentityMap.current(), is(nullValue()));
+		assertThat(template.find(e1.id, BasicTestEntity.class).get(),
+			is(not(sameInstance(template.find(e1.id, BasicTestEntity.class).get()))));
+	}
+
+	@Test
+	public void identityMapSessionIsolatesPartialReads() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final SingleReferenceTestEntity e0 = new SingleReferenceTestEntity();
+		e0.entity = e1;
+		template.insert(e0);
+		try (IdentityMap session = IdentityMap.open()) {
+			final SingleReferenceTestEntity partial = template
+					.find(e0.id, SingleReferenceTestEntity.class, FetchPlan.empty().exclude("entity")).get();
+			final SingleReferenceTestEntity document = template.find(e0.id, SingleReferenceTestEntity.class).get();
+			assertThat(document, is(not(sameInstance(partial))));
+			assertThat(document.entity, is(not(instanceOf(LazyLoadingProxy.class))));
+			assertThat(session.size(), is(2));
+		}
+	}
+
 	public static class MultiReferenceTestEntity extends BasicTestEntity {
 		@Ref
 		private Collection<BasicTestEntity> entities;
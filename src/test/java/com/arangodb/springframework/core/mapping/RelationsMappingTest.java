@@ -20,6 +20,7 @@
 
 package com.arangodb.springframework.core.mapping;
 
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
@@ -35,7 +36,10 @@ import java.util.stream.Collectors;
 import org.junit.Test;
 
 import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.annotation.Edge;
 import com.arangodb.springframework.annotation.Relations;
+import com.arangodb.springframework.annotation.Relations.Direction;
+import com.arangodb.springframework.annotation.VertexCentricIndex;
 import com.arangodb.springframework.core.mapping.testdata.BasicEdgeTestEntity;
 import com.arangodb.springframework.core.mapping.testdata.BasicTestEntity;
 
@@ -257,4 +261,73 @@ public class RelationsMappingTest extends AbstractArangoTest {
 			assertThat(e.getId(), is(isOneOf(e1.getId(), e2.getId())));
 		}
 	}
+
+	@Edge
+	@VertexCentricIndex(fields = "type", direction = Direction.OUTBOUND)
+	public static class TypedEdgeTestEntity extends BasicEdgeTestEntity {
+		private String type;
+
+		public TypedEdgeTestEntity() {
+			super();
+		}
+
+		public TypedEdgeTestEntity(final BasicTestEntity from, final BasicTestEntity to, final String type) {
+			super(from, to);
+			this.type = type;
+		}
+	}
+
+	public static class RelationsEdgeFilterTestEntity extends BasicTestEntity {
+		@Relations(edges = TypedEdgeTestEntity.class, direction = Direction.OUTBOUND,
+				edgeFilter = "edge.type == 'friend'")
+		private Collection<BasicTestEntity> friends;
+	}
+
+	@Test
+	public void relationsWithEdgeFilter() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final BasicTestEntity e2 = new BasicTestEntity();
+		template.insert(e2);
+		final RelationsEdgeFilterTestEntity e0 = new RelationsEdgeFilterTestEntity();
+		template.insert(e0);
+		template.insert(new TypedEdgeTestEntity(e0, e1, "friend"));
+		template.insert(new TypedEdgeTestEntity(e0, e2, "colleague"));
+
+		final RelationsEdgeFilterTestEntity document = template.find(e0.id, RelationsEdgeFilterTestEntity.class)
+				.get();
+		assertThat(document.friends.size(), is(1));
+		assertThat(document.friends.iterator().next().getId(), is(e1.getId()));
+	}
+
+	public static class RelationsDeepEdgeFilterTestEntity extends BasicTestEntity {
+		@Relations(edges = TypedEdgeTestEntity.class, direction = Direction.OUTBOUND, maxDepth = 2,
+				edgeFilter = "HAS(edge, 'type') AND edge.type == 'friend'")
+		private Collection<BasicTestEntity> friends;
+	}
+
+	@Test
+	public void relationsWithEdgeFilterOnAllDepths() {
+		final BasicTestEntity colleague = new BasicTestEntity();
+		template.insert(colleague);
+		final BasicTestEntity friend = new BasicTestEntity();
+		template.insert(friend);
+		final BasicTestEntity friendOfFriend = new BasicTestEntity();
+		template.insert(friendOfFriend);
+		final BasicTestEntity friendOfColleague = new BasicTestEntity();
+		template.insert(friendOfColleague);
+		final RelationsDeepEdgeFilterTestEntity e0 = new RelationsDeepEdgeFilterTestEntity();
+		template.insert(e0);
+		template.insert(new TypedEdgeTestEntity(e0, colleague, "colleague"));
+		template.insert(new TypedEdgeTestEntity(colleague, friendOfColleague, "friend"));
+		// also reachable through the colleague, which must not hide the path of friends
+		template.insert(new TypedEdgeTestEntity(colleague, friendOfFriend, "friend"));
+		template.insert(new TypedEdgeTestEntity(e0, friend, "friend"));
+		template.insert(new TypedEdgeTestEntity(friend, friendOfFriend, "friend"));
+
+		final RelationsDeepEdgeFilterTestEntity document = template
+				.find(e0.id, RelationsDeepEdgeFilterTestEntity.class).get();
+		assertThat(document.friends.stream().map(BasicTestEntity::getId).collect(Collectors.toList()),
+			containsInAnyOrder(friend.getId(), friendOfFriend.getId()));
+	}
 }
@@ -0,0 +1,73 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.mapping.event;
+
+import java.util.ArrayList;
+
+import org.springframework.stereotype.Component;
+
+import com.arangodb.springframework.testdata.Customer;
+
+@Component
+public class CustomerEntityCallback implements BeforeConvertCallback<Customer>, BeforeSaveCallback<Customer>,
+		AfterSaveCallback<Customer>, AfterConvertCallback<Customer> {
+
+	public final ArrayList<String> invocations = new ArrayList<>();
+	public final ArrayList<Customer> afterConvert = new ArrayList<>();
+	public String replacementSurname;
+	public boolean replaceAfterSave;
+
+	@Override
+	public Customer onBeforeConvert(final Customer entity, final String collection) {
+		invocations.add("beforeConvert:" + collection);
+		if (replacementSurname == null) {
+			return entity;
+		}
+		final Customer replacement = new Customer(entity.getName(), replacementSurname, entity.getAge());
+		replacement.setId(entity.getId());
+		return replacement;
+	}
+
+	@Override
+	public Customer onBeforeSave(final Customer entity, final String collection) {
+		invocations.add("beforeSave:" + collection);
+		return entity;
+	}
+
+	@Override
+	public Customer onAfterSave(final Customer entity, final String collection) {
+		invocations.add("afterSave:" + collection);
+		if (!replaceAfterSave) {
+			return entity;
+		}
+		final Customer replacement = new Customer(entity.getName(), entity.getSurname(), entity.getAge());
+		replacement.setId(entity.getId());
+		return replacement;
+	}
+
+	@Override
+	public Customer onAfterConvert(final Customer entity, final String collection) {
+		invocations.add("afterConvert:" + collection);
+		afterConvert.add(entity);
+		return entity;
+	}
+
+}
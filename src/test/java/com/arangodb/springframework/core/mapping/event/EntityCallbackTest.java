@@ -0,0 +1,152 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.mapping.event;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.testdata.Customer;
+
+public class EntityCallbackTest extends AbstractArangoTest {
+
+	private static final String COLLECTION = "test-customer";
+
+	@Autowired
+	private CustomerEntityCallback callback;
+
+	public EntityCallbackTest() {
+		super(Customer.class);
+	}
+
+	@Before
+	@After
+	public void resetCallback() {
+		callback.invocations.clear();
+		callback.afterConvert.clear();
+		callback.replacementSurname = null;
+		callback.replaceAfterSave = false;
+	}
+
+	@Test
+	public void insertInvokesCallbacksInOrder() {
+		template.insert(new Customer("John", "Smith", 20));
+		assertThat(callback.invocations, contains("beforeConvert:" + COLLECTION, "beforeSave:" + COLLECTION,
+			"afterSave:" + COLLECTION));
+	}
+
+	@Test
+	public void insertMultiInvokesCallbacksPerEntity() {
+		template.insert(Arrays.asList(new Customer("John", "Smith", 20), new Customer("Bob", "Thompson", 40)),
+			Customer.class);
+		assertThat(callback.invocations.stream().filter(i -> i.startsWith("beforeConvert")).count(), is(2L));
+		assertThat(callback.invocations.stream().filter(i -> i.startsWith("afterSave")).count(), is(2L));
+	}
+
+	@Test
+	public void beforeConvertReplacementIsPersisted() {
+		callback.replacementSurname = "Miller";
+		template.insert(new Customer("John", "Smith", 20));
+		callback.replacementSurname = null;
+
+		final Customer loaded = template.findAll(Customer.class).iterator().next();
+		assertThat(loaded.getSurname(), is("Miller"));
+	}
+
+	@Test
+	public void saveReturnsReplacement() {
+		callback.replacementSurname = "Miller";
+		final Customer john = new Customer("John", "Smith", 20);
+		final Customer stored = template.save(john);
+
+		assertThat(stored, is(not(sameInstance(john))));
+		assertThat(stored.getSurname(), is("Miller"));
+		assertThat(stored.getId(), is(notNullValue()));
+		assertThat(john.getId(), is(stored.getId()));
+	}
+
+	@Test
+	public void saveReturnsAfterSaveReplacement() {
+		callback.replaceAfterSave = true;
+		final Customer john = new Customer("John", "Smith", 20);
+		final Customer stored = template.save(john);
+
+		assertThat(stored, is(not(sameInstance(john))));
+		assertThat(stored.getId(), is(john.getId()));
+	}
+
+	@Test
+	public void saveAllReturnsReplacements() {
+		callback.replacementSurname = "Miller";
+		final Iterable<Customer> stored = template.saveAll(
+			Arrays.asList(new Customer("John", "Smith", 20), new Customer("Bob", "Thompson", 40)), Customer.class);
+
+		for (final Customer customer : stored) {
+			assertThat(customer.getSurname(), is("Miller"));
+			assertThat(customer.getId(), is(notNullValue()));
+		}
+	}
+
+	@Test
+	public void insertUpdateReplaceSetDocumentFieldsOnReplacedValue() {
+		callback.replacementSurname = "Miller";
+		final Customer john = new Customer("John", "Smith", 20);
+		template.insert(john);
+		assertThat(john.getId(), is(notNullValue()));
+		assertThat(john.getArangoId(), is(notNullValue()));
+		final String inserted = john.getRev();
+		assertThat(inserted, is(notNullValue()));
+
+		template.update(john.getId(), john);
+		final String updated = john.getRev();
+		assertThat(updated, is(not(inserted)));
+
+		template.replace(john.getId(), john);
+		assertThat(john.getRev(), is(not(updated)));
+
+		final Customer bob = new Customer("Bob", "Thompson", 40);
+		template.insert(Arrays.asList(bob), Customer.class);
+		assertThat(bob.getId(), is(notNullValue()));
+	}
+
+	@Test
+	public void findInvokesAfterConvert() {
+		final Customer john = new Customer("John", "Smith", 20);
+		template.insert(john);
+		callback.invocations.clear();
+
+		final Customer loaded = template.find(john.getId(), Customer.class).get();
+		assertThat(callback.invocations, contains("afterConvert:" + COLLECTION));
+		assertThat(callback.afterConvert, contains(loaded));
+	}
+
+}
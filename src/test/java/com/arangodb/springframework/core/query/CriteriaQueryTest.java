@@ -0,0 +1,152 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.query;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import com.arangodb.springframework.core.mapping.ArangoMappingContext;
+import com.arangodb.springframework.testdata.Customer;
+
+public class CriteriaQueryTest {
+
+	private static final String TYPE_KEY = "_class";
+
+	private final ArangoMappingContext context = new ArangoMappingContext();
+
+	@Test
+	public void criteria() {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String query = CriteriaQuery
+				.query(Criteria.where("name").is("John").and("age").between(18, 30).and("address.zipCode").isNotNull())
+				.buildQuery(context, Customer.class, TYPE_KEY, bindVars);
+		assertThat(query, is("FOR e IN @@col FILTER e.`customer-name` == @value0 AND e.age >= @value1 "
+				+ "AND e.age <= @value2 AND e.address.zipCode != null RETURN e"));
+		assertThat(bindVars.get("@col"), is(Customer.class));
+		assertThat(bindVars.get("value0"), is("John"));
+		assertThat(bindVars.get("value1"), is(18));
+		assertThat(bindVars.get("value2"), is(30));
+	}
+
+	@Test
+	public void nestedOperators() {
+		final String query = CriteriaQuery
+				.query(Criteria.where("surname").in("Doe", "Smith").orOperator(Criteria.where("alive").is(true),
+					Criteria.where("stringList").containing("a").not(Criteria.where("age").lt(10))))
+				.buildQuery(context, Customer.class, TYPE_KEY, new HashMap<>());
+		assertThat(query, is("FOR e IN @@col FILTER e.surname IN @value0 AND ((e.alive == @value1) "
+				+ "OR (@value2 IN e.stringList AND NOT (e.age < @value3))) RETURN e"));
+	}
+
+	@Test
+	public void sortPageAndProjection() {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String query = CriteriaQuery.query(Criteria.where("surname").like("D%"))
+				.with(PageRequest.of(2, 10, Sort.by(Direction.DESC, "name"))).fields("name", "age")
+				.buildQuery(context, Customer.class, TYPE_KEY, bindVars);
+		assertThat(query, is("FOR e IN @@col FILTER e.surname LIKE @value0 SORT e.`customer-name` DESC "
+				+ "LIMIT @offset, @count "
+				+ "RETURN KEEP(e, \"_id\", \"_key\", \"_rev\", \"_class\", \"customer-name\", \"age\")"));
+		assertThat(bindVars.get("offset"), is(20L));
+		assertThat(bindVars.get("count"), is(10));
+	}
+
+	@Test
+	public void sameShapeSameQuery() {
+		final String first = CriteriaQuery.query(Criteria.where("name").is("John").and("age").in(Arrays.asList(1, 2)))
+				.limit(5).buildQuery(context, Customer.class, TYPE_KEY, new HashMap<>());
+		final String second = CriteriaQuery.query(Criteria.where("name").is("Jane").and("age").in(Arrays.asList(3)))
+				.limit(50).buildQuery(context, Customer.class, TYPE_KEY, new HashMap<>());
+		assertThat(first, is(second));
+	}
+
+	@Test
+	public void count() {
+		final String query = CriteriaQuery.query(Criteria.where("age").gt(18)).limit(1).buildCountQuery(context,
+			Customer.class, new HashMap<>());
+		assertThat(query, is("FOR e IN @@col FILTER e.age > @value0 COLLECT WITH COUNT INTO length RETURN length"));
+	}
+
+	@Test
+	public void composePredicates() {
+		final Criteria criteria = new Criteria("e.a == @0").and(new Criteria("e.b == @1"))
+				.or(new Criteria("e.c == @2")).or(new Criteria("e.d == @3"));
+		assertThat(criteria.getPredicate(), is("e.a == @0 AND e.b == @1 OR e.c == @2 OR e.d == @3"));
+	}
+
+	@Test
+	public void composePredicatesAndProperties() {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String query = CriteriaQuery
+				.query(new Criteria("e.age > 18").or(Criteria.where("alive").is(true)).and(Criteria.where("name")
+						.is("John")))
+				.buildQuery(context, Customer.class, TYPE_KEY, bindVars);
+		assertThat(query,
+			is("FOR e IN @@col FILTER (e.age > 18 OR e.alive == @value0) AND e.`customer-name` == @value1 RETURN e"));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void predicateOfPropertiesNeedsContext() {
+		Criteria.where("name").is("John").getPredicate();
+	}
+
+	@Test
+	public void emptyGroupsAreSkipped() {
+		final String query = CriteriaQuery
+				.query(Criteria.where("alive").is(true).orOperator().andOperator(new Criteria(), new Criteria())
+						.orOperator(new Criteria(), Criteria.where("age").gt(18)))
+				.buildQuery(context, Customer.class, TYPE_KEY, new HashMap<>());
+		assertThat(query, is("FOR e IN @@col FILTER e.alive == @value0 AND ((e.age > @value1)) RETURN e"));
+	}
+
+	@Test
+	public void onlyEmptyGroups() {
+		final Criteria criteria = new Criteria().orOperator().andOperator(new Criteria().orOperator(new Criteria()));
+		assertThat(criteria.isEmpty(), is(true));
+		assertThat(CriteriaQuery.query(criteria).buildQuery(context, Customer.class, TYPE_KEY, new HashMap<>()),
+			is("FOR e IN @@col RETURN e"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void notEmpty() {
+		Criteria.where("alive").is(true).not(new Criteria());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nestedProjection() {
+		new CriteriaQuery().fields("name", "address.zipCode");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void missingProperty() {
+		new Criteria().is("John");
+	}
+
+}
@@ -24,6 +24,7 @@ import com.arangodb.entity.IndexEntity;
 import com.arangodb.entity.IndexType;
 import com.arangodb.springframework.AbstractArangoTest;
 import com.arangodb.springframework.annotation.Document;
+import com.arangodb.springframework.annotation.Edge;
 import com.arangodb.springframework.annotation.FulltextIndex;
 import com.arangodb.springframework.annotation.FulltextIndexed;
 import com.arangodb.springframework.annotation.FulltextIndexes;
@@ -33,6 +34,7 @@ import com.arangodb.springframework.annotation.GeoIndexes;
 import com.arangodb.springframework.annotation.HashIndex;
 import com.arangodb.springframework.annotation.HashIndexed;
 import com.arangodb.springframework.annotation.HashIndexes;
+import com.arangodb.springframework.annotation.MultiDimensionalIndex;
 import com.arangodb.springframework.annotation.PersistentIndex;
 import com.arangodb.springframework.annotation.PersistentIndexed;
 import com.arangodb.springframework.annotation.PersistentIndexes;
@@ -41,6 +43,7 @@ import com.arangodb.springframework.annotation.SkiplistIndexed;
 import com.arangodb.springframework.annotation.SkiplistIndexes;
 import com.arangodb.springframework.annotation.TtlIndex;
 import com.arangodb.springframework.annotation.TtlIndexed;
+import com.arangodb.springframework.annotation.VertexCentricIndex;
 import com.arangodb.springframework.core.geo.GeoJsonPoint;
 import org.junit.Test;
 import org.springframework.data.mapping.MappingException;
@@ -342,6 +345,61 @@ public class ArangoIndexTest extends AbstractArangoTest {
 			hasItems(IndexType.primary, IndexType.persistent));
 	}
 
+	@PersistentIndex(fields = { "a" }, storedValues = { "b" }, inBackground = true, estimates = false)
+	public static class PersistentIndexWithOptionsTestEntity {
+	}
+
+	@Test
+	public void persistentIndexWithOptions() {
+		final Collection<IndexEntity> indexes = template.collection(PersistentIndexWithOptionsTestEntity.class)
+				.getIndexes();
+		assertThat(indexes.size(), is(2));
+		final IndexEntity index = indexes.stream().filter(i -> i.getType() == IndexType.persistent).findFirst()
+				.get();
+		assertThat(index.getFields(), contains("a"));
+		assertThat(index.getFields(), not(hasItem("b")));
+	}
+
+	@MultiDimensionalIndex(fields = { "a", "b" })
+	public static class MultiDimensionalIndexTestEntity {
+	}
+
+	@Test
+	public void multiDimensionalIndex() {
+		final Collection<IndexEntity> indexes = template.collection(MultiDimensionalIndexTestEntity.class)
+				.getIndexes();
+		assertThat(indexes.size(), is(2));
+		assertThat(indexes.stream().filter(i -> i.getType() != IndexType.primary).findFirst().get().getFields(),
+			contains("a", "b"));
+	}
+
+	@Edge
+	@VertexCentricIndex(fields = { "type" })
+	public static class VertexCentricIndexTestEntity {
+	}
+
+	@Test
+	public void vertexCentricIndex() {
+		final Collection<IndexEntity> indexes = template.collection(VertexCentricIndexTestEntity.class).getIndexes();
+		assertThat(indexes.stream().filter(i -> i.getType() == IndexType.persistent).map(i -> i.getFields())
+				.collect(Collectors.toList()),
+			containsInAnyOrder(contains("_from", "type"), contains("_to", "type")));
+	}
+
+	@VertexCentricIndex(fields = { "type" })
+	public static class VertexCentricIndexOnDocumentTestEntity {
+	}
+
+	@Test
+	public void vertexCentricIndexOnDocumentShouldThrow() {
+		try {
+			template.collection(VertexCentricIndexOnDocumentTestEntity.class).getIndexes();
+			fail("did not throw");
+		} catch (MappingException e) {
+			assertThat(e.getMessage(), containsString("only supported on @Edge entities"));
+		}
+	}
+
 	public static class GeoIndexedSingleFieldTestEntity {
 		@GeoIndexed
 		private String a;
@@ -20,26 +20,43 @@
 
 package com.arangodb.springframework.core.template;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.junit.Test;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Sort;
 
 import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDBException;
 import com.arangodb.entity.ArangoDBVersion;
 import com.arangodb.entity.BaseDocument;
 import com.arangodb.entity.DocumentEntity;
@@ -48,6 +65,9 @@ import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.springframework.AbstractArangoTest;
 import com.arangodb.springframework.annotation.Document;
 import com.arangodb.springframework.core.ArangoOperations.UpsertStrategy;
+import com.arangodb.springframework.core.aggregation.Aggregation;
+import com.arangodb.springframework.core.query.Criteria;
+import com.arangodb.springframework.core.query.CriteriaQuery;
 import com.arangodb.springframework.testdata.Address;
 import com.arangodb.springframework.testdata.Customer;
 import com.arangodb.springframework.testdata.Product;
@@ -173,6 +193,72 @@ public class ArangoTemplateTest extends AbstractArangoTest {
 		assertThat(customer.getAddress().getZipCode(), is("22162–1010"));
 	}
 
+	@Test
+	public void getDocumentCoalesced() throws Exception {
+		final DocumentEntity res1 = template.insert(new Customer("John", "Doe", 30));
+		final DocumentEntity res2 = template.insert(new Customer("Jane", "Doe", 26));
+		final ArangoTemplate arangoTemplate = (ArangoTemplate) template;
+		arangoTemplate.setReadCoalescer(new ReadCoalescer(50, TimeUnit.MILLISECONDS, 2));
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Future<Optional<Customer>> john = executor.submit(() -> template.find(res1.getId(), Customer.class));
+			final Future<Optional<Customer>> jane = executor.submit(() -> template.find(res2.getKey(), Customer.class));
+			assertThat(john.get().get().getName(), is("John"));
+			assertThat(jane.get().get().getName(), is("Jane"));
+			assertThat(template.find("missing", Customer.class).isPresent(), is(false));
+		} finally {
+			executor.shutdown();
+			arangoTemplate.setReadCoalescer(null);
+		}
+	}
+
+	@Test
+	public void getDocumentsByIdsOfDifferentCollections() {
+		final Customer customer = new Customer("John", "Doe", 30);
+		final Product product = new Product("test");
+		template.insert(customer);
+		template.insert(product);
+		final String productId = "test-product/" + product.getId();
+		final String missingId = "test-customer/missing";
+		final MultiGetResult<Object> result = template
+				.findByIds(Arrays.asList(productId, customer.getArangoId(), missingId), Object.class);
+		assertThat(result.getEntities().size(), is(2));
+		assertThat(((Product) result.getEntities().get(0)).getName(), is("test"));
+		assertThat(((Customer) result.getEntities().get(1)).getName(), is("John"));
+		assertThat(result.get(productId).get(), is(instanceOf(Product.class)));
+		assertThat(result.get(missingId).isPresent(), is(false));
+		assertThat(result.getMissingIds(), contains(missingId));
+
+		final MultiGetResult<Customer> customers = template.findByIds(Arrays.asList(customer.getId()), Customer.class);
+		assertThat(customers.getEntities().get(0).getName(), is("John"));
+		assertThat(customers.hasMissingIds(), is(false));
+	}
+
+	@Test
+	public void insertDocumentsCoalesced() throws Exception {
+		final ArangoTemplate arangoTemplate = (ArangoTemplate) template;
+		arangoTemplate.setWriteCoalescer(new WriteCoalescer(50, TimeUnit.MILLISECONDS, 2));
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Customer john = new Customer("John", "Doe", 30);
+			final Customer jane = new Customer("Jane", "Doe", 26);
+			final Future<DocumentEntity> res1 = executor.submit(() -> template.insert(john));
+			final Future<DocumentEntity> res2 = executor.submit(() -> template.insert(jane));
+			assertThat(john.getId(), is(res1.get().getKey()));
+			assertThat(jane.getId(), is(res2.get().getKey()));
+			assertThat(template.find(john.getId(), Customer.class).get().getName(), is("John"));
+
+			jane.setName("Janet");
+			template.repsert(jane);
+			template.delete(john.getId(), Customer.class);
+			assertThat(template.find(jane.getId(), Customer.class).get().getName(), is("Janet"));
+			assertThat(template.exists(john.getId(), Customer.class), is(false));
+		} finally {
+			executor.shutdown();
+			arangoTemplate.setWriteCoalescer(null);
+		}
+	}
+
 	@Test
 	public void getDocuments() {
 		final Customer c1 = new Customer("John", "Doe", 30);
@@ -305,6 +391,176 @@ public class ArangoTemplateTest extends AbstractArangoTest {
 		assertThat(customers.get(0).getAge(), is(30));
 	}
 
+	@Test
+	public void queryWithPrefetch() throws IOException {
+		final List<Customer> toInsert = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			toInsert.add(new Customer("John", "Doe", i));
+		}
+		template.insert(toInsert, Customer.class);
+		final String query = "FOR c IN @@coll SORT c.age RETURN c";
+		final Map<String, Object> bindVars = new MapBuilder().put("@coll", Customer.class).get();
+		final AqlQueryOptions options = new AqlQueryOptions().batchSize(2);
+
+		final List<Customer> customers = template
+				.query(query, bindVars, options, Customer.class, CursorOptions.defaults().prefetch(2)).asListRemaining();
+		assertThat(customers.stream().map(Customer::getAge).collect(Collectors.toList()),
+			contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+
+		try (ArangoCursor<Customer> cursor = template.query(query, bindVars, options, Customer.class,
+			CursorOptions.defaults().prefetch(1))) {
+			assertThat(cursor.next().getAge(), is(0));
+			assertThat(cursor.next().getAge(), is(1));
+			assertThat(cursor.next().getAge(), is(2));
+		}
+	}
+
+	@Test
+	public void queryWithPrefetchClosesAbandonedCursor() throws InterruptedException {
+		final List<Customer> toInsert = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			toInsert.add(new Customer("John", "Doe", i));
+		}
+		template.insert(toInsert, Customer.class);
+		final String query = "FOR c IN @@coll SORT c.age RETURN c";
+		final Map<String, Object> bindVars = new MapBuilder().put("@coll", Customer.class).get();
+		final AqlQueryOptions options = new AqlQueryOptions().batchSize(2);
+
+		final ArangoCursor<Customer> cursor = template.query(query, bindVars, options, Customer.class,
+			CursorOptions.defaults().prefetch(1).prefetchTimeout(Duration.ofMillis(200)));
+		assertThat(cursor.next().getAge(), is(0));
+		Thread.sleep(1000);
+		try {
+			while (cursor.hasNext()) {
+				cursor.next();
+			}
+			fail();
+		} catch (final ArangoDBException e) {
+			assertThat(e.getMessage(), containsString("did not take a document"));
+		}
+	}
+
+	@Test
+	public void queryWithParallelDecoding() {
+		final List<Customer> toInsert = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			toInsert.add(new Customer("John", "Doe", i));
+		}
+		template.insert(toInsert, Customer.class);
+		final String query = "FOR c IN @@coll SORT c.age RETURN c";
+		final Map<String, Object> bindVars = new MapBuilder().put("@coll", Customer.class).get();
+		final AqlQueryOptions options = new AqlQueryOptions().batchSize(3);
+		final ExecutorService executor = Executors.newFixedThreadPool(3);
+		final ArangoTemplate arangoTemplate = (ArangoTemplate) template;
+		try {
+			final List<Customer> customers = template.query(query, bindVars, options, Customer.class,
+				CursorOptions.defaults().decodeInParallel(executor).prefetch(1)).asListRemaining();
+			assertThat(customers.stream().map(Customer::getAge).collect(Collectors.toList()),
+				contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+
+			arangoTemplate.setDefaultCursorOptions(CursorOptions.defaults().decodeInParallel(executor));
+			final List<Customer> byDefault = template.query(query, bindVars, options, Customer.class)
+					.asListRemaining();
+			assertThat(byDefault.stream().map(Customer::getAge).collect(Collectors.toList()),
+				contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+			try {
+				template.query(query, bindVars, options, Customer.class, CursorOptions.defaults().decodeInParallel());
+				fail();
+			} catch (final IllegalStateException e) {
+			}
+			arangoTemplate.setDecodeExecutor(executor);
+			final List<Customer> byTemplateExecutor = template
+					.query(query, bindVars, options, Customer.class, CursorOptions.defaults().decodeInParallel())
+					.asListRemaining();
+			assertThat(byTemplateExecutor.stream().map(Customer::getAge).collect(Collectors.toList()),
+				contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+		} finally {
+			arangoTemplate.setDefaultCursorOptions(null);
+			arangoTemplate.setDecodeExecutor(null);
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void parallelScan() {
+		final List<Customer> toInsert = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			toInsert.add(new Customer("John", "Doe", i));
+		}
+		template.insert(toInsert, Customer.class);
+		final List<Integer> expected = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+
+		try (Stream<Customer> customers = template.parallelScan(Customer.class, 4)) {
+			assertThat(customers.map(Customer::getAge).sorted().collect(Collectors.toList()), is(expected));
+		}
+
+		final Queue<Integer> ages = new ConcurrentLinkedQueue<>();
+		template.parallelScan(Customer.class, 3, customer -> ages.add(customer.getAge()));
+		assertThat(ages.stream().sorted().collect(Collectors.toList()), is(expected));
+
+		// more partitions than documents
+		final Queue<Integer> few = new ConcurrentLinkedQueue<>();
+		template.parallelScan(Customer.class, 50, customer -> few.add(customer.getAge()));
+		assertThat(few.stream().sorted().collect(Collectors.toList()), is(expected));
+	}
+
+	@Test
+	public void slowQueryLog() {
+		template.insert(new Customer("John", "Doe", 30));
+		final ArangoTemplate arangoTemplate = (ArangoTemplate) template;
+		final SlowQueryLog log = new SlowQueryLog(0, TimeUnit.MILLISECONDS, 2);
+		arangoTemplate.setSlowQueryLog(log);
+		try {
+			final String query = "FOR c IN @@col FILTER c.age == @age RETURN c";
+			final Map<String, Object> bindVars = new MapBuilder().put("@col", Customer.class).put("age", 30).get();
+			assertThat(template.query(query, bindVars, null, Customer.class).asListRemaining().size(), is(1));
+			assertThat(log.getEntries().size(), is(1));
+			final SlowQueryLog.Entry entry = log.getEntries().get(0);
+			assertThat(entry.getQuery(), is(query));
+			assertThat(entry.getBindVars().get("@col"), is("test-customer"));
+			assertThat(entry.getBindVars().get("age"), is("Integer"));
+			assertThat(entry.getOrigin(), is(nullValue()));
+
+			SlowQueryLog.withOrigin("origin", () -> template.query(query, bindVars, null, Customer.class));
+			template.query(query, bindVars, null, Customer.class);
+			assertThat(log.getRecorded(), is(3L));
+			assertThat(log.getEntries().size(), is(2));
+			assertThat(log.getEntries().get(0).getOrigin(), is("origin"));
+			assertThat(log.getMethodStatistics().get("origin").getExecutions(), is(1L));
+		} finally {
+			arangoTemplate.setSlowQueryLog(null);
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void aggregate() {
+		template.insert(Arrays.asList(new Customer("John", "Doe", 30), new Customer("John", "Smith", 20),
+			new Customer("Jane", "Doe", 40)), Customer.class);
+		final List<Map> result = template.aggregate(Aggregation.groupBy("name").sum("age", "total").count("count")
+				.sort(Sort.by("name")), Customer.class, Map.class).asListRemaining();
+		assertThat(result.size(), is(2));
+		assertThat(result.get(0).get("name"), is("Jane"));
+		assertThat(((Number) result.get(0).get("total")).intValue(), is(40));
+		assertThat(((Number) result.get(0).get("count")).intValue(), is(1));
+		assertThat(result.get(1).get("name"), is("John"));
+		assertThat(((Number) result.get(1).get("total")).intValue(), is(50));
+		assertThat(((Number) result.get(1).get("count")).intValue(), is(2));
+	}
+
+	@Test
+	public void findByQuery() {
+		template.insert(Arrays.asList(new Customer("John", "Doe", 30), new Customer("John", "Smith", 20),
+			new Customer("Jane", "Doe", 40)), Customer.class);
+		final CriteriaQuery query = CriteriaQuery.query(Criteria.where("surname").is("Doe").and("age").gte(30))
+				.with(Sort.by("age"));
+		final List<Customer> customers = template.find(query, Customer.class).asListRemaining();
+		assertThat(customers.size(), is(2));
+		assertThat(customers.get(0).getName(), is("John"));
+		assertThat(customers.get(1).getName(), is("Jane"));
+		assertThat(template.count(query, Customer.class), is(2L));
+	}
+
 	@Test
 	public void queryWithoutBindParams() {
 		template.insert(new Customer("John", "Doe", 30));
@@ -0,0 +1,92 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class QueryResultCacheTest {
+
+	private final QueryResultCache cache = new QueryResultCache(() -> "db");
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private Object get(final String key, final long ttl, final String... collections) {
+		return cache.get("region", ttl, 2, Arrays.asList(collections), key, loads::incrementAndGet);
+	}
+
+	@Test
+	public void cachesByKey() {
+		assertThat(get("a", 60000, "col"), is(1));
+		assertThat(get("a", 60000, "col"), is(1));
+		assertThat(get("b", 60000, "col"), is(2));
+		assertThat(loads.get(), is(2));
+	}
+
+	@Test
+	public void invalidatesReadCollections() {
+		get("a", 60000, "col1", "col2");
+		get("b", 60000, "col3");
+		cache.invalidate("db", "col2");
+		assertThat(get("a", 60000, "col1", "col2"), is(3));
+		assertThat(get("b", 60000, "col3"), is(2));
+	}
+
+	@Test
+	public void ignoresWritesToOtherDatabases() {
+		get("a", 60000, "col");
+		cache.invalidate("other", "col");
+		assertThat(get("a", 60000, "col"), is(1));
+		cache.invalidateDatabase("db");
+		assertThat(get("a", 60000, "col"), is(2));
+	}
+
+	@Test
+	public void invalidatesWritesDuringLoad() {
+		cache.get("region", 60000, 2, Collections.singleton("col"), "a", () -> {
+			cache.invalidate(Collections.singleton("col"));
+			return loads.incrementAndGet();
+		});
+		assertThat(get("a", 60000, "col"), is(2));
+	}
+
+	@Test
+	public void expires() {
+		get("a", -1, "col");
+		assertThat(get("a", -1, "col"), is(2));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsed() {
+		get("a", 60000, "col");
+		get("b", 60000, "col");
+		get("a", 60000, "col");
+		get("c", 60000, "col");
+		assertThat(get("a", 60000, "col"), is(1));
+		assertThat(get("b", 60000, "col"), is(4));
+	}
+
+}
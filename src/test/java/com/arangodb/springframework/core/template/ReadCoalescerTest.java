@@ -0,0 +1,113 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+public class ReadCoalescerTest {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+	private final List<Collection<String>> requests = new CopyOnWriteArrayList<>();
+
+	@After
+	public void after() {
+		executor.shutdownNow();
+	}
+
+	private Collection<VPackSlice> load(final Collection<String> keys) {
+		requests.add(new ArrayList<>(keys));
+		return keys.stream().filter(key -> !key.startsWith("missing"))
+				.map(key -> new VPackBuilder().add(ValueType.OBJECT).add("_key", key).close().slice())
+				.collect(Collectors.toList());
+	}
+
+	private List<Future<VPackSlice>> getConcurrently(final ReadCoalescer coalescer, final String... keys) {
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Future<VPackSlice>> results = new ArrayList<>();
+		for (final String key : keys) {
+			results.add(executor.submit(() -> {
+				start.await();
+				return coalescer.get("db", "col", key, this::load);
+			}));
+		}
+		start.countDown();
+		return results;
+	}
+
+	@Test
+	public void mergesConcurrentLookups() throws Exception {
+		final ReadCoalescer coalescer = new ReadCoalescer(10, TimeUnit.SECONDS, 4);
+		final List<Future<VPackSlice>> results = getConcurrently(coalescer, "a", "b", "c", "d");
+		assertThat(results.get(2).get(5, TimeUnit.SECONDS).get("_key").getAsString(), is("c"));
+		assertThat(requests.size(), is(1));
+		assertThat(requests.get(0), containsInAnyOrder("a", "b", "c", "d"));
+	}
+
+	@Test
+	public void requestsIdenticalKeysOnce() throws Exception {
+		final ReadCoalescer coalescer = new ReadCoalescer(200, TimeUnit.MILLISECONDS, 10);
+		final List<Future<VPackSlice>> results = getConcurrently(coalescer, "a", "a", "a");
+		for (final Future<VPackSlice> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS).get("_key").getAsString(), is("a"));
+		}
+		assertThat(requests.size(), is(1));
+		assertThat(requests.get(0).size(), is(1));
+	}
+
+	@Test
+	public void missingDocument() {
+		final ReadCoalescer coalescer = new ReadCoalescer(0, TimeUnit.MILLISECONDS, 10);
+		assertThat(coalescer.get("db", "col", "missing", this::load), is(nullValue()));
+		assertThat(coalescer.get("db", "col", "missing", this::load), is(nullValue()));
+		assertThat(requests.size(), is(2));
+	}
+
+	@Test(expected = ArangoDBException.class)
+	public void propagatesFailure() {
+		final ReadCoalescer coalescer = new ReadCoalescer(0, TimeUnit.MILLISECONDS, 10);
+		coalescer.get("db", "col", "a", keys -> {
+			throw new ArangoDBException("failure");
+		});
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ResourceCacheTest {
+
+	@Test
+	public void evictLeastRecentlyUsed() {
+		final ResourceCache<String, Object> cache = new ResourceCache<>();
+		cache.setMaxSize(2);
+		final AtomicInteger provisioned = new AtomicInteger();
+		cache.get("a", key -> provisioned.incrementAndGet(), Runnable::run);
+		cache.get("b", key -> provisioned.incrementAndGet(), Runnable::run);
+		cache.get("a", key -> provisioned.incrementAndGet(), Runnable::run);
+		cache.get("c", key -> provisioned.incrementAndGet(), Runnable::run);
+		assertThat(cache.size(), is(2));
+		assertThat(cache.getEvictions(), is(1L));
+		assertThat(cache.get("a", key -> provisioned.incrementAndGet(), Runnable::run), is(1));
+		assertThat(cache.get("b", key -> provisioned.incrementAndGet(), Runnable::run), is(4));
+		assertThat(cache.getHits(), is(2L));
+		assertThat(cache.getMisses(), is(4L));
+	}
+
+	@Test
+	public void expireAfterAccess() throws InterruptedException {
+		final ResourceCache<String, Object> cache = new ResourceCache<>();
+		cache.setTimeToLive(50, TimeUnit.MILLISECONDS);
+		final Object first = cache.get("a", key -> new Object(), Runnable::run);
+		assertThat(cache.get("a", key -> new Object(), Runnable::run), is(sameInstance(first)));
+		Thread.sleep(100);
+		final Object second = cache.get("a", key -> new Object(), Runnable::run);
+		assertThat(second == first, is(false));
+		assertThat(cache.getEvictions(), is(1L));
+	}
+
+	@Test
+	public void singleFlightProvisioning() throws Exception {
+		final ResourceCache<String, Object> cache = new ResourceCache<>();
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger provisioned = new AtomicInteger();
+		try {
+			final CompletableFuture<Object> first = cache.getAsync("a", key -> {
+				started.countDown();
+				try {
+					release.await();
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return provisioned.incrementAndGet();
+			}, executor);
+			started.await();
+			final CompletableFuture<Object> second = cache.getAsync("a", key -> provisioned.incrementAndGet(),
+				executor);
+			release.countDown();
+			assertThat(first.get(), is(1));
+			assertThat(second.get(), is(1));
+			assertThat(provisioned.get(), is(1));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void provisioningFailureIsNotCached() {
+		final ResourceCache<String, Object> cache = new ResourceCache<>();
+		try {
+			cache.get("a", key -> {
+				throw new IllegalStateException();
+			}, Runnable::run);
+		} finally {
+			assertThat(cache.size(), is(0));
+		}
+	}
+
+}
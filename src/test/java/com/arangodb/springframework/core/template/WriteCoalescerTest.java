@@ -0,0 +1,115 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.core.Is.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.arangodb.ArangoDBException;
+
+public class WriteCoalescerTest {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+	private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+	@After
+	public void after() {
+		executor.shutdownNow();
+	}
+
+	private List<?> write(final List<String> documents) {
+		requests.add(new ArrayList<>(documents));
+		return documents.stream()
+				.map(document -> document.startsWith("invalid") ? new ArangoDBException("invalid") : document + "!")
+				.collect(Collectors.toList());
+	}
+
+	private List<Future<String>> writeConcurrently(final WriteCoalescer coalescer, final String... documents) {
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Future<String>> results = new ArrayList<>();
+		for (final String document : documents) {
+			results.add(executor.submit(() -> {
+				start.await();
+				final String result = coalescer.write("db", "col", "insert", document, this::write);
+				return result;
+			}));
+		}
+		start.countDown();
+		return results;
+	}
+
+	@Test
+	public void groupsConcurrentWrites() throws Exception {
+		final WriteCoalescer coalescer = new WriteCoalescer(10, TimeUnit.SECONDS, 3);
+		final List<Future<String>> results = writeConcurrently(coalescer, "a", "b", "c");
+		assertThat(results.get(0).get(5, TimeUnit.SECONDS), is("a!"));
+		assertThat(results.get(1).get(5, TimeUnit.SECONDS), is("b!"));
+		assertThat(results.get(2).get(5, TimeUnit.SECONDS), is("c!"));
+		assertThat(requests.size(), is(1));
+		assertThat(requests.get(0), containsInAnyOrder("a", "b", "c"));
+	}
+
+	@Test
+	public void reportsErrorPerDocument() throws Exception {
+		final WriteCoalescer coalescer = new WriteCoalescer(10, TimeUnit.SECONDS, 2);
+		final List<Future<String>> results = writeConcurrently(coalescer, "a", "invalid");
+		assertThat(results.get(0).get(5, TimeUnit.SECONDS), is("a!"));
+		try {
+			results.get(1).get(5, TimeUnit.SECONDS);
+		} catch (final ExecutionException e) {
+			assertThat(e.getCause() instanceof ArangoDBException, is(true));
+			return;
+		}
+		throw new AssertionError("Expected ArangoDBException");
+	}
+
+	@Test
+	public void separatesOperations() {
+		final WriteCoalescer coalescer = new WriteCoalescer(0, TimeUnit.MILLISECONDS, 10);
+		assertThat(coalescer.write("db", "col", "insert", "a", this::write), is("a!"));
+		assertThat(coalescer.write("db", "col", "delete", "a", this::write), is("a!"));
+		assertThat(requests.size(), is(2));
+	}
+
+	@Test(expected = ArangoDBException.class)
+	public void propagatesFailure() {
+		final WriteCoalescer coalescer = new WriteCoalescer(0, TimeUnit.MILLISECONDS, 10);
+		coalescer.write("db", "col", "insert", "a", documents -> {
+			throw new ArangoDBException("failure");
+		});
+	}
+
+}
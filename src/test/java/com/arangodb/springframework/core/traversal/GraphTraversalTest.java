@@ -0,0 +1,130 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.traversal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.arangodb.springframework.annotation.Relations.Direction;
+import com.arangodb.springframework.core.mapping.ArangoMappingContext;
+import com.arangodb.springframework.core.query.Criteria;
+import com.arangodb.springframework.core.traversal.GraphTraversal.Order;
+import com.arangodb.springframework.core.traversal.GraphTraversal.Returns;
+import com.arangodb.springframework.core.traversal.GraphTraversal.Uniqueness;
+import com.arangodb.springframework.testdata.Customer;
+import com.arangodb.springframework.testdata.Owns;
+
+public class GraphTraversalTest {
+
+	private final ArangoMappingContext context = new ArangoMappingContext();
+
+	@Test
+	public void traversal() {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String query = GraphTraversal.from("customer/1").edges(Owns.class).direction(Direction.ANY).depth(1, 3)
+				.pruneVertices(Criteria.where("name").is("John")).filterVertices(Criteria.where("age").gt(18))
+				.filter("LENGTH(p.edges) > 1").order(Order.BFS).uniqueVertices(Uniqueness.GLOBAL).limit(10)
+				.buildQuery(context, Customer.class, null, Returns.VERTICES, bindVars);
+		assertThat(query, is("WITH @@vertex FOR v, e, p IN 1..3 ANY @start @@edge0 PRUNE (v.`customer-name` == @value0) "
+				+ "OPTIONS { order: \"bfs\", uniqueVertices: \"global\" } "
+				+ "FILTER (v.age > @value1) AND (LENGTH(p.edges) > 1) LIMIT @offset, @count RETURN v"));
+		assertThat(bindVars.get("@vertex"), is(Customer.class));
+		assertThat(bindVars.get("@edge0"), is(Owns.class));
+		assertThat(bindVars.get("start"), is("customer/1"));
+		assertThat(bindVars.get("value0"), is("John"));
+		assertThat(bindVars.get("value1"), is(18));
+	}
+
+	@Test
+	public void traversalEdges() {
+		final String query = GraphTraversal.from("customer/1").edges("owns")
+				.buildQuery(context, Customer.class, null, Returns.EDGES, new HashMap<>());
+		assertThat(query,
+			is("WITH @@vertex FOR v, e, p IN 1..1 OUTBOUND @start @@edge0 FILTER e != null RETURN e"));
+	}
+
+	@Test
+	public void shortestPath() {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String query = GraphTraversal.shortestPath("customer/1", "customer/2").edges(Owns.class)
+				.weight("distance", 1).buildQuery(context, Customer.class, Owns.class, Returns.PATHS, bindVars);
+		assertThat(query, is("WITH @@vertex LET steps = (FOR v, e IN OUTBOUND SHORTEST_PATH @start TO @target @@edge0 "
+				+ "OPTIONS { weightAttribute: @weightAttribute, defaultWeight: @defaultWeight } RETURN { v, e }) "
+				+ "FILTER LENGTH(steps) > 0 LET p = { vertices: steps[*].v, edges: steps[* FILTER CURRENT.e != null].e } "
+				+ "RETURN { vertices: p.vertices, edges: p.edges }"));
+		assertThat(bindVars.get("target"), is("customer/2"));
+		assertThat(bindVars.get("weightAttribute"), is("distance"));
+	}
+
+	@Test
+	public void kShortestPaths() {
+		final String query = GraphTraversal.kShortestPaths("customer/1", "customer/2").edges(Owns.class).limit(3)
+				.buildQuery(context, Customer.class, Owns.class, Returns.PATHS, new HashMap<>());
+		assertThat(query, is("WITH @@vertex FOR p IN OUTBOUND K_SHORTEST_PATHS @start TO @target @@edge0 "
+				+ "LIMIT @offset, @count RETURN { vertices: p.vertices, edges: p.edges }"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void kShortestPathsReturnVertices() {
+		GraphTraversal.kShortestPaths("customer/1", "customer/2").edges(Owns.class).buildQuery(context,
+			Customer.class, null, Returns.VERTICES, new HashMap<>());
+	}
+
+	@Test
+	public void kShortestPathsFilterExpression() {
+		final String query = GraphTraversal.kShortestPaths("customer/1", "customer/2").edges(Owns.class)
+				.filter("LENGTH(p.edges) < 3")
+				.buildQuery(context, Customer.class, Owns.class, Returns.PATHS, new HashMap<>());
+		assertThat(query, is("WITH @@vertex FOR p IN OUTBOUND K_SHORTEST_PATHS @start TO @target @@edge0 "
+				+ "FILTER (LENGTH(p.edges) < 3) RETURN { vertices: p.vertices, edges: p.edges }"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void kShortestPathsFilterVertices() {
+		GraphTraversal.kShortestPaths("customer/1", "customer/2").edges(Owns.class)
+				.filterVertices(Criteria.where("age").gt(18))
+				.buildQuery(context, Customer.class, Owns.class, Returns.PATHS, new HashMap<>());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shortestPathFilterEdgesReturnPaths() {
+		GraphTraversal.shortestPath("customer/1", "customer/2").edges(Owns.class)
+				.filterEdges(Criteria.where("from").isNotNull())
+				.buildQuery(context, Customer.class, Owns.class, Returns.PATHS, new HashMap<>());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void globalEdgeUniqueness() {
+		GraphTraversal.from("customer/1").uniqueEdges(Uniqueness.GLOBAL);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void missingEdges() {
+		GraphTraversal.from("customer/1").buildQuery(context, Customer.class, null, Returns.VERTICES,
+			new HashMap<>());
+	}
+
+}
@@ -28,6 +28,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.core.Is.is;
 
 /**
@@ -43,6 +44,23 @@ public class AqlUtilsTest {
 		assertThat(AqlUtils.buildLimitClause(PageRequest.of(10, 20)), is("LIMIT 200, 20"));
 	}
 
+	@Test
+	public void isWriteQueryTest() {
+		assertThat(AqlUtils.isWriteQuery("FOR e IN col FILTER e.update == true RETURN e"), is(false));
+		assertThat(AqlUtils.isWriteQuery("FOR e IN col FILTER e.@remove RETURN e"), is(false));
+		assertThat(AqlUtils.isWriteQuery("FOR e IN col REMOVE e IN col"), is(true));
+		assertThat(AqlUtils.isWriteQuery("insert { a: 1 } into col"), is(true));
+		assertThat(AqlUtils.isWriteQuery("UPSERT { a: 1 } INSERT { a: 1 } UPDATE {} IN col"), is(true));
+	}
+
+	@Test
+	public void getCollectionOperandsTest() {
+		assertThat(AqlUtils.getCollectionOperands(
+			"FOR e IN `test-col` FILTER e.a IN [1, 2] UPDATE e WITH { b: 1 } IN @@col"),
+			contains("test-col", "@@col"));
+		assertThat(AqlUtils.getCollectionOperands("INSERT { a: 1 } INTO col"), contains("col"));
+	}
+
 	@Test
 	public void buildPageableClauseTest() {
 		// Special cases
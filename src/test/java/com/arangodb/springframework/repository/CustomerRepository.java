@@ -5,11 +5,13 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import com.arangodb.springframework.annotation.SpelParam;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.geo.Box;
 import org.springframework.data.geo.Circle;
@@ -25,11 +27,15 @@ import com.arangodb.ArangoCursor;
 import com.arangodb.entity.BaseDocument;
 import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.springframework.annotation.BindVars;
+import com.arangodb.springframework.annotation.CachedQuery;
+import com.arangodb.springframework.annotation.PageCount;
 import com.arangodb.springframework.annotation.Query;
 import com.arangodb.springframework.annotation.QueryOptions;
+import com.arangodb.springframework.annotation.Update;
 import com.arangodb.springframework.repository.query.derived.geo.Ring;
 import com.arangodb.springframework.testdata.Customer;
 import com.arangodb.springframework.testdata.CustomerNameProjection;
+import com.arangodb.springframework.testdata.CustomerSurnameAgeProjection;
 
 /**
  *
@@ -108,6 +114,17 @@ public interface CustomerRepository extends ArangoRepository<Customer, String>,
 
 	int countByAgeGreaterThanOrStringArrayNullAndIntegerList(int age, List<Integer> integerList);
 
+	boolean existsBySurname(String surname);
+
+	Slice<Customer> findBySurnameOrderByAgeAsc(String surname, Pageable pageable);
+
+	List<CustomerSurnameAgeProjection> findProjectedBySurnameOrderByAgeAsc(String surname);
+
+	List<Customer> findByAgeBetweenOrderByAgeAsc(Range<Integer> age);
+
+	@QueryOptions(pageCount = PageCount.CACHED)
+	Page<Customer> findBySurnameAndAgeGreaterThanOrderByAgeAsc(String surname, int age, Pageable pageable);
+
 	Integer countDistinctByAliveTrueOrNameLikeOrAgeLessThanEqual(String pattern, int age);
 
 	Customer findByNameStartsWithAndSurnameEndsWithAndAgeBetween(
@@ -118,6 +135,37 @@ public interface CustomerRepository extends ArangoRepository<Customer, String>,
 
 	void removeByNameNotLikeAndSurnameRegexOrAliveFalse(String pattern, String regex);
 
+	int updateSurnameAndAgeByName(String surname, int age, String name);
+
+	@Update
+	@Query("FOR c IN #collection FILTER c.age < @age UPDATE c WITH { alive: false } IN #collection")
+	long markDeadByAgeLessThanAql(@Param("age") int age);
+
+	@CachedQuery(maxEntries = 10)
+	@Query("FOR c IN #collection FILTER c.surname == @surname RETURN c")
+	List<Customer> findBySurnameCachedAql(@Param("surname") String surname);
+
+	@CachedQuery(maxEntries = 10)
+	@Query("FOR c IN #collection FILTER c.surname IN @surnames RETURN c")
+	List<Customer> findBySurnameInCachedAql(@Param("surnames") String[] surnames);
+
+	long deleteBySurname(String surname);
+
+	@Query("FOR c IN #collection FILTER c.surname == @surname REMOVE c IN #collection")
+	void removeBySurnameAql(@Param("surname") String surname);
+
+	@QueryOptions(batchSize = 1, prefetchBatches = 2)
+	@Query("FOR c IN #collection SORT c.age RETURN c")
+	List<Customer> findAllPrefetchedAql();
+
+	@QueryOptions(batchSize = 1, prefetchBatches = 2)
+	@Query("FOR c IN #collection SORT c.age RETURN c")
+	Stream<Customer> streamAllPrefetchedAql();
+
+	@QueryOptions(batchSize = 1, adaptiveBatchSize = true)
+	@Query("FOR c IN #collection SORT c.age RETURN c")
+	List<Customer> findAllAdaptiveAql();
+
 	// GEOSPATIAL
 
 	Customer[] findByLocationNear(Point location);
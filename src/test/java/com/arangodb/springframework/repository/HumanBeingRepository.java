@@ -6,6 +6,12 @@ import java.util.Optional;
 import org.springframework.data.repository.query.Param;
 
 import com.arangodb.springframework.annotation.Query;
+import com.arangodb.springframework.annotation.Relations.Direction;
+import com.arangodb.springframework.annotation.Traversal;
+import com.arangodb.springframework.core.traversal.GraphTraversal.Order;
+import com.arangodb.springframework.core.traversal.GraphTraversal.Type;
+import com.arangodb.springframework.core.traversal.GraphTraversal.Uniqueness;
+import com.arangodb.springframework.testdata.ChildOf;
 import com.arangodb.springframework.testdata.HumanBeing;
 
 /**
@@ -33,4 +39,11 @@ public interface HumanBeingRepository extends ArangoRepository<HumanBeing, Strin
 		@Param("id") String id,
 		@Param("max") byte max,
 		@Param("@edgeCol") Class<?> edgeCollection);
+
+	@Traversal(edges = ChildOf.class, direction = Direction.OUTBOUND, maxDepth = 3, prune = "v.alive == @alive",
+			order = Order.BFS, uniqueVertices = Uniqueness.GLOBAL)
+	List<HumanBeing> getAncestorsUntil(@Param("start") String id, @Param("alive") boolean alive);
+
+	@Traversal(type = Type.SHORTEST_PATH, edges = ChildOf.class, direction = Direction.OUTBOUND)
+	List<HumanBeing> getLineage(@Param("start") String id, @Param("target") String target);
 }
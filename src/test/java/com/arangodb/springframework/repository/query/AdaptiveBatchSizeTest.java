@@ -0,0 +1,88 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.query;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.core.Is.is;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class AdaptiveBatchSizeTest {
+
+	@Test
+	public void growsTowardTargetBytesWhileBatchesAreFull() {
+		final AdaptiveBatchSize batchSize = new AdaptiveBatchSize(10, 100_000, 1, TimeUnit.SECONDS);
+		batchSize.record(10, 1000, true, 1, TimeUnit.MILLISECONDS);
+		assertThat(batchSize.getBatchSize(), is(20));
+		for (int i = 0; i < 20; i++) {
+			final int size = batchSize.getBatchSize();
+			batchSize.record(size, size * 100L, true, 1, TimeUnit.MILLISECONDS);
+		}
+		assertThat(batchSize.getBatchSize(), is(1000));
+		assertThat(batchSize.getSamples(), is(21L));
+	}
+
+	@Test
+	public void keepsSizeIfBatchesAreNotFull() {
+		final AdaptiveBatchSize batchSize = new AdaptiveBatchSize(100, 100_000, 1, TimeUnit.SECONDS);
+		batchSize.record(3, 30, false, 1, TimeUnit.MILLISECONDS);
+		assertThat(batchSize.getBatchSize(), is(100));
+	}
+
+	@Test
+	public void shrinksOnLargeDocuments() {
+		final AdaptiveBatchSize batchSize = new AdaptiveBatchSize(1000, 100_000, 1, TimeUnit.SECONDS);
+		batchSize.record(1000, 1000 * 1000L, true, 1, TimeUnit.MILLISECONDS);
+		assertThat(batchSize.getBatchSize(), is(500));
+		batchSize.record(500, 500 * 1000L, false, 1, TimeUnit.MILLISECONDS);
+		assertThat(batchSize.getBatchSize(), is(250));
+	}
+
+	@Test
+	public void shrinksOnHighLatency() {
+		final AdaptiveBatchSize batchSize = new AdaptiveBatchSize(1000, 100_000_000, 100, TimeUnit.MILLISECONDS);
+		batchSize.record(1000, 1000, true, 150, TimeUnit.MILLISECONDS);
+		assertThat(batchSize.getBatchSize(), is(lessThan(1000)));
+		assertThat(batchSize.getBatchSize(), is(greaterThan(500)));
+		assertThat(batchSize.getLatency(TimeUnit.MILLISECONDS), is(150L));
+	}
+
+	@Test
+	public void ignoresEmptyBatches() {
+		final AdaptiveBatchSize batchSize = new AdaptiveBatchSize(100, 100_000, 1, TimeUnit.SECONDS);
+		batchSize.record(0, 0, false, 1, TimeUnit.MILLISECONDS);
+		assertThat(batchSize.getBatchSize(), is(100));
+		assertThat(batchSize.getSamples(), is(0L));
+	}
+
+	@Test
+	public void staysWithinBounds() {
+		final AdaptiveBatchSize batchSize = new AdaptiveBatchSize(0, 1, 1, TimeUnit.SECONDS);
+		assertThat(batchSize.getBatchSize(), is(AdaptiveBatchSize.MIN_BATCH_SIZE));
+		batchSize.record(1, 1000, true, 1, TimeUnit.MILLISECONDS);
+		assertThat(batchSize.getBatchSize(), is(AdaptiveBatchSize.MIN_BATCH_SIZE));
+	}
+
+}
@@ -8,11 +8,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.time.Instant;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +23,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoDBException;
@@ -30,6 +34,7 @@ import com.arangodb.springframework.repository.AbstractArangoRepositoryTest;
 import com.arangodb.springframework.repository.OverriddenCrudMethodsRepository;
 import com.arangodb.springframework.testdata.Customer;
 import com.arangodb.springframework.testdata.CustomerNameProjection;
+import com.arangodb.springframework.transaction.ArangoTransactionManager;
 
 /**
  *
@@ -60,6 +65,99 @@ public class ArangoAqlQueryTest extends AbstractArangoRepositoryTest {
 		assertThat(retrieved, hasSize(0));
 	}
 
+	@Test
+	public void cachedQueryTest() {
+		repository.saveAll(customers);
+		final List<Customer> retrieved = repository.findBySurnameCachedAql("Smith");
+		assertThat(retrieved, hasSize(1));
+		assertThat(repository.findBySurnameCachedAql("Smith"), is(sameInstance(retrieved)));
+
+		repository.save(new Customer("Jane", "Smith", 30));
+		final List<Customer> invalidated = repository.findBySurnameCachedAql("Smith");
+		assertThat(invalidated, is(not(sameInstance(retrieved))));
+		assertThat(invalidated, hasSize(2));
+	}
+
+	@Test
+	public void cachedQueryInvalidatedByDerivedDeleteTest() {
+		repository.saveAll(customers);
+		final List<Customer> retrieved = repository.findBySurnameCachedAql("Smith");
+		assertThat(retrieved, hasSize(1));
+
+		assertThat(repository.deleteBySurname("Smith"), is(1L));
+		assertThat(repository.findBySurnameCachedAql("Smith"), hasSize(0));
+	}
+
+	@Test
+	public void cachedQueryInvalidatedByWritingAqlTest() {
+		repository.saveAll(customers);
+		assertThat(repository.findBySurnameCachedAql("Smith"), hasSize(1));
+
+		repository.removeBySurnameAql("Smith");
+		assertThat(repository.findBySurnameCachedAql("Smith"), hasSize(0));
+
+		repository.save(new Customer("Jane", "Smith", 30));
+		assertThat(repository.findBySurnameCachedAql("Smith"), hasSize(1));
+		final Map<String, Object> bindVars = new HashMap<>();
+		bindVars.put("@col", Customer.class);
+		bindVars.put("surname", "Smith");
+		template.query("FOR c IN @@col FILTER c.surname == @surname REMOVE c IN @@col", bindVars, Customer.class);
+		assertThat(repository.findBySurnameCachedAql("Smith"), hasSize(0));
+	}
+
+	@Test
+	public void cachedQueryWithArrayParameterTest() {
+		repository.save(new Customer("John", "Smith", 20));
+		final List<Customer> retrieved = repository.findBySurnameInCachedAql(new String[] { "Smith", "Doe" });
+		assertThat(retrieved, hasSize(1));
+		assertThat(repository.findBySurnameInCachedAql(new String[] { "Smith", "Doe" }), is(sameInstance(retrieved)));
+	}
+
+	@Test
+	public void cachedQueryWithinTransactionTest() {
+		final DefaultTransactionAttribute definition = new DefaultTransactionAttribute();
+		definition.setLabels(Collections.singleton(ArangoTransactionManager.WRITE_LABEL + "test-customer"));
+		new TransactionTemplate(new ArangoTransactionManager(template), definition).executeWithoutResult(status -> {
+			repository.save(new Customer("John", "Smith", 20));
+			assertThat(repository.findBySurnameCachedAql("Smith"), hasSize(1));
+			status.setRollbackOnly();
+		});
+		assertThat(repository.findBySurnameCachedAql("Smith"), hasSize(0));
+	}
+
+	@Test
+	public void prefetchedQueryTest() {
+		repository.saveAll(customers);
+		final List<Customer> retrieved = repository.findAllPrefetchedAql();
+		assertThat(retrieved, hasSize(customers.size()));
+		for (int i = 1; i < retrieved.size(); i++) {
+			assertThat(retrieved.get(i).getAge() >= retrieved.get(i - 1).getAge(), is(true));
+		}
+	}
+
+	@Test
+	public void streamedQueryTest() {
+		repository.saveAll(customers);
+		try (Stream<Customer> retrieved = repository.streamAllPrefetchedAql()) {
+			assertThat(retrieved.findFirst().isPresent(), is(true));
+		}
+		try (Stream<Customer> retrieved = repository.streamAllPrefetchedAql()) {
+			assertThat(retrieved.count(), is((long) customers.size()));
+		}
+	}
+
+	@Test
+	public void adaptiveBatchSizeQueryTest() {
+		repository.saveAll(customers);
+		for (int execution = 0; execution < 3; execution++) {
+			final List<Customer> retrieved = repository.findAllAdaptiveAql();
+			assertThat(retrieved, hasSize(customers.size()));
+			for (int i = 1; i < retrieved.size(); i++) {
+				assertThat(retrieved.get(i).getAge() >= retrieved.get(i - 1).getAge(), is(true));
+			}
+		}
+	}
+
 	@Test
 	public void findOneByIdAqlWithNamedParameterTest() {
 		repository.saveAll(customers);
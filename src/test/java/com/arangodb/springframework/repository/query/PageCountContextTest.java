@@ -0,0 +1,95 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.query;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import com.arangodb.springframework.ArangoMultiTenancyTestConfiguration;
+import com.arangodb.springframework.component.TenantProvider;
+import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.util.AqlUtils;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = { ArangoMultiTenancyTestConfiguration.class })
+public class PageCountContextTest {
+
+	private static final String QUERY = "FOR e IN customer FILTER e.name == @name";
+
+	@Autowired
+	private ArangoOperations template;
+
+	@Autowired
+	private TenantProvider tenantProvider;
+
+	@Before
+	public void setTenant() {
+		tenantProvider.setId("tenant00");
+	}
+
+	private PageCountContext context(final String query, final PageRequest page, final Object name) {
+		final Map<String, Object> bindVars = Collections.singletonMap("name", name);
+		return new PageCountContext(query + " " + AqlUtils.buildLimitClause(page) + " RETURN e", bindVars, template,
+				null, page);
+	}
+
+	@Test
+	public void keyIsSharedByAllPages() {
+		assertThat(context(QUERY, PageRequest.of(0, 10), "John").getKey(),
+			is(context(QUERY, PageRequest.of(3, 10), "John").getKey()));
+		assertThat(context(QUERY, PageRequest.of(0, 10), "John").getKey(),
+			is(context(QUERY, PageRequest.of(1, 20), "John").getKey()));
+	}
+
+	@Test
+	public void keyDependsOnQuery() {
+		assertThat(context(QUERY, PageRequest.of(0, 10), "John").getKey(),
+			is(not(context("FOR e IN customer FILTER e.age == @name", PageRequest.of(0, 10), "John").getKey())));
+	}
+
+	@Test
+	public void keyComparesSerializedBindValues() {
+		assertThat(context(QUERY, PageRequest.of(0, 10), new String[] { "John" }).getKey(),
+			is(context(QUERY, PageRequest.of(0, 10), new String[] { "John" }).getKey()));
+		assertThat(context(QUERY, PageRequest.of(0, 10), "John").getKey(),
+			is(not(context(QUERY, PageRequest.of(0, 10), "Jane").getKey())));
+	}
+
+	@Test
+	public void keyDependsOnDatabase() {
+		final Object key = context(QUERY, PageRequest.of(0, 10), "John").getKey();
+		tenantProvider.setId("tenant01");
+		assertThat(context(QUERY, PageRequest.of(0, 10), "John").getKey(), is(not(key)));
+	}
+
+}
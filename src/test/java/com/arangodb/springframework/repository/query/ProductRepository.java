@@ -1,7 +1,23 @@
 package com.arangodb.springframework.repository.query;
 
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.arangodb.springframework.annotation.Search;
 import com.arangodb.springframework.repository.ArangoRepository;
 import com.arangodb.springframework.testdata.Product;
 
 public interface ProductRepository extends ArangoRepository<Product, String> {
+
+	@Search(waitForSync = true)
+	List<Product> findByDescContaining(String words);
+
+	@Search(waitForSync = true, scored = false)
+	Page<Product> findByNameStartingWithOrderByNameAsc(String prefix, Pageable pageable);
+
+	@Search
+	List<Product> findByNameIgnoreCase(String name);
+
 }
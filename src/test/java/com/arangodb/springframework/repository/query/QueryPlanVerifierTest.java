@@ -0,0 +1,75 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.query;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+import com.arangodb.springframework.repository.AbstractArangoRepositoryTest;
+import com.arangodb.springframework.repository.CustomerRepository;
+import com.arangodb.springframework.repository.query.QueryPlanFinding.Type;
+
+public class QueryPlanVerifierTest extends AbstractArangoRepositoryTest {
+
+	private DerivedArangoQuery derivedQuery(final String name, final Class<?>... parameterTypes)
+			throws NoSuchMethodException {
+		final Method method = CustomerRepository.class.getMethod(name, parameterTypes);
+		final ArangoQueryMethod queryMethod = new ArangoQueryMethod(method,
+				new DefaultRepositoryMetadata(CustomerRepository.class), new SpelAwareProxyProjectionFactory());
+		return new DerivedArangoQuery(queryMethod, template);
+	}
+
+	@Test
+	public void fullScanIsReported() throws NoSuchMethodException {
+		repository.saveAll(customers);
+		final QueryPlanVerifier verifier = new QueryPlanVerifier(template);
+		verifier.onCreation(derivedQuery("findByNameContaining", String.class));
+		assertThat(verifier.getFindings(), hasSize(1));
+		assertThat(verifier.getFindings().get(0).getType(), is(Type.FULL_SCAN));
+		assertThat(verifier.isHealthy(), is(false));
+		assertThat(verifier.getReport().get("status"), is("DOWN"));
+	}
+
+	@Test
+	public void smallCollectionIsIgnored() throws NoSuchMethodException {
+		repository.saveAll(customers);
+		final QueryPlanVerifier verifier = new QueryPlanVerifier(template);
+		verifier.setMinCollectionSize(1000);
+		verifier.onCreation(derivedQuery("findByNameContaining", String.class));
+		assertThat(verifier.isHealthy(), is(true));
+		assertThat(verifier.getReport().get("verified"), is(1));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void failFast() throws NoSuchMethodException {
+		final QueryPlanVerifier verifier = new QueryPlanVerifier(template);
+		verifier.setFailFast(true);
+		verifier.onCreation(derivedQuery("findByNameContaining", String.class));
+	}
+
+}
@@ -1,6 +1,7 @@
 package com.arangodb.springframework.repository.query.derived;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
@@ -19,6 +20,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Range;
 import org.springframework.data.domain.Range.Bound;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.geo.Box;
 import org.springframework.data.geo.Circle;
@@ -39,6 +41,66 @@ import com.arangodb.springframework.repository.query.derived.geo.Ring;
  */
 public class DerivedQueryCreatorTest extends AbstractArangoRepositoryTest {
 
+	@Test
+	public void existsTest() {
+		repository.saveAll(customers);
+		repository.save(new Customer("Jane", "Smith", 30));
+		assertTrue(repository.existsBySurname("Smith"));
+		assertFalse(repository.existsBySurname("Doe"));
+	}
+
+	@Test
+	public void sliceTest() {
+		for (int i = 0; i < 5; i++) {
+			repository.save(new Customer("John", "Doe", i));
+		}
+		final Slice<Customer> first = repository.findBySurnameOrderByAgeAsc("Doe", PageRequest.of(0, 2));
+		assertEquals(2, first.getNumberOfElements());
+		assertEquals(0, first.getContent().get(0).getAge());
+		assertTrue(first.hasNext());
+		final Slice<Customer> last = repository.findBySurnameOrderByAgeAsc("Doe", PageRequest.of(2, 2));
+		assertEquals(1, last.getNumberOfElements());
+		assertEquals(4, last.getContent().get(0).getAge());
+		assertFalse(last.hasNext());
+	}
+
+	@Test
+	public void betweenRangeTest() {
+		for (int i = 17; i <= 21; i++) {
+			repository.save(new Customer("John", "Doe", i));
+		}
+		final List<Customer> retrieved = repository.findByAgeBetweenOrderByAgeAsc(Range.rightOpen(18, 20));
+		assertEquals(2, retrieved.size());
+		assertEquals(18, retrieved.get(0).getAge());
+		assertEquals(19, retrieved.get(1).getAge());
+		assertEquals(2, repository.findByAgeBetweenOrderByAgeAsc(Range.rightUnbounded(Bound.exclusive(19))).size());
+	}
+
+	@Test
+	public void closedProjectionTest() {
+		repository.save(new Customer("John", "Doe", 30));
+		repository.save(new Customer("Jane", "Doe", 20));
+		final List<CustomerSurnameAgeProjection> retrieved = repository.findProjectedBySurnameOrderByAgeAsc("Doe");
+		assertEquals(2, retrieved.size());
+		assertEquals("Doe", retrieved.get(0).getSurname());
+		assertEquals(20, retrieved.get(0).getAge());
+		assertEquals(30, retrieved.get(1).getAge());
+	}
+
+	@Test
+	public void cachedPageCountTest() {
+		for (int i = 0; i < 5; i++) {
+			repository.save(new Customer("John", "Doe", i));
+		}
+		final Page<Customer> page = repository.findBySurnameAndAgeGreaterThanOrderByAgeAsc("Doe", 0,
+			PageRequest.of(0, 2));
+		assertEquals(4, page.getTotalElements());
+		repository.save(new Customer("John", "Doe", 5));
+		// the total is reused until it expires
+		assertEquals(4, repository.findBySurnameAndAgeGreaterThanOrderByAgeAsc("Doe", 0, PageRequest.of(0, 2))
+				.getTotalElements());
+	}
+
 	@Test
 	public void findDistinctTest() {
 		repository.saveAll(customers);
@@ -239,6 +301,34 @@ public class DerivedQueryCreatorTest extends AbstractArangoRepositoryTest {
 		assertTrue(equals(customers, retrieved, cmp, eq, false));
 	}
 
+	@Test
+	public void updateTest() {
+		repository.saveAll(customers);
+		repository.save(new Customer("John", "Doe", 30));
+		final int updated = repository.updateSurnameAndAgeByName("Miller", 50, "John");
+		assertEquals(2, updated);
+		for (final Customer customer : repository.findAll()) {
+			if ("John".equals(customer.getName())) {
+				assertEquals("Miller", customer.getSurname());
+				assertEquals(50, customer.getAge());
+			} else {
+				assertEquals("Thompson", customer.getSurname());
+				assertEquals(40, customer.getAge());
+			}
+		}
+	}
+
+	@Test
+	public void updateAqlTest() {
+		john.setAlive(true);
+		bob.setAlive(true);
+		repository.saveAll(customers);
+		final long updated = repository.markDeadByAgeLessThanAql(30);
+		assertEquals(1L, updated);
+		assertEquals(false, repository.findById(john.getId()).get().isAlive());
+		assertEquals(true, repository.findById(bob.getId()).get().isAlive());
+	}
+
 	@Test
 	public void findNearTest() {
 		john.setLocation(new int[] { 2, 2 });
@@ -974,6 +1064,36 @@ public class DerivedQueryCreatorTest extends AbstractArangoRepositoryTest {
 		assertTrue(result);
 	}
 
+	@Test
+	public void searchContainingTest() {
+		final Product chair = new Product("chair");
+		chair.setDesc("A comfortable wooden chair");
+		final Product table = new Product("table");
+		table.setDesc("A large table made of oak wood");
+		final Product lamp = new Product("lamp");
+		lamp.setDesc("A bright lamp");
+		productRepository.saveAll(Arrays.asList(chair, table, lamp));
+		final List<Product> retrieved = productRepository.findByDescContaining("wooden chair");
+		assertEquals(1, retrieved.size());
+		assertEquals("chair", retrieved.get(0).getName());
+		assertEquals(0, productRepository.findByDescContaining("plastic").size());
+	}
+
+	@Test
+	public void searchStartingWithPagedTest() {
+		productRepository.saveAll(Arrays.asList(new Product("lamp1"), new Product("lamp2"), new Product("lamp3"),
+			new Product("chair")));
+		final Page<Product> page = productRepository.findByNameStartingWithOrderByNameAsc("lamp", PageRequest.of(1, 2));
+		assertEquals(3, page.getTotalElements());
+		assertEquals(1, page.getContent().size());
+		assertEquals("lamp3", page.getContent().get(0).getName());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void searchIgnoreCaseTest() {
+		productRepository.findByNameIgnoreCase("LAMP");
+	}
+
 	@Test
 	@Ignore // https://github.com/arangodb/arangodb/issues/5303
 	public void referenceGeospatialTest() {
@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
@@ -19,7 +20,11 @@ import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.annotation.Relations.Direction;
 import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.query.Criteria;
+import com.arangodb.springframework.core.traversal.GraphTraversal;
+import com.arangodb.springframework.core.traversal.TraversalPath;
 import com.arangodb.springframework.repository.HumanBeingRepository;
 import com.arangodb.springframework.testdata.ChildOf;
 import com.arangodb.springframework.testdata.HumanBeing;
@@ -162,4 +167,50 @@ public class GraphTraversalWithVariousDepthsAndDirectionsTest extends AbstractAr
 			}
 		});
 	}
+
+	@Test
+	public void testTraversalWithPrune() {
+		findByExample(dudette).ifPresent(dudetteStark -> {
+			final Collection<HumanBeing> ancestors = humanBeingRepo
+					.getAncestorsUntil("humanBeing/" + dudetteStark.getId(), false);
+			assertEquals(5, ancestors.size());
+			for (final HumanBeing human : ancestors) {
+				assertThat(human, anyOf(Matchers.is(dude), Matchers.is(robb), Matchers.is(emily), Matchers.is(jon),
+					Matchers.is(jaimie)));
+			}
+		});
+	}
+
+	@Test
+	public void testShortestPath() {
+		findByExample(dudette).ifPresent(dudetteStark -> {
+			findByExample(ned).ifPresent(nedStark -> {
+				final List<HumanBeing> lineage = humanBeingRepo.getLineage("humanBeing/" + dudetteStark.getId(),
+					"humanBeing/" + nedStark.getId());
+				assertThat(lineage, Matchers.contains(dudette, dude, robb, ned));
+
+				final List<TraversalPath<HumanBeing, ChildOf>> paths = template
+						.traversePaths(GraphTraversal
+								.shortestPath("humanBeing/" + dudetteStark.getId(), "humanBeing/" + nedStark.getId())
+								.edges(ChildOf.class).direction(Direction.OUTBOUND), HumanBeing.class, ChildOf.class)
+						.collect(Collectors.toList());
+				assertEquals(1, paths.size());
+				assertEquals(3, paths.get(0).getLength());
+				assertThat(paths.get(0).getVertices(), Matchers.contains(dudette, dude, robb, ned));
+			});
+		});
+	}
+
+	@Test
+	public void testTraversalWithCriteria() {
+		findByExample(dudette).ifPresent(dudetteStark -> {
+			final List<HumanBeing> snows = template.traverse(GraphTraversal.from("humanBeing/" + dudetteStark.getId())
+					.edges(ChildOf.class).direction(Direction.OUTBOUND).depth(1, 3)
+					.filterVertices(Criteria.where("surname").is("Snow")), HumanBeing.class).asListRemaining();
+			assertEquals(2, snows.size());
+			for (final HumanBeing human : snows) {
+				assertThat(human, anyOf(Matchers.is(emily), Matchers.is(jon)));
+			}
+		});
+	}
 }
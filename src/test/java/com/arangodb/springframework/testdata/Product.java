@@ -30,6 +30,7 @@ import lombok.EqualsAndHashCode;
  *
  */
 @GeoIndex(fields = { "location" })
+@SearchView("test-product-view")
 @Document("test-product")
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Product {
@@ -39,8 +40,10 @@ public class Product {
 	private String id;
 	@Rev
 	private String rev;
+	@SearchField
 	private String name;
 	@Field("description")
+	@SearchField(analyzers = "text_en")
 	private String desc;
 	private double[] location;
 
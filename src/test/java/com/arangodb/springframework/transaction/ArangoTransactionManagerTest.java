@@ -0,0 +1,113 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2017 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.transaction;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.core.template.CursorOptions;
+import com.arangodb.springframework.testdata.Customer;
+import com.arangodb.springframework.testdata.ShoppingCart;
+import com.arangodb.util.MapBuilder;
+
+public class ArangoTransactionManagerTest extends AbstractArangoTest {
+
+	public ArangoTransactionManagerTest() {
+		super(Customer.class, ShoppingCart.class);
+	}
+
+	private TransactionTemplate transactionTemplate() {
+		final DefaultTransactionAttribute definition = new DefaultTransactionAttribute();
+		definition.setLabels(Collections.singleton(ArangoTransactionManager.WRITE_LABEL + "test-customer"));
+		return new TransactionTemplate(new ArangoTransactionManager(template), definition);
+	}
+
+	@Test
+	public void commit() {
+		transactionTemplate().executeWithoutResult(status -> {
+			final Customer customer = new Customer("John", "Doe", 30);
+			template.insert(customer);
+			template.update(customer.getId(), new Customer("John", "Doe", 31));
+			assertThat(template.find(customer.getId(), Customer.class).get().getAge(), is(31));
+		});
+		assertThat(template.collection(Customer.class).count(), is(1L));
+	}
+
+	@Test
+	public void rollback() {
+		transactionTemplate().executeWithoutResult(status -> {
+			template.insert(new Customer("John", "Doe", 30));
+			assertThat(template.query("FOR c IN @@col RETURN c", new MapBuilder().put("@col", Customer.class).get(),
+				Customer.class).asListRemaining().size(), is(1));
+			status.setRollbackOnly();
+		});
+		assertThat(template.collection(Customer.class).count(), is(0L));
+	}
+
+	@Test
+	public void parallelDecodingJoinsTransaction() {
+		final DefaultTransactionAttribute definition = new DefaultTransactionAttribute();
+		definition.setLabels(Arrays.asList(ArangoTransactionManager.WRITE_LABEL + "test-customer",
+			ArangoTransactionManager.WRITE_LABEL + "shopping-cart"));
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			new TransactionTemplate(new ArangoTransactionManager(template), definition).executeWithoutResult(status -> {
+				final ShoppingCart shoppingCart = new ShoppingCart();
+				template.insert(shoppingCart);
+				final Customer customer = new Customer("John", "Doe", 30);
+				customer.setShoppingCart(shoppingCart);
+				template.insert(customer);
+				// the reference is resolved by the executor, reading the uncommitted cart within the transaction
+				final List<Customer> customers = template.query("FOR c IN @@col RETURN c",
+					new MapBuilder().put("@col", Customer.class).get(), new AqlQueryOptions(), Customer.class,
+					CursorOptions.defaults().decodeInParallel(executor)).asListRemaining();
+				assertThat(customers.get(0).getShoppingCart().getId(), is(shoppingCart.getId()));
+			});
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void rollbackOnException() {
+		try {
+			transactionTemplate().executeWithoutResult(status -> {
+				template.insert(new Customer("John", "Doe", 30));
+				throw new IllegalStateException();
+			});
+		} catch (final IllegalStateException e) {
+		}
+		assertThat(template.collection(Customer.class).count(), is(0L));
+	}
+
+}